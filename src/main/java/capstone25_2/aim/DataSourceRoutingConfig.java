@@ -0,0 +1,80 @@
+package capstone25_2.aim;
+
+import capstone25_2.aim.repository.ReadYourWritesWindow;
+import capstone25_2.aim.repository.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * replica 설정 시 읽기 전용 트랜잭션을 replica 풀로 보내는 DataSource 구성
+ *
+ * aim.datasource.replica.url이 없으면 등록되지 않음 (기본 단일 DataSource 자동 구성 사용)
+ * - primary: spring.datasource.* (+ spring.datasource.hikari.*)
+ * - replica: aim.datasource.replica.url/username/password (+ aim.datasource.replica.hikari.*),
+ *   계정을 생략하면 primary 계정 사용
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "aim.datasource.replica", name = "url")
+public class DataSourceRoutingConfig {
+
+    @Value("${aim.datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${aim.datasource.replica.username:}")
+    private String replicaUsername;
+
+    @Value("${aim.datasource.replica.password:}")
+    private String replicaPassword;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, ReadYourWritesWindow readYourWritesWindow,
+                                 Environment environment) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("aim-primary");
+
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replicaUrl)
+                .username(replicaUsername.isEmpty() ? properties.determineUsername() : replicaUsername)
+                .password(replicaUsername.isEmpty() ? properties.determinePassword() : replicaPassword)
+                .build();
+        binder.bind("aim.datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("aim-replica");
+        replica.setReadOnly(true);
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, readYourWritesWindow);
+        System.out.println("🔀 읽기 전용 트랜잭션 replica 라우팅 활성화: " + replicaUrl);
+
+        // 첫 쿼리 시점에 라우팅 (트랜잭션 readOnly 여부가 동기화된 후 커넥션 선택)
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+}
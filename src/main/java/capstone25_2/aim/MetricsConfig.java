@@ -0,0 +1,23 @@
+package capstone25_2.aim;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Micrometer 설정
+ *
+ * - 컨트롤러: http.server.requests (Spring MVC 기본 계측, 엔드포인트별 히스토그램)
+ * - 서비스: 클래스에 선언한 @Timed("aim.service")로 모든 public 메서드 실행 시간 기록 (class, method 태그)
+ * - /actuator/prometheus 로 Prometheus 형식 노출
+ */
+@Configuration
+public class MetricsConfig {
+
+    // @Timed 처리 (클래스 단위 선언 포함)
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,70 @@
+package capstone25_2.aim;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회 결과 캐시 설정 (Caffeine)
+ *
+ * - 서비스 조회 메서드에 @Cacheable(key = "{#stockId, @dataVersion.current()}")로 선언
+ *   → (캐시 이름 = 엔드포인트, 파라미터, 데이터 버전)이 키가 되고, 쓰기 후 버전이 오르면 새 키로 다시 계산
+ * - 항목 크기는 목록 원소 수로 어림 (종가 추이처럼 긴 목록과 단건 DTO를 같은 1건으로 세지 않도록)
+ *   → 넣을 때 직렬화하지 않고 size()만 보므로 비용이 거의 없음
+ * - 전체 캐시의 원소 수 합이 max-elements를 넘지 않도록 캐시 수로 나눈 몫을 캐시별 상한으로 사용
+ *   (상한을 넘으면 해당 캐시에서 오래 쓰이지 않은 항목부터 제거)
+ * - "최근 1년" 등 오늘 날짜 기준 계산이 있으므로 쓰기가 없어도 expire-after-write-ms 후에는 다시 계산
+ * - 캐시 advice를 트랜잭션보다 바깥에 두어 적중 시 트랜잭션/커넥션을 열지 않음
+ *   (@SingleFlight가 가장 바깥이고 그 다음 순서 → 직전 결과를 돌려준 호출은 캐시에 저장되지 않음)
+ * - 캐시별 적중률은 actuator가 cache.gets 등으로 자동 노출 (/actuator/metrics/cache.gets?tag=cache:stockRanking)
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE + 1)
+public class ResponseCacheConfig {
+
+    // 이름을 고정해 오타로 인한 캐시 자동 생성 방지
+    private static final List<String> CACHE_NAMES = List.of(
+            "stockRanking", "stockClosePrices", "stockDailyTargetPrices", "stockTargetPriceStats",
+            "stockCoveringAnalysts", "stockConsensus",
+            "sectors", "sectorDetails",
+            "analystMetrics", "analystCoveredStocks", "analystReports", "analystRanking");
+
+    @Value("${aim.response-cache.max-elements:240000}")
+    private long maxElements;
+
+    @Value("${aim.response-cache.expire-after-write-ms:600000}")
+    private long expireAfterWriteMs;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumWeight(Math.max(1, maxElements / CACHE_NAMES.size()))
+                .weigher((Object key, Object value) -> weigh(value))
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+                .recordStats());
+        cacheManager.setCacheNames(CACHE_NAMES);
+        return cacheManager;
+    }
+
+    // 목록/맵은 원소 수, 단건 DTO는 1
+    private static int weigh(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return Math.max(1, map.size());
+        }
+        return 1;
+    }
+}
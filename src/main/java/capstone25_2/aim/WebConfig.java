@@ -1,12 +1,28 @@
 package capstone25_2.aim;
 
+import capstone25_2.aim.controller.ConditionalGetInterceptor;
+import capstone25_2.aim.controller.SqlTimingInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final SqlTimingInterceptor sqlTimingInterceptor;
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+
+    // 요청별 SQL 횟수/DB 시간 측정 (Server-Timing 헤더, 엔드포인트별 히스토그램, @QueryBudget 검사)
+    // 데이터 버전 ETag 조건부 GET (@ConditionalGet) - 304 응답도 SQL 0회로 히스토그램에 기록되도록 측정 다음에 등록
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sqlTimingInterceptor);
+        registry.addInterceptor(conditionalGetInterceptor);
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -19,6 +35,7 @@ public class WebConfig implements WebMvcConfigurer {
                 )
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("Server-Timing", "ETag")
                 .allowCredentials(true)
                 .maxAge(3600);
     }
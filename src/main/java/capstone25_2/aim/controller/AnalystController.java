@@ -24,6 +24,8 @@ public class AnalystController {
     @Operation(
             summary = "애널리스트 상세 페이지"
     )
+    @ConditionalGet(ConditionalGet.Scope.ANALYST)
+    @QueryBudget(8)  // 애널리스트+지표 2 + 지표/순위 3 + 역방향 지표 1 + 커버 종목 1 + 리포트 1
     public AnalystResponseDTO getAnalystById(@PathVariable Long analystId) {
         Analyst analyst = analystService.getAnalystById(analystId)
                 .orElseThrow(() -> new RuntimeException("Analyst not found"));
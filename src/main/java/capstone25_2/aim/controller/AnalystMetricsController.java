@@ -27,6 +27,8 @@ public class AnalystMetricsController {
     @Operation(
             summary = "애널리스트 랭킹 페이지"
     )
+    @ConditionalGet
+    @QueryBudget(1)  // 지표 + 애널리스트 fetch join
     public AnalystRankingResponseDTO getAllMetrics(
             @RequestParam(defaultValue = "aimsScore") String sortBy) {
         return metricsService.getRankedAnalysts(sortBy);
@@ -0,0 +1,28 @@
+package capstone25_2.aim.controller;
+
+import capstone25_2.aim.domain.dto.cache.CacheStatsDTO;
+import capstone25_2.aim.service.CacheStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "캐시 상태 API")
+public class CacheController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    // 2차 캐시 적중/미스 통계 조회
+    @GetMapping("/stats")
+    @Operation(summary = "2차 캐시 통계 조회",
+            description = "종목/애널리스트 엔티티 캐시와 자연 키(종목코드, 이름+증권사) 캐시의 적중/미스/저장 수를 영역별로 조회합니다. " +
+                    "애플리케이션 시작 이후 누적값입니다.")
+    public CacheStatsDTO getCacheStats() {
+        return cacheStatisticsService.getCacheStats();
+    }
+}
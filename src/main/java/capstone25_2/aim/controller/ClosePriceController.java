@@ -0,0 +1,79 @@
+package capstone25_2.aim.controller;
+
+import capstone25_2.aim.domain.dto.stock.ClosePriceImportSummaryDTO;
+import capstone25_2.aim.service.ClosePriceImportService;
+import com.opencsv.exceptions.CsvValidationException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/close-prices")
+@RequiredArgsConstructor
+@Tag(name = "ClosePrice", description = "종가 적재 API")
+public class ClosePriceController {
+
+    private final ClosePriceImportService closePriceImportService;
+
+    // CSV 파일 업로드로 종가 적재 (같은 종목 + 거래일이면 갱신)
+    @PostMapping(value = "/upload-csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+            summary = "CSV 파일로 종가 적재",
+            description = "CSV 컬럼 순서: stockCode, tradeDate(yyyy-MM-dd), closePrice. 첫 행은 헤더로 스킵합니다. " +
+                    "같은 종목 + 거래일 종가가 이미 있으면 갱신합니다. " +
+                    "응답으로 종목별 영향받은 거래일 범위를 반환합니다."
+    )
+    public ResponseEntity<?> uploadCsv(
+            @Parameter(description = "CSV 파일") @RequestParam("file") MultipartFile file) {
+
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body("파일이 비어있습니다.");
+        }
+
+        try {
+            ClosePriceImportSummaryDTO summary = closePriceImportService.importCsv(file.getInputStream());
+            return ResponseEntity.status(HttpStatus.CREATED).body(summary);
+        } catch (IOException | CsvValidationException e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("CSV 파일 파싱 오류: " + e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("=== 종가 저장 오류 발생 ===");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("데이터 저장 오류: " + e.getMessage());
+        }
+    }
+
+    // NDJSON 스트림으로 종가 적재 (요청 본문을 읽는 대로 처리)
+    @PostMapping(value = "/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "NDJSON 스트림으로 종가 적재",
+            description = "한 줄에 {\"stock_code\": \"005930\", \"trade_date\": \"2024-01-02\", \"close_price\": 71000} 형식. " +
+                    "요청 본문 전체를 메모리에 올리지 않고 청크 단위로 커밋합니다."
+    )
+    public ResponseEntity<?> stream(HttpServletRequest request) {
+        try {
+            ClosePriceImportSummaryDTO summary = closePriceImportService.importNdjson(request.getInputStream());
+            return ResponseEntity.status(HttpStatus.CREATED).body(summary);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("NDJSON 파싱 오류: " + e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("=== 종가 저장 오류 발생 ===");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("데이터 저장 오류: " + e.getMessage());
+        }
+    }
+}
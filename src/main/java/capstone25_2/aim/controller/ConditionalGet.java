@@ -0,0 +1,31 @@
+package capstone25_2.aim.controller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 데이터 버전으로 ETag를 만들어 조건부 GET을 지원하는 엔드포인트 (ConditionalGetInterceptor)
+ *
+ * - 응답이 DataVersion의 해당 범위 버전과 오늘 날짜로만 결정되는 조회에만 선언
+ *   (메모리 검색 카운터를 쓰는 /home 처럼 버전 밖의 값이 섞이면 선언하지 않음)
+ * - If-None-Match가 현재 ETag와 같으면 컨트롤러를 실행하지 않고 304 응답 (DB 조회 없음)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConditionalGet {
+
+    Scope value() default Scope.GLOBAL;
+
+    enum Scope {
+        // 전체 데이터 버전 (랭킹/섹터 목록 등)
+        GLOBAL,
+        // {stockId} 종목 버전 + 파생 버전
+        STOCK,
+        // {analystId} 애널리스트 버전 + 파생 버전
+        ANALYST
+    }
+}
@@ -0,0 +1,120 @@
+package capstone25_2.aim.controller;
+
+import capstone25_2.aim.service.DataVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 데이터 버전 기반 ETag / 조건부 GET (@ConditionalGet)
+ *
+ * - ETag = 기동 시각 + 오늘 날짜 + 범위별 데이터 버전 ("최근 1년" 등 날짜 기준 계산이 있으므로 날짜가 바뀌면 새 ETag)
+ * - 컨트롤러 실행 전에 ETag를 계산하므로 DB 조회 없이 304 응답
+ * - 본문 계산보다 먼저 버전을 읽기 때문에, 계산 도중 적재가 커밋되어도 새 데이터에 이전 ETag가 붙을 뿐
+ *   (다음 요청에서 새 ETag로 다시 받음) 오래된 본문이 새 ETag로 캐시되지는 않음
+ * - Cache-Control: no-cache → 브라우저는 본문을 저장하되 매번 If-None-Match로 재검증
+ * - 200 응답의 ETag는 본문을 쓰기 직전 ConditionalGetResponseAdvice가 기록
+ *   (@SingleFlight가 직전 결과를 돌려준 응답에는 붙이지 않기 위해)
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    static final String ETAG_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".ETAG";
+    static final String CACHE_CONTROL_VALUE = CacheControl.noCache().getHeaderValue();
+
+    private final DataVersion dataVersion;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !isGetOrHead(request)) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+
+        String etag = currentETag(conditionalGet.value(), request);
+        if (etag == null) {
+            return true;
+        }
+
+        // If-None-Match가 일치하면 304 상태와 ETag를 기록하고 컨트롤러 실행 중단
+        if (matchesIfNoneMatch(request, etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL_VALUE);
+            return false;
+        }
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        return true;
+    }
+
+    /**
+     * 범위별 현재 ETag (따옴표로 감싼 강한 ETag, 경로 변수가 숫자가 아니면 null → 조건부 처리 없이 컨트롤러로 위임)
+     */
+    String currentETag(ConditionalGet.Scope scope, HttpServletRequest request) {
+        String prefix = Long.toString(dataVersion.epoch(), 36) + "-" + LocalDate.now();
+
+        String value = switch (scope) {
+            case GLOBAL -> prefix + "-g" + dataVersion.current();
+            case STOCK -> {
+                Long stockId = pathVariable(request, "stockId");
+                yield stockId == null ? null
+                        : prefix + "-s" + stockId + "." + dataVersion.stock(stockId) + "-d" + dataVersion.derived();
+            }
+            case ANALYST -> {
+                Long analystId = pathVariable(request, "analystId");
+                yield analystId == null ? null
+                        : prefix + "-a" + analystId + "." + dataVersion.analyst(analystId) + "-d" + dataVersion.derived();
+            }
+        };
+        return value == null ? null : "\"" + value + "\"";
+    }
+
+    // If-None-Match는 약한 비교 (W/ 접두사 무시), 여러 값/헤더와 * 허용
+    private static boolean matchesIfNoneMatch(HttpServletRequest request, String etag) {
+        for (String header : Collections.list(request.getHeaders(HttpHeaders.IF_NONE_MATCH))) {
+            for (String candidate : header.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long pathVariable(HttpServletRequest request, String name) {
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || variables.get(name) == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(variables.get(name));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean isGetOrHead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+}
@@ -0,0 +1,50 @@
+package capstone25_2.aim.controller;
+
+import capstone25_2.aim.service.SingleFlightAspect;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 본문을 쓰기 직전(응답 커밋 전)에 ConditionalGetInterceptor가 계산해 둔 ETag 기록
+ *
+ * - 정상(200) 응답에만 기록
+ * - @SingleFlight가 재계산 중 직전 결과를 돌려준 응답은 ETag 없이 내보냄
+ *   (요청 시작 시점의 새 버전 ETag가 이전 데이터에 붙으면 이후 304로 계속 이전 데이터를 보게 됨)
+ */
+@ControllerAdvice
+public class ConditionalGetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(ConditionalGet.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        Object etag = httpRequest.getAttribute(ConditionalGetInterceptor.ETAG_ATTRIBUTE);
+        boolean stale = httpRequest.getAttribute(SingleFlightAspect.STALE_RESPONSE_ATTRIBUTE) != null;
+
+        if (etag != null && !stale && servletResponse.getServletResponse().getStatus() == HttpServletResponse.SC_OK) {
+            response.getHeaders().set(HttpHeaders.ETAG, (String) etag);
+            response.getHeaders().set(HttpHeaders.CACHE_CONTROL, ConditionalGetInterceptor.CACHE_CONTROL_VALUE);
+        }
+        return body;
+    }
+}
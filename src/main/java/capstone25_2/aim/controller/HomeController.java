@@ -24,6 +24,7 @@ public class HomeController {
      */
     @GetMapping
     @Operation(summary = "홈 화면 데이터 (TOP3 애널리스트, 종목, 섹터, 트렌딩)")
+    @QueryBudget(7)  // 애널리스트 TOP3 1 + 종목 랭킹 3 + 섹터 2 + 트렌딩 애널리스트 1
     public HomeResponseDTO getHomeData() {
         return homeService.getHomeData();
     }
@@ -0,0 +1,22 @@
+package capstone25_2.aim.controller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔드포인트 한 번 호출에 허용하는 SQL 실행 횟수
+ *
+ * - 데이터 양과 무관한 상수여야 함 (루프 안 지연 로딩/조회가 생기면 데이터가 늘수록 초과)
+ * - 운영에서는 초과 시 로그와 aim.http.sql.budget.exceeded 카운터로 알리고,
+ *   테스트에서는 QueryBudgetMatchers.withinDeclaredBudget()으로 실패시킴
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    int value();
+}
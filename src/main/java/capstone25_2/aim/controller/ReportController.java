@@ -1,18 +1,19 @@
 package capstone25_2.aim.controller;
 
 import capstone25_2.aim.domain.dto.report.ReportDetailDTO;
+import capstone25_2.aim.domain.dto.report.ReportIngestSummaryDTO;
 import capstone25_2.aim.domain.dto.report.ReportRequestDTO;
 import capstone25_2.aim.domain.dto.report.ReportResponseDTO;
 import capstone25_2.aim.domain.dto.report.TargetPriceTrendResponseDTO;
 import capstone25_2.aim.domain.dto.stock.StockConsensusDTO;
 import capstone25_2.aim.domain.entity.Report;
-import capstone25_2.aim.domain.entity.SurfaceOpinion;
+import capstone25_2.aim.service.ReportIngestService;
 import capstone25_2.aim.service.ReportService;
-import com.opencsv.CSVReader;
-import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvValidationException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -21,10 +22,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +33,7 @@ import java.util.Map;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportIngestService reportIngestService;
 
 //    // 특정 애널리스트의 최신 5년 리포트 리스트 조회
 //    @GetMapping("/analyst/{analystId}")
@@ -111,7 +109,9 @@ public class ReportController {
             summary = "CSV 파일로 리포트 배치 저장",
             description = "CSV 파일을 업로드하여 여러 개의 리포트를 한번에 저장합니다. " +
                     "CSV 컬럼 순서: analystName, firmName, hiddenOpinion, reportDate, reportTitle, stockCode, surfaceOpinion, targetPrice. " +
-                    "예외 처리: 컬럼이 하나라도 비어있거나, analystName이 4글자 이상이면 해당 행은 스킵됩니다."
+                    "예외 처리: 컬럼이 하나라도 비어있거나, analystName이 4글자 이상이면 해당 행은 스킵됩니다. " +
+                    "대용량 파일은 청크 단위로 나누어 커밋하며, 응답으로 적재 건수 요약을 반환합니다. " +
+                    "실패 후 같은 파일을 다시 올리면 이미 커밋된 청크는 건너뛰고 실패한 청크부터 이어서 적재합니다."
     )
     public ResponseEntity<?> uploadCsvReports(
             @Parameter(description = "CSV 파일") @RequestParam("file") MultipartFile file) {
@@ -126,19 +126,15 @@ public class ReportController {
         }
 
         try {
-            List<ReportRequestDTO> requestDTOList = parseCsvToReportRequestDTOList(file);
+            // 한 행씩 읽어 청크 단위로 커밋 (파일 전체를 메모리에 올리지 않음, 파일 해시로 재업로드 시 이어서 적재)
+            ReportIngestSummaryDTO summary = reportIngestService.ingestCsv(file);
 
-            if (requestDTOList.isEmpty()) {
+            if (summary.getParsedRows() == 0) {
                 return ResponseEntity.badRequest().body("CSV 파일에 데이터가 없습니다.");
             }
 
-            List<Report> savedReports = reportService.saveReportsFromAIBatch(requestDTOList);
-            List<ReportDetailDTO> responseDTOList = savedReports.stream()
-                    .map(ReportDetailDTO::fromEntity)
-                    .collect(java.util.stream.Collectors.toList());
-
-            return ResponseEntity.status(HttpStatus.CREATED).body(responseDTOList);
-        } catch (IOException | CsvException e) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(summary);
+        } catch (IOException | CsvValidationException e) {
             e.printStackTrace();  // 콘솔에 스택 트레이스 출력
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body("CSV 파일 파싱 오류: " + e.getMessage());
@@ -150,13 +146,38 @@ public class ReportController {
         }
     }
 
-    // prevReport 일괄 설정 (데이터 업로드 후 실행)
+    // AI 모델 NDJSON 스트림으로 리포트 저장
+    @PostMapping(value = "/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "NDJSON 스트림으로 리포트 저장",
+            description = "한 줄에 ReportRequestDTO 하나씩 (예: {\"analyst\": {\"analyst_name\": ..., \"firm_name\": ...}, " +
+                    "\"report\": {\"stock_code\": ..., \"report_date\": \"2024-01-02\", ...}}) 보내면 도착하는 대로 처리합니다. " +
+                    "청크 단위로 커밋하며, 본문 전체를 서버에 버퍼링하지 않습니다. " +
+                    "CSV 업로드와 같은 스킵 규칙을 적용하고 신규/중복/종목 없음 건수를 요약해서 반환합니다."
+    )
+    public ResponseEntity<?> streamReports(HttpServletRequest request) {
+        try {
+            ReportIngestSummaryDTO summary = reportIngestService.ingestNdjson(request.getInputStream());
+            return ResponseEntity.status(HttpStatus.CREATED).body(summary);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("NDJSON 파싱 오류: " + e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("=== 데이터 저장 오류 발생 ===");
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("데이터 저장 오류: " + e.getMessage());
+        }
+    }
+
+    // prevReport 일괄 설정 (기존 데이터 보정용 - 업로드 시에는 자동 연결)
     @PostMapping("/update-prev-reports")
     @Operation(
             summary = "모든 리포트의 prevReport 일괄 설정",
             description = "DB에 저장된 모든 리포트의 prevReport를 일괄 설정합니다. " +
                     "같은 애널리스트 + 같은 종목의 직전 리포트를 찾아서 FK 매핑합니다. " +
-                    "대량 데이터 업로드 후 실행해야 합니다."
+                    "업로드 시 영향받은 리포트는 자동으로 연결되므로, 기존 데이터 보정이 필요할 때만 실행합니다."
     )
     public ResponseEntity<Map<String, Object>> updateAllPrevReports() {
         try {
@@ -180,7 +201,8 @@ public class ReportController {
     @Operation(
             summary = "모든 애널리스트 지표 일괄 계산",
             description = "DB에 저장된 모든 애널리스트의 정확도 지표를 일괄 계산합니다. " +
-                    "대량 데이터 업로드 후 실행해야 합니다. " +
+                    "업로드된 리포트/종가에 영향받은 애널리스트는 커밋 후 자동으로 재계산되므로, " +
+                    "전체 초기화가 필요할 때만 실행합니다. " +
                     "애널리스트가 많을 경우 시간이 오래 걸릴 수 있습니다."
     )
     public ResponseEntity<Map<String, Object>> calculateAllAnalystMetrics() {
@@ -199,118 +221,4 @@ public class ReportController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         }
     }
-
-    /**
-     * CSV 파일을 파싱하여 ReportRequestDTO 리스트로 변환
-     * CSV 컬럼 순서: analystName, firmName, hiddenOpinion, reportDate, reportTitle, stockCode, surfaceOpinion, targetPrice
-     *
-     * 예외 처리:
-     * - 컬럼이 하나라도 비어있으면 스킵
-     * - analystName이 4글자 이상이면 스킵
-     */
-    private List<ReportRequestDTO> parseCsvToReportRequestDTOList(MultipartFile file)
-            throws IOException, CsvException {
-
-        List<ReportRequestDTO> result = new ArrayList<>();
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-        // 통계 카운터
-        int totalRows = 0;
-        int columnCountError = 0;
-        int emptyColumnError = 0;
-        int analystNameTooLongError = 0;
-        int parseError = 0;
-        int successCount = 0;
-
-        try (CSVReader reader = new CSVReader(new InputStreamReader(file.getInputStream()))) {
-            List<String[]> rows = reader.readAll();
-            totalRows = rows.size() - 1; // 헤더 제외
-
-            System.out.println("📄 CSV 파일 읽기 시작: 총 " + totalRows + "개 행");
-
-            // 첫 번째 행은 헤더로 스킵
-            for (int i = 1; i < rows.size(); i++) {
-                String[] row = rows.get(i);
-
-                // 컬럼 수가 8개가 아니면 스킵
-                if (row.length < 8) {
-                    columnCountError++;
-                    continue;
-                }
-
-                try {
-                    // 각 컬럼 값 추출 및 trim
-                    String analystName = row[0].trim();
-                    String firmName = row[1].trim();
-                    String hiddenOpinionStr = row[2].trim();
-                    String reportDateStr = row[3].trim();
-                    String reportTitle = row[4].trim();
-                    String stockCode = row[5].trim();
-                    String surfaceOpinionStr = row[6].trim();
-                    String targetPriceStr = row[7].trim();
-
-                    // stockCode를 6자리로 패딩 (DB에는 007393 형식으로 저장됨)
-                    if (stockCode.matches("\\d+")) {  // 숫자로만 이루어진 경우
-                        stockCode = String.format("%06d", Integer.parseInt(stockCode));
-                    }
-
-                    // 컬럼이 하나라도 비어있으면 스킵
-                    if (analystName.isEmpty() || firmName.isEmpty() || hiddenOpinionStr.isEmpty() ||
-                            reportDateStr.isEmpty() || reportTitle.isEmpty() || stockCode.isEmpty() ||
-                            surfaceOpinionStr.isEmpty() || targetPriceStr.isEmpty()) {
-                        emptyColumnError++;
-                        continue;
-                    }
-
-                    // analystName이 4글자 이상이면 스킵
-                    if (analystName.length() >= 4) {
-                        analystNameTooLongError++;
-                        continue;
-                    }
-
-                    // AnalystInfo 생성
-                    ReportRequestDTO.AnalystInfo analystInfo = ReportRequestDTO.AnalystInfo.builder()
-                            .analystName(analystName)
-                            .firmName(firmName)
-                            .build();
-
-                    // ReportInfo 생성
-                    ReportRequestDTO.ReportInfo reportInfo = ReportRequestDTO.ReportInfo.builder()
-                            .stockCode(stockCode)
-                            .reportTitle(reportTitle)
-                            .reportDate(LocalDate.parse(reportDateStr, dateFormatter))
-                            .targetPrice(Integer.parseInt(targetPriceStr))
-                            .surfaceOpinion(SurfaceOpinion.valueOf(surfaceOpinionStr.toUpperCase()))
-                            .hiddenOpinion(Double.parseDouble(hiddenOpinionStr))
-                            .build();
-
-                    // ReportRequestDTO 생성
-                    ReportRequestDTO requestDTO = ReportRequestDTO.builder()
-                            .analyst(analystInfo)
-                            .report(reportInfo)
-                            .build();
-
-                    result.add(requestDTO);
-                    successCount++;
-                } catch (Exception e) {
-                    // 파싱 오류 발생 시 해당 행 스킵 (예: 날짜 형식 오류, 숫자 변환 오류 등)
-                    parseError++;
-                    System.err.println("⚠️ 파싱 오류 (행 " + (i + 1) + "): " + e.getMessage());
-                    continue;
-                }
-            }
-        }
-
-        // 통계 출력
-        System.out.println("\n📊 CSV 파싱 결과:");
-        System.out.println("  - 총 행 수: " + totalRows);
-        System.out.println("  - 성공: " + successCount + "개");
-        System.out.println("  - 컬럼 수 부족: " + columnCountError + "개");
-        System.out.println("  - 빈 컬럼: " + emptyColumnError + "개");
-        System.out.println("  - 애널리스트명 4글자 이상: " + analystNameTooLongError + "개");
-        System.out.println("  - 파싱 오류: " + parseError + "개");
-        System.out.println("  - 스킵된 총 개수: " + (totalRows - successCount) + "개\n");
-
-        return result;
-    }
 }
@@ -20,11 +20,25 @@ public class SearchController {
     @GetMapping
     @Operation(summary = "통합 검색 (애널리스트 + 종목)",
             description = "애널리스트(이름) 및 종목(종목명, 종목코드)을 검색하면 드롭다운으로 매칭되는 리스트 보여줌. " +
-                    "애널리스트는 이름으로만 검색, 종목은 종목명 또는 종목코드로 검색." )
+                    "애널리스트는 이름 또는 증권사명으로 검색, 종목은 종목명 또는 종목코드로 검색." )
     public UnifiedSearchResultDTO unifiedSearch(@RequestParam String keyword) {
         return searchService.unifiedSearch(keyword);
     }
 
+    /**
+     * 자동완성 검색
+     * 키 입력마다 호출 - 로그 저장 X
+     */
+    @GetMapping("/typeahead")
+    @Operation(summary = "자동완성 검색 (애널리스트 이름 + 종목명)",
+            description = "초성(예: ㅅㅅ → 삼성) 및 입력 중인 글자(예: 삼서 → 삼성)까지 매칭. " +
+                    "완전 일치 > 접두사 일치 > 부분 일치 순, 같은 순위는 인기도(애널리스트: 최근 7일 검색 수, 종목: 리포트 수)순. " +
+                    "limit은 최대 50.")
+    public UnifiedSearchResultDTO typeahead(@RequestParam String keyword,
+                                            @RequestParam(defaultValue = "10") int limit) {
+        return searchService.typeahead(keyword, limit);
+    }
+
     /**
      * 애널리스트 검색 로그 저장
      * 사용자가 드롭다운에서 특정 애널리스트를 클릭했을 때 호출
@@ -26,6 +26,8 @@ public class SectorController {
     @Operation(
             summary = "섹터 랭킹 페이지"
     )
+    @ConditionalGet
+    @QueryBudget(2)  // 종목 + 리포트 projection
     public List<SectorListDTO> getAllSectors() {
         return sectorService.getAllSectors();
     }
@@ -40,6 +42,8 @@ public class SectorController {
     @Operation(
             summary = "섹터 상세 페이지"
     )
+    @ConditionalGet
+    @QueryBudget(3)  // 섹터 종목 + 리포트 projection + 종가
     public SectorResponseDTO getSectorDetails(@PathVariable String sectorName) {
         return sectorService.getSectorDetails(sectorName);
     }
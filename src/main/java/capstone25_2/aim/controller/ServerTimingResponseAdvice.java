@@ -0,0 +1,38 @@
+package capstone25_2.aim.controller;
+
+import capstone25_2.aim.repository.SqlStatementCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 본문을 쓰기 직전(응답 커밋 전)에 Server-Timing 헤더 기록
+ * (open-in-view가 꺼져 있어 직렬화 중에는 SQL이 실행되지 않으므로 이 시점의 집계가 최종값)
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final SqlStatementCounter sqlStatementCounter;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatementCounter.Tally tally = sqlStatementCounter.current();
+        if (tally != null) {
+            response.getHeaders().set(SqlTimingInterceptor.SERVER_TIMING_HEADER, tally.toServerTiming());
+        }
+        return body;
+    }
+}
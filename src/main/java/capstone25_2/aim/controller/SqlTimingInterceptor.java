@@ -0,0 +1,100 @@
+package capstone25_2.aim.controller;
+
+import capstone25_2.aim.repository.SqlStatementCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 실행 횟수/시간 측정
+ *
+ * - Server-Timing 헤더로 SQL 횟수와 DB 시간을 응답 (본문이 있는 응답은 ServerTimingResponseAdvice가 기록)
+ * - 엔드포인트(HTTP 메서드 + URI 패턴)별 히스토그램 기록
+ *   aim.http.sql.statements: 요청당 SQL 실행 횟수, aim.http.sql.duration: 요청당 DB 시간
+ * - @QueryBudget을 넘으면 경고 로그 + aim.http.sql.budget.exceeded 카운터 증가
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlTimingInterceptor implements HandlerInterceptor {
+
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        sqlStatementCounter.begin();
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        // 본문 없는 응답 (void 등)은 아직 커밋 전이므로 여기서 헤더 기록
+        SqlStatementCounter.Tally tally = sqlStatementCounter.current();
+        if (tally != null && !response.isCommitted()) {
+            response.setHeader(SERVER_TIMING_HEADER, tally.toServerTiming());
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        SqlStatementCounter.Tally tally = sqlStatementCounter.end();
+        if (tally == null) {
+            return;
+        }
+
+        String method = request.getMethod();
+        String uri = uriPattern(request);
+
+        DistributionSummary.builder("aim.http.sql.statements")
+                .description("요청당 SQL 실행 횟수")
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(tally.getStatementCount());
+
+        Timer.builder("aim.http.sql.duration")
+                .description("요청당 DB 실행 시간")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(tally.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        if (handler instanceof HandlerMethod handlerMethod) {
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (budget != null && tally.getStatementCount() > budget.value()) {
+                System.out.println("⚠️ 쿼리 예산 초과: " + method + " " + uri
+                        + " (" + tally.getStatementCount() + "회 > 예산 " + budget.value() + "회)");
+                Counter.builder("aim.http.sql.budget.exceeded")
+                        .description("@QueryBudget을 넘은 요청 수")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+    }
+
+    // 경로 변수를 치환하기 전 URI 패턴 (/stocks/{stockId}), 매핑이 없으면 UNKNOWN
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -21,6 +21,8 @@ public class StockController {
     @Operation(
             summary = "종목 랭킹 페이지"
     )
+    @ConditionalGet
+    @QueryBudget(3)  // 종목 + 리포트 projection + 종가
     public List<StockListDTO> getAllStocks() {
         return stockService.getAllStocksWithRankingInfo();
     }
@@ -30,6 +32,8 @@ public class StockController {
     @Operation(
             summary = "종목 상세 페이지"
     )
+    @ConditionalGet(ConditionalGet.Scope.STOCK)
+    @QueryBudget(12)  // 종목 1 + 종합 의견 3 + 종가 추이 1 + 평균 목표가 2 + 목표가 통계 2 + 커버 애널리스트 3
     public StockResponseDTO getStockById(@PathVariable Long stockId) {
         Stock stock = stockService.getStockById(stockId)
                 .orElseThrow(() -> new RuntimeException("Stock not found"));
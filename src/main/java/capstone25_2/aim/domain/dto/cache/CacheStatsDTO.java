@@ -0,0 +1,35 @@
+package capstone25_2.aim.domain.dto.cache;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 적중/미스 통계
+ * (애플리케이션 시작 이후 누적값, generate_statistics가 꺼져 있으면 모두 0)
+ */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class CacheStatsDTO {
+    private boolean statisticsEnabled;   // hibernate.generate_statistics 설정 여부
+    private long hitCount;               // 엔티티 캐시 적중 수 (전체 영역 합계)
+    private long missCount;              // 엔티티 캐시 미스 수
+    private long putCount;               // 엔티티 캐시 저장 수
+    private Double hitRatio;             // 적중률 (%, 조회가 없으면 null)
+    private long naturalIdHitCount;      // 자연 키(종목코드, 이름+증권사) 캐시 적중 수
+    private long naturalIdMissCount;     // 자연 키 캐시 미스 수
+    private long naturalIdPutCount;      // 자연 키 캐시 저장 수
+    private List<RegionStats> regions;   // 캐시 영역별 통계
+
+    @Getter @Setter
+    @NoArgsConstructor @AllArgsConstructor
+    @Builder
+    public static class RegionStats {
+        private String regionName;
+        private long hitCount;
+        private long missCount;
+        private long putCount;
+        private long elementCountInMemory;  // 현재 보관 중인 항목 수 (공급자가 지원하지 않으면 음수)
+    }
+}
@@ -0,0 +1,25 @@
+package capstone25_2.aim.domain.dto.report;
+
+import lombok.*;
+
+/**
+ * 리포트 대량 적재 결과 요약
+ * (스트리밍 적재는 저장된 리포트 목록 대신 건수만 반환)
+ */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class ReportIngestSummaryDTO {
+    private int totalRows;           // 헤더 제외 전체 행 수
+    private int parsedRows;          // 파싱 성공 행 수
+    private int columnCountError;    // 컬럼 수 부족
+    private int emptyColumnError;    // 빈 컬럼
+    private int analystNameTooLongError;  // 애널리스트명 4글자 이상
+    private int parseError;          // 날짜/숫자 등 파싱 오류
+    private int savedCount;          // 신규 저장된 리포트 수
+    private int duplicateCount;      // 이미 존재하여 스킵된 리포트 수
+    private int stockNotFoundCount;  // 종목이 없어 스킵된 리포트 수
+    private int chunkCount;          // 커밋된 청크 수
+    private int resumedChunkCount;   // 이전 업로드에서 이미 커밋되어 건너뛴 청크 수
+    private String fileHash;         // 업로드 파일 SHA-256 (재업로드 식별용, NDJSON은 null)
+}
@@ -0,0 +1,20 @@
+package capstone25_2.aim.domain.dto.report;
+
+import capstone25_2.aim.domain.entity.SurfaceOpinion;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회 전용 리포트 projection (종목 페이지, 섹터, 랭킹 계산용)
+ * 엔티티 대신 계산에 필요한 컬럼만 담으므로 영속성 컨텍스트/프록시/스냅샷이 생기지 않음
+ */
+public record ReportSnapshot(
+        Long id,
+        LocalDateTime reportDate,
+        Integer targetPrice,
+        Double hiddenOpinion,
+        SurfaceOpinion surfaceOpinion,
+        Long analystId,
+        Long stockId
+) {
+}
@@ -0,0 +1,32 @@
+package capstone25_2.aim.domain.dto.stock;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 종가 적재 결과 요약
+ */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class ClosePriceImportSummaryDTO {
+    private int totalRows;          // 전체 입력 행 수 (CSV 헤더 제외)
+    private int upsertedRows;       // 저장(신규 또는 갱신) 요청한 행 수
+    private int unknownStockRows;   // 종목이 없어 스킵된 행 수
+    private int parseError;         // 형식 오류로 스킵된 행 수
+    private int chunkCount;         // 커밋된 청크 수
+    private List<StockRange> touchedRanges;  // 종목별 영향받은 거래일 범위
+
+    @Getter @Setter
+    @NoArgsConstructor @AllArgsConstructor
+    @Builder
+    public static class StockRange {
+        private Long stockId;
+        private String stockCode;
+        private LocalDate fromDate;
+        private LocalDate toDate;
+        private int rowCount;
+    }
+}
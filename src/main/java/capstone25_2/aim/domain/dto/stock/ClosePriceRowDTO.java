@@ -0,0 +1,21 @@
+package capstone25_2.aim.domain.dto.stock;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 종가 적재 입력 한 행 (CSV 한 행 / NDJSON 한 줄)
+ */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class ClosePriceRowDTO {
+    private String stockCode;   // 종목코드 (예: "005930")
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate tradeDate;
+
+    private Integer closePrice;
+}
@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,20 +19,29 @@ import java.util.List;
             name = "uk_analyst_name_firm",
             columnNames = {"analyst_name", "firm_name"}
         )
+    },
+    indexes = {
+        @Index(name = "idx_analyst_firm_name", columnList = "firm_name")
     }
 )
 @Getter @Setter
 @NoArgsConstructor
+// 거의 바뀌지 않는 기준 데이터라 2차 캐시에 보관 (이름+증권사 자연 키 조회도 캐시)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 public class Analyst {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name ="analyst_id")
     private Long id;
 
+    @NaturalId
     private String analystName; //@Column을 붙이지 않아도 자동으로 컬럼 이름 매핑.
 
+    @NaturalId
     private String firmName;
 
+    //컬렉션은 캐시하지 않음 (리포트는 JdbcBulkLoader가 Hibernate를 거치지 않고 INSERT하므로 캐시가 무효화되지 않음)
     @OneToMany(mappedBy= "analyst",cascade= CascadeType.ALL)
     private List<Report> reports = new ArrayList<>();
 
@@ -0,0 +1,50 @@
+package capstone25_2.aim.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리포트 CSV 적재 원장 (커밋 완료된 청크 기록)
+ * 같은 파일(file_hash)을 다시 올리면 기록된 청크는 건너뛰고 실패한 청크부터 이어서 적재한다.
+ * 청크 저장과 같은 트랜잭션에서 기록되므로 원장에 있는 청크는 반드시 커밋된 청크이다.
+ */
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@Table(
+    name = "ingest_ledger",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_ingest_ledger_file_chunk",
+            columnNames = {"file_hash", "chunk_index"}
+        )
+    }
+)
+public class IngestLedger {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ingest_ledger_id")
+    private Long id;
+
+    @Column(name = "file_hash", nullable = false, length = 64)
+    private String fileHash;      // 파일 전체 SHA-256 (hex)
+
+    @Column(name = "chunk_index", nullable = false)
+    private Integer chunkIndex;   // 0부터 시작하는 청크 순번
+
+    @Column(name = "chunk_hash", nullable = false, length = 64)
+    private String chunkHash;     // 청크에 포함된 원본 행들의 SHA-256 (hex)
+
+    @Column(name = "row_count", nullable = false)
+    private Integer rowCount;     // 청크에 포함된 저장 대상 행 수
+
+    @Column(name = "saved_count", nullable = false)
+    private Integer savedCount;   // 청크 커밋 시 신규 저장된 리포트 수
+
+    @Column(name = "committed_at", nullable = false)
+    private LocalDateTime committedAt;
+}
@@ -10,6 +10,16 @@ import java.time.LocalDateTime;
 @Entity
 @Getter @Setter
 @NoArgsConstructor
+@Table(
+    indexes = {
+        // 시리즈 조회: 중복 체크, 직전/다음 리포트, 의견 변화 감지, 배치 적재 키 조회, prevReport 재연결
+        @Index(name = "idx_report_analyst_stock_date", columnList = "analyst_id, stock_id, report_date"),
+        // 종목별 최신 리포트, 섹터 페이지, 종가 갱신 시 재계산 대상 조회
+        @Index(name = "idx_report_stock_date", columnList = "stock_id, report_date"),
+        // 애널리스트별 최신 리포트 (날짜 정렬/기간 조건)
+        @Index(name = "idx_report_analyst_date", columnList = "analyst_id, report_date")
+    }
+)
 public class Report {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,44 @@
+package capstone25_2.aim.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 애널리스트별 일간 검색 횟수 (search_log 롤업)
+ * 보관 기간이 지난 search_log 원본 행은 이 테이블로 집계된 후 삭제된다.
+ */
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@Table(
+    name = "search_count_daily",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_search_count_analyst_date",
+            columnNames = {"analyst_id", "search_date"}
+        )
+    },
+    indexes = {
+        @Index(name = "idx_search_count_date", columnList = "search_date")
+    }
+)
+public class SearchCountDaily {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "search_count_daily_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "analyst_id", nullable = false)
+    private Analyst analyst;
+
+    @Column(name = "search_date", nullable = false)
+    private LocalDate searchDate;
+
+    @Column(name = "search_count", nullable = false)
+    private Long searchCount;
+}
@@ -10,6 +10,12 @@ import java.time.LocalDateTime;
 @Entity
 @Getter @Setter
 @NoArgsConstructor
+@Table(
+    indexes = {
+        // 트렌드 카운터 재구성(최근 로그), 압축 대상(보관 기간 이전 로그) 조회
+        @Index(name = "idx_search_log_searched_at", columnList = "searched_at")
+    }
+)
 public class SearchLog {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
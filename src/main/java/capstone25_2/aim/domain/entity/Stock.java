@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,12 +15,27 @@ import java.util.List;
 @Entity
 @Getter @Setter
 @NoArgsConstructor
+@Table(
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_stock_code",
+            columnNames = {"stock_code"}
+        )
+    },
+    indexes = {
+        @Index(name = "idx_stock_sector", columnList = "sector")
+    }
+)
+// 거의 바뀌지 않는 기준 데이터라 2차 캐시에 보관 (종목코드 자연 키 조회도 캐시)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 public class Stock {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name ="stock_id")
     private Long id;
 
+    @NaturalId
     private String stockCode;
 
     private String stockName;
@@ -24,6 +43,7 @@ public class Stock {
     private String sector;
 
     //to many 관계는 기본이 LAZY
+    //컬렉션은 캐시하지 않음 (리포트는 JdbcBulkLoader가 Hibernate를 거치지 않고 INSERT하므로 캐시가 무효화되지 않음)
     @OneToMany(mappedBy ="stock", cascade= CascadeType.ALL) //mappedBy -> 나는 연관관계의 주인이 아니다.
     private List<Report> reports = new ArrayList<>();
 
@@ -0,0 +1,10 @@
+package capstone25_2.aim.domain.event;
+
+import java.util.Set;
+
+/**
+ * 애널리스트 지표 재계산이 필요함을 알리는 이벤트
+ * 리포트 적재 시 발행되며, 커밋 후 AnalystMetricsUpdateQueue가 모아서 처리
+ */
+public record AnalystMetricsDirtyEvent(Set<Long> analystIds) {
+}
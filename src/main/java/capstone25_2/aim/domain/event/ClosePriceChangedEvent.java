@@ -0,0 +1,14 @@
+package capstone25_2.aim.domain.event;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 종가가 추가/갱신되었음을 알리는 이벤트
+ * 종목 ID별로 영향받은 거래일 범위를 담음 (종가 기반 캐시/지표의 부분 갱신용)
+ */
+public record ClosePriceChangedEvent(Map<Long, DateRange> rangesByStockId) {
+
+    public record DateRange(LocalDate fromDate, LocalDate toDate) {
+    }
+}
@@ -0,0 +1,10 @@
+package capstone25_2.aim.domain.event;
+
+/**
+ * 원본 데이터에서 파생된 값이 다시 계산되었음을 알리는 이벤트
+ * (prevReport 일괄 재연결, 애널리스트 지표/aim's score 재계산 등)
+ *
+ * 조회 결과 캐시의 데이터 버전(DataVersion)을 올릴 때 사용
+ */
+public record DerivedDataChangedEvent(String source) {
+}
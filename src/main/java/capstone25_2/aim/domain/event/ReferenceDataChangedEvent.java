@@ -0,0 +1,10 @@
+package capstone25_2.aim.domain.event;
+
+/**
+ * 애널리스트/종목 기준 데이터가 변경되었음을 알리는 이벤트
+ * (리포트 적재 중 신규 애널리스트 생성 등)
+ *
+ * 검색 인덱스 등 메모리에 올려둔 기준 데이터를 다시 만들 때 사용
+ */
+public record ReferenceDataChangedEvent(String source) {
+}
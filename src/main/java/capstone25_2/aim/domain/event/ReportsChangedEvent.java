@@ -0,0 +1,11 @@
+package capstone25_2.aim.domain.event;
+
+import java.util.Set;
+
+/**
+ * 리포트가 새로 저장되었음을 알리는 이벤트
+ * 리포트 적재 시 AnalystMetricsDirtyEvent와 함께 발행되며,
+ * 커밋 후 DataVersion이 해당 종목/애널리스트의 버전을 올림 (ETag, 조회 결과 캐시)
+ */
+public record ReportsChangedEvent(Set<Long> stockIds, Set<Long> analystIds) {
+}
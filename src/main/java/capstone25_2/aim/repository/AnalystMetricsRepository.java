@@ -1,7 +1,9 @@
 package capstone25_2.aim.repository;
 
 import capstone25_2.aim.domain.entity.AnalystMetrics;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +14,9 @@ public interface AnalystMetricsRepository extends JpaRepository<AnalystMetrics,
     Optional<AnalystMetrics> findByAnalystId(Long analystId);
 
   //  List<AnalystMetrics> findAll();
+
+    // 랭킹/홈 화면용: 애널리스트명/증권사까지 한 쿼리로 로딩 (지표마다 Analyst 프록시 초기화 방지)
+    @EntityGraph(attributePaths = {"analyst"})
+    @Query("SELECT m FROM AnalystMetrics m")
+    List<AnalystMetrics> findAllWithAnalyst();
 }
@@ -2,19 +2,26 @@ package capstone25_2.aim.repository;
 
 import capstone25_2.aim.domain.entity.Analyst;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
-public interface AnalystRepository extends JpaRepository<Analyst, Long> {
+public interface AnalystRepository extends JpaRepository<Analyst, Long>, AnalystRepositoryCustom {
 
     //애널리스트 정보 조회 및 소속 증권사별 리스트
     //findAll() : 기본 제공
     //findByFirmName() : ex) 키움증권 소속 애널리스트 검색
     List<Analyst> findByFirmName(String firmName);
 
-    // 애널리스트 이름과 회사명으로 조회 (AI 모델 데이터 저장용)
-    Optional<Analyst> findByAnalystNameAndFirmName(String analystName, String firmName);
+    // 애널리스트 이름과 회사명으로 조회 (AI 모델 데이터 저장용): AnalystRepositoryCustom (자연 키 캐시 사용)
+
+    // 여러 이름의 애널리스트 한 번에 조회 (리포트 배치 적재용, 증권사는 호출 측에서 확인)
+    List<Analyst> findByAnalystNameIn(Collection<String> analystNames);
+
+    // 모든 애널리스트 ID 조회 (검색 로그 버퍼의 ID 검증용)
+    @Query("SELECT a.id FROM Analyst a")
+    List<Long> findAllIds();
 }
@@ -0,0 +1,15 @@
+package capstone25_2.aim.repository;
+
+import capstone25_2.aim.domain.entity.Analyst;
+
+import java.util.Optional;
+
+/**
+ * 애널리스트 자연 키(이름 + 증권사) 조회
+ * - 파생 쿼리(findByAnalystNameAndFirmName)는 2차 캐시를 거치지 않으므로 Hibernate 자연 키 API로 직접 조회
+ */
+public interface AnalystRepositoryCustom {
+
+    // 애널리스트 이름과 회사명으로 조회 (AI 모델 데이터 저장용)
+    Optional<Analyst> findByAnalystNameAndFirmName(String analystName, String firmName);
+}
@@ -0,0 +1,31 @@
+package capstone25_2.aim.repository;
+
+import capstone25_2.aim.domain.entity.Analyst;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * (이름, 증권사) → 애널리스트 ID는 자연 키 캐시, 애널리스트 엔티티는 엔티티 캐시에서 찾고 둘 다 없을 때만 SQL 실행
+ */
+public class AnalystRepositoryCustomImpl implements AnalystRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Analyst> findByAnalystNameAndFirmName(String analystName, String firmName) {
+        if (analystName == null || firmName == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .byNaturalId(Analyst.class)
+                .using("analystName", analystName)
+                .using("firmName", firmName)
+                .loadOptional();
+    }
+}
@@ -0,0 +1,14 @@
+package capstone25_2.aim.repository;
+
+import capstone25_2.aim.domain.entity.IngestLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface IngestLedgerRepository extends JpaRepository<IngestLedger, Long> {
+
+    // 파일의 커밋 완료된 청크 목록 (재업로드 시 건너뛸 청크)
+    List<IngestLedger> findByFileHash(String fileHash);
+}
@@ -0,0 +1,199 @@
+package capstone25_2.aim.repository;
+
+import capstone25_2.aim.domain.entity.Analyst;
+import capstone25_2.aim.domain.entity.ClosePrice;
+import capstone25_2.aim.domain.entity.Report;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 적재용 JDBC 배치 INSERT
+ *
+ * Report/Analyst/ClosePrice는 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못함
+ * (saveAll도 행마다 INSERT 1회 왕복).
+ * 여기서는 JdbcTemplate.batchUpdate로 batchSize 단위 배치 전송
+ * → MySQL은 rewriteBatchedStatements=true 설정 시 multi-row INSERT로 재작성되어 왕복 1회
+ *
+ * - 생성된 ID는 엔티티에 다시 채워 넣음 (이후 로직에서 ID 사용 가능)
+ * - JPA와 같은 트랜잭션/커넥션을 사용 (호출 측 @Transactional 안에서 실행)
+ * - 영속성 컨텍스트를 거치지 않으므로 반환된 엔티티는 준영속 상태
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcBulkLoader {
+
+    private static final String INSERT_ANALYST_SQL =
+            "INSERT INTO analyst (analyst_name, firm_name) VALUES (?, ?)";
+
+    private static final String INSERT_REPORT_SQL =
+            "INSERT INTO report (report_title, report_date, surface_opinion, target_price, hidden_opinion, " +
+            "prev_report_id, stock_id, analyst_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_CLOSE_PRICE_SQL =
+            "INSERT INTO close_price (stock_id, trade_date, close_price) VALUES (?, ?, ?)";
+
+    // uk_stock_trade_date(stock_id, trade_date) 충돌 시 종가만 갱신
+    // (VALUES(col)은 MySQL 8.0.20부터 deprecated → 새 행을 별칭(new)으로 참조)
+    private static final String UPSERT_CLOSE_PRICE_SQL = INSERT_CLOSE_PRICE_SQL +
+            " AS new ON DUPLICATE KEY UPDATE close_price = new.close_price";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${aim.jdbc.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 애널리스트 일괄 INSERT 후 생성된 ID를 채워 넣음
+     */
+    public void insertAnalysts(List<Analyst> analysts) {
+        insertWithKeys(INSERT_ANALYST_SQL, "analyst_id", analysts, (ps, analyst) -> {
+            ps.setString(1, analyst.getAnalystName());
+            ps.setString(2, analyst.getFirmName());
+        }, (analyst, id) -> analyst.setId(id));
+    }
+
+    /**
+     * 리포트 일괄 INSERT 후 생성된 ID를 채워 넣음
+     * (analyst/stock/prevReport는 ID가 있는 상태여야 함)
+     */
+    public void insertReports(List<Report> reports) {
+        insertWithKeys(INSERT_REPORT_SQL, "report_id", reports, (ps, report) -> {
+            ps.setString(1, report.getReportTitle());
+            ps.setTimestamp(2, report.getReportDate() != null ? Timestamp.valueOf(report.getReportDate()) : null);
+            ps.setString(3, report.getSurfaceOpinion() != null ? report.getSurfaceOpinion().name() : null);
+            setNullableInt(ps, 4, report.getTargetPrice());
+            if (report.getHiddenOpinion() != null) {
+                ps.setDouble(5, report.getHiddenOpinion());
+            } else {
+                ps.setNull(5, Types.DOUBLE);
+            }
+            setNullableLong(ps, 6, report.getPrevReport() != null ? report.getPrevReport().getId() : null);
+            setNullableLong(ps, 7, report.getStock() != null ? report.getStock().getId() : null);
+            setNullableLong(ps, 8, report.getAnalyst() != null ? report.getAnalyst().getId() : null);
+        }, (report, id) -> report.setId(id));
+    }
+
+    /**
+     * 종가 일괄 INSERT (생성 ID는 사용하지 않음)
+     *
+     * @return INSERT된 행 수
+     */
+    public int insertClosePrices(List<ClosePrice> closePrices) {
+        return batchClosePrices(INSERT_CLOSE_PRICE_SQL, closePrices);
+    }
+
+    /**
+     * 종가 일괄 UPSERT (같은 종목 + 거래일이 있으면 종가 갱신)
+     *
+     * @return 드라이버가 보고한 영향 행 수 (MySQL: 신규 1, 갱신 2, 변화 없음 0)
+     */
+    public int upsertClosePrices(List<ClosePrice> closePrices) {
+        return batchClosePrices(UPSERT_CLOSE_PRICE_SQL, closePrices);
+    }
+
+    private int batchClosePrices(String sql, List<ClosePrice> closePrices) {
+        int affected = 0;
+        for (int from = 0; from < closePrices.size(); from += batchSize) {
+            List<ClosePrice> batch = closePrices.subList(from, Math.min(from + batchSize, closePrices.size()));
+            int[] counts = jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ClosePrice closePrice = batch.get(i);
+                    ps.setLong(1, closePrice.getStock().getId());
+                    ps.setDate(2, Date.valueOf(closePrice.getTradeDate()));
+                    ps.setInt(3, closePrice.getClosePrice());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch.size();
+                }
+            });
+            affected += sumUpdateCounts(counts, batch.size());
+        }
+        return affected;
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement ps, T row) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface IdSetter<T> {
+        void set(T row, Long id);
+    }
+
+    private <T> void insertWithKeys(String sql, String idColumn, List<T> rows, RowBinder<T> binder, IdSetter<T> idSetter) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<T> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(sql, new String[]{idColumn}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            binder.bind(ps, batch.get(i));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    },
+                    keyHolder);
+
+            // 생성 키는 INSERT 순서대로 반환됨 (드라이버별 키 컬럼명이 달라 첫 번째 값 사용)
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            if (keys.size() != batch.size()) {
+                throw new RuntimeException("Generated key count mismatch: expected " + batch.size() + ", got " + keys.size());
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                Number id = (Number) keys.get(i).values().iterator().next();
+                idSetter.set(batch.get(i), id.longValue());
+            }
+        }
+    }
+
+    // rewriteBatchedStatements 사용 시 드라이버가 SUCCESS_NO_INFO(-2)를 반환할 수 있음
+    private static int sumUpdateCounts(int[] counts, int batchSize) {
+        int sum = 0;
+        for (int count : counts) {
+            if (count == PreparedStatement.SUCCESS_NO_INFO) {
+                return batchSize;
+            }
+            sum += count;
+        }
+        return sum;
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
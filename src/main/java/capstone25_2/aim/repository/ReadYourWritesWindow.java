@@ -0,0 +1,76 @@
+package capstone25_2.aim.repository;
+
+import capstone25_2.aim.domain.event.AnalystMetricsDirtyEvent;
+import capstone25_2.aim.domain.event.ClosePriceChangedEvent;
+import capstone25_2.aim.domain.event.DerivedDataChangedEvent;
+import capstone25_2.aim.domain.event.ReferenceDataChangedEvent;
+import capstone25_2.aim.domain.event.ReportsChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 적재 직후 읽기를 primary로 고정하는 창 (read-your-writes)
+ *
+ * - 리포트/종가 적재, 애널리스트 생성, 지표 재계산, prevReport 재연결이 커밋되면
+ *   windowMs 동안 읽기 전용 트랜잭션도 primary로 보냄
+ *   (replica 복제 지연 동안 방금 적재한 데이터가 조회되지 않는 문제 방지)
+ * - DataVersion을 올리는 이벤트는 모두 여기서도 받아야 함
+ *   → 버전이 바뀐 뒤 replica에서 옛 데이터를 읽어 새 버전 키로 캐시/ETag가 고정되는 것을 방지
+ * - 적재 클라이언트와 조회 클라이언트가 세션을 공유하지 않으므로 요청 단위가 아닌 전역 창으로 관리
+ * - DataVersion, 지표 재계산 대기열 등 다른 커밋 후 리스너보다 먼저 실행되도록 가장 높은 우선순위
+ */
+@Component
+public class ReadYourWritesWindow {
+
+    @Value("${aim.datasource.replica.read-your-writes-ms:3000}")
+    private long windowMs;
+
+    private final AtomicLong primaryUntil = new AtomicLong();
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAnalystMetricsDirty(AnalystMetricsDirtyEvent event) {
+        markWrite();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClosePriceChanged(ClosePriceChangedEvent event) {
+        markWrite();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportsChanged(ReportsChangedEvent event) {
+        markWrite();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        markWrite();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDerivedDataChanged(DerivedDataChangedEvent event) {
+        markWrite();
+    }
+
+    /**
+     * 지금부터 windowMs 동안 읽기를 primary로 보냄 (이미 더 긴 창이 열려 있으면 유지)
+     */
+    public void markWrite() {
+        long until = System.currentTimeMillis() + windowMs;
+        primaryUntil.accumulateAndGet(until, Math::max);
+    }
+
+    public boolean isActive() {
+        return System.currentTimeMillis() < primaryUntil.get();
+    }
+}
@@ -0,0 +1,52 @@
+package capstone25_2.aim.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅
+ *
+ * - 읽기 전용 트랜잭션 (@Transactional(readOnly = true), Spring Data 조회 메서드) → replica
+ * - 쓰기 트랜잭션, 트랜잭션 밖 JDBC 호출 → primary
+ * - 적재 직후 read-your-writes 창이 열려 있으면 읽기 전용 트랜잭션도 primary
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 첫 쿼리 시점에 커넥션을 고르도록 사용
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final ReadYourWritesWindow readYourWritesWindow;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica,
+                                    ReadYourWritesWindow readYourWritesWindow) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWritesWindow = readYourWritesWindow;
+
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readYourWritesWindow.isActive()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+}
@@ -1,16 +1,25 @@
 package capstone25_2.aim.repository;
 
+import capstone25_2.aim.domain.dto.report.ReportSnapshot;
 import capstone25_2.aim.domain.entity.Report;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
 
+    // ReportSnapshot projection SELECT 절 (생성자 인자 순서와 동일)
+    String REPORT_SNAPSHOT_SELECT = "SELECT new capstone25_2.aim.domain.dto.report.ReportSnapshot(" +
+            "r.id, r.reportDate, r.targetPrice, r.hiddenOpinion, r.surfaceOpinion, r.analyst.id, r.stock.id) FROM Report r ";
+
     //프로젝트 핵심 Repo -> 리포트 리스트, 상세 조회 전용
 
     List<Report> findByStockId(Long stockId); // 여러 주식 종목들 리스트
@@ -23,6 +32,51 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
     List<Report> findByStockIdAndReportDateAfterOrderByReportDateDesc(Long stockId, LocalDateTime fromDate);
     List<Report> findByAnalystIdAndReportDateAfterOrderByReportDateDesc(Long analystId, LocalDateTime fromDate);
 
+    // 조회 화면용 fetch 변형 - 루프에서 접근하는 연관 엔티티를 같은 쿼리에서 함께 로딩 (행마다 프록시 초기화 쿼리 방지)
+    // analyst.analystMetrics는 mappedBy 쪽 OneToOne이라 LAZY가 적용되지 않으므로 같이 조인
+
+    // 목표가 추이, 커버 애널리스트 목록: 애널리스트명/증권사, 직전 리포트 목표가, 종목명
+    @EntityGraph(attributePaths = {"analyst", "analyst.analystMetrics", "stock", "prevReport"})
+    List<Report> findWithAnalystAndPrevReportByStockIdAndReportDateAfterOrderByReportDateDesc(Long stockId, LocalDateTime fromDate);
+
+    // 커버 종목, 애널리스트 리포트 목록, 지표 계산: 종목명/코드/섹터
+    @EntityGraph(attributePaths = {"stock"})
+    List<Report> findWithStockByAnalystIdOrderByReportDateDesc(Long analystId);
+
+    // 섹터/전체 평균 지표 계산: 전체 리포트 + 종목 섹터
+    @EntityGraph(attributePaths = {"stock"})
+    @Query("SELECT r FROM Report r")
+    List<Report> findAllWithStock();
+
+    // 증분 지표 재계산: 지정한 섹터 종목의 리포트 + 종목 섹터 (영향받은 섹터 평균만 계산)
+    @EntityGraph(attributePaths = {"stock"})
+    @Query("SELECT r FROM Report r WHERE r.stock.sector IN :sectors")
+    List<Report> findAllWithStockBySectorIn(@Param("sectors") Collection<String> sectors);
+
+    // 증분 지표 재계산: 애널리스트들이 리포트를 낸 종목의 섹터
+    @Query("SELECT DISTINCT r.stock.sector FROM Report r WHERE r.analyst.id IN :analystIds AND r.stock.sector IS NOT NULL")
+    List<String> findSectorsByAnalystIdIn(@Param("analystIds") Collection<Long> analystIds);
+
+    // 조회 전용 projection - 계산에 필요한 컬럼만 로딩 (엔티티를 만들지 않으므로 영속성 컨텍스트에 남는 것이 없음)
+
+    // 종목 페이지 (종합 의견, 목표가 통계, 일별 평균 목표가)
+    @Query(REPORT_SNAPSHOT_SELECT + "WHERE r.stock.id = :stockId AND r.reportDate > :fromDate ORDER BY r.reportDate DESC")
+    List<ReportSnapshot> findSnapshotsByStockIdAndReportDateAfter(@Param("stockId") Long stockId,
+                                                                  @Param("fromDate") LocalDateTime fromDate);
+
+    // 섹터 페이지 (여러 종목 한 번에)
+    @Query(REPORT_SNAPSHOT_SELECT + "WHERE r.stock.id IN :stockIds AND r.reportDate > :fromDate ORDER BY r.reportDate DESC")
+    List<ReportSnapshot> findSnapshotsByStockIdInAndReportDateAfter(@Param("stockIds") Collection<Long> stockIds,
+                                                                    @Param("fromDate") LocalDateTime fromDate);
+
+    // 전체 종목 랭킹 (상승여력, 매수 비율)
+    @Query(REPORT_SNAPSHOT_SELECT + "WHERE r.reportDate > :fromDate ORDER BY r.reportDate DESC")
+    List<ReportSnapshot> findSnapshotsByReportDateAfter(@Param("fromDate") LocalDateTime fromDate);
+
+    // 종목별 애널리스트 랭킹: 해당 종목에 리포트를 낸 애널리스트 ID
+    @Query("SELECT DISTINCT r.analyst.id FROM Report r WHERE r.stock.id = :stockId")
+    List<Long> findAnalystIdsByStockId(@Param("stockId") Long stockId);
+
     // 특정 애널리스트의 특정 종목에 대한 리포트들 (오름차순)
     List<Report> findByAnalystIdAndStockIdOrderByReportDateAsc(Long analystId, Long stockId);
 
@@ -39,4 +93,24 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
 
     // 여러 종목의 리포트를 한 번에 조회 (섹터 페이지 최적화용)
     List<Report> findByStockIdInAndReportDateAfterOrderByReportDateDesc(List<Long> stockIds, LocalDateTime fromDate);
+
+    // 배치 적재 중복 체크용: 후보 (애널리스트, 종목, 날짜 범위)의 기존 리포트 키 - [analystId, stockId, reportDate]
+    @Query("SELECT r.analyst.id, r.stock.id, r.reportDate FROM Report r " +
+           "WHERE r.analyst.id IN :analystIds AND r.stock.id IN :stockIds " +
+           "AND r.reportDate BETWEEN :from AND :to")
+    List<Object[]> findReportKeys(@Param("analystIds") Collection<Long> analystIds,
+                                  @Param("stockIds") Collection<Long> stockIds,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
+
+    // 종목별 리포트 수 (자동완성 인기도용) - [stockId, count]
+    @Query("SELECT r.stock.id, COUNT(r) FROM Report r GROUP BY r.stock.id")
+    List<Object[]> countReportsGroupByStock();
+
+    // 종가 갱신 시 재계산 대상 애널리스트 조회 - 해당 종목에 [from, to) 기간 리포트를 낸 애널리스트 ID
+    @Query("SELECT DISTINCT r.analyst.id FROM Report r " +
+           "WHERE r.stock.id = :stockId AND r.reportDate >= :from AND r.reportDate < :to")
+    List<Long> findAnalystIdsByStockIdAndReportDateRange(@Param("stockId") Long stockId,
+                                                           @Param("from") LocalDateTime from,
+                                                           @Param("to") LocalDateTime to);
 }
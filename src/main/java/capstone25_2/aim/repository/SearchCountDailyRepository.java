@@ -0,0 +1,50 @@
+package capstone25_2.aim.repository;
+
+import capstone25_2.aim.domain.entity.SearchCountDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SearchCountDailyRepository extends JpaRepository<SearchCountDaily, Long> {
+
+    /**
+     * 특정 날짜 이후 애널리스트별 일간 검색 횟수
+     * 반환: [analystId, searchDate, searchCount]
+     */
+    @Query("SELECT s.analyst.id, s.searchDate, s.searchCount " +
+           "FROM SearchCountDaily s " +
+           "WHERE s.searchDate >= :from")
+    List<Object[]> findDailyCountsSince(@Param("from") LocalDate from);
+
+    /**
+     * search_log 원본 행(cutoff 이전 + maxId 이하)을 일간 집계에 합산
+     * 같은 (애널리스트, 날짜) 행이 이미 있으면 횟수를 더한다.
+     * VALUES(col)은 MySQL 8.0.20부터 deprecated → 새 행을 별칭(new)으로 참조
+     * (INSERT ... SELECT에는 행 별칭을 붙일 수 없으므로 집계를 파생 테이블로 감싸 그 별칭을 사용)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO search_count_daily (analyst_id, search_date, search_count) " +
+                   "SELECT new.analyst_id, new.search_date, new.log_count FROM (" +
+                   "SELECT analyst_id, DATE(searched_at) AS search_date, COUNT(*) AS log_count " +
+                   "FROM search_log " +
+                   "WHERE searched_at < :cutoff AND search_log_id <= :maxId " +
+                   "GROUP BY analyst_id, DATE(searched_at)) AS new " +
+                   "ON DUPLICATE KEY UPDATE search_count = search_count + new.log_count",
+           nativeQuery = true)
+    int rollUpSearchLogs(@Param("cutoff") LocalDateTime cutoff, @Param("maxId") Long maxId);
+
+    /**
+     * 롤업 보관 기간이 지난 일간 집계 삭제 (limit 단위)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM search_count_daily WHERE search_date < :before LIMIT :limit",
+           nativeQuery = true)
+    int deleteOlderThan(@Param("before") LocalDate before, @Param("limit") int limit);
+}
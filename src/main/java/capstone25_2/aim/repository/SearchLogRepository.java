@@ -2,6 +2,7 @@ package capstone25_2.aim.repository;
 
 import capstone25_2.aim.domain.entity.SearchLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,13 +14,31 @@ import java.util.List;
 public interface SearchLogRepository extends JpaRepository<SearchLog, Long> {
 
     /**
-     * 최근 7일 내 애널리스트별 검색 횟수 TOP 3
-     * 반환: [analystId, searchCount]
+     * 특정 시각 이후 검색 로그의 (애널리스트 ID, 검색 시각) 목록
+     * 서버 시작 시 검색 트렌드 카운터 재구성용
+     * 반환: [analystId, searchedAt]
      */
-    @Query("SELECT sl.analyst.id, COUNT(sl) " +
+    @Query("SELECT sl.analyst.id, sl.searchedAt " +
            "FROM SearchLog sl " +
-           "WHERE sl.searchedAt >= :weekAgo " +
-           "GROUP BY sl.analyst.id " +
-           "ORDER BY COUNT(sl) DESC")
-    List<Object[]> findTop3TrendingAnalysts(@Param("weekAgo") LocalDateTime weekAgo);
+           "WHERE sl.searchedAt >= :from")
+    List<Object[]> findAnalystSearchTimesSince(@Param("from") LocalDateTime from);
+
+    /**
+     * cutoff 이전 로그 중 ID가 가장 작은 limit개의 최대 ID (압축 배치 범위 결정용)
+     * 로그가 없으면 null
+     */
+    @Query(value = "SELECT MAX(t.search_log_id) FROM (" +
+                   "SELECT search_log_id FROM search_log " +
+                   "WHERE searched_at < :cutoff " +
+                   "ORDER BY search_log_id LIMIT :limit) t",
+           nativeQuery = true)
+    Long findMaxIdOfOldestBatch(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * 일간 집계로 롤업된 원본 로그 삭제 (cutoff 이전 + maxId 이하)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM search_log WHERE searched_at < :cutoff AND search_log_id <= :maxId",
+           nativeQuery = true)
+    int deleteRolledUp(@Param("cutoff") LocalDateTime cutoff, @Param("maxId") Long maxId);
 }
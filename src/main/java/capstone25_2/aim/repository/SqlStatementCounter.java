@@ -0,0 +1,71 @@
+package capstone25_2.aim.repository;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * 요청 단위 SQL 실행 횟수/시간 집계 (p6spy 이벤트 리스너)
+ *
+ * - p6spy-spring-boot-starter가 JdbcEventListener 빈을 자동 등록하므로 모든 JDBC 실행이 여기를 거침
+ * - begin()을 호출한 스레드에서 실행된 SQL만 집계 (스케줄러/비동기 적재 스레드는 집계하지 않음)
+ * - 배치 실행(executeBatch)은 1회로 집계
+ */
+@Component
+public class SqlStatementCounter extends SimpleJdbcEventListener {
+
+    private static final ThreadLocal<Tally> CURRENT = new ThreadLocal<>();
+
+    public void begin() {
+        CURRENT.set(new Tally());
+    }
+
+    /**
+     * 현재 스레드의 집계 (begin 전이면 null)
+     */
+    public Tally current() {
+        return CURRENT.get();
+    }
+
+    public Tally end() {
+        Tally tally = CURRENT.get();
+        CURRENT.remove();
+        return tally;
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        Tally tally = CURRENT.get();
+        if (tally != null) {
+            tally.add(timeElapsedNanos);
+        }
+    }
+
+    public static final class Tally {
+        private int statementCount;
+        private long elapsedNanos;
+
+        private void add(long nanos) {
+            statementCount++;
+            elapsedNanos += nanos;
+        }
+
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Server-Timing 헤더 값 (예: db;desc="12 queries";dur=3.42)
+         */
+        public String toServerTiming() {
+            return String.format(Locale.ROOT, "db;desc=\"%d queries\";dur=%.2f", statementCount, elapsedNanos / 1_000_000.0);
+        }
+    }
+}
@@ -4,16 +4,17 @@ import capstone25_2.aim.domain.entity.Stock;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
-public interface StockRepository extends JpaRepository<Stock, Long> {
+public interface StockRepository extends JpaRepository<Stock, Long>, StockRepositoryCustom {
     //Top 100 종목 리스트나 단일 종목 조회용
     //findAll() : 기본 제공
-    //findByStockCode() : 종목코드 기준 단일 조회
+    //findByStockCode() : 종목코드 기준 단일 조회 (StockRepositoryCustom, 자연 키 캐시 사용)
 
-    Optional<Stock> findByStockCode(String stockCode);
+    // 여러 종목코드 한 번에 조회 (리포트 배치 적재용)
+    List<Stock> findByStockCodeIn(Collection<String> stockCodes);
 
     //검색 기능
     //키워드로 종목명 또는 종목코드 검색 (부분 일치, 대소문자 무시)
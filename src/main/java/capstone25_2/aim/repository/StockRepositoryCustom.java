@@ -0,0 +1,14 @@
+package capstone25_2.aim.repository;
+
+import capstone25_2.aim.domain.entity.Stock;
+
+import java.util.Optional;
+
+/**
+ * 종목 자연 키(종목코드) 조회
+ * - 파생 쿼리(findByStockCode)는 2차 캐시를 거치지 않으므로 Hibernate 자연 키 API로 직접 조회
+ */
+public interface StockRepositoryCustom {
+
+    Optional<Stock> findByStockCode(String stockCode);
+}
@@ -0,0 +1,29 @@
+package capstone25_2.aim.repository;
+
+import capstone25_2.aim.domain.entity.Stock;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 종목코드 → 종목 ID는 자연 키 캐시, 종목 엔티티는 엔티티 캐시에서 찾고 둘 다 없을 때만 SQL 실행
+ */
+public class StockRepositoryCustomImpl implements StockRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Stock> findByStockCode(String stockCode) {
+        if (stockCode == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Stock.class)
+                .loadOptional(stockCode);
+    }
+}
@@ -3,19 +3,27 @@ package capstone25_2.aim.service;
 import capstone25_2.aim.domain.dto.analyst.AnalystMetricsDTO;
 import capstone25_2.aim.domain.dto.analyst.AnalystRankingResponseDTO;
 import capstone25_2.aim.domain.entity.*;
+import capstone25_2.aim.domain.event.DerivedDataChangedEvent;
 import capstone25_2.aim.repository.AnalystMetricsRepository;
 import capstone25_2.aim.repository.AnalystRepository;
 import capstone25_2.aim.repository.ClosePriceRepository;
 import capstone25_2.aim.repository.ReportRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("aim.service")
 @RequiredArgsConstructor
 public class AnalystMetricsService {
 
@@ -23,25 +31,25 @@ public class AnalystMetricsService {
     private final ReportRepository reportRepository;
     private final AnalystRepository analystRepository;
     private final ClosePriceRepository closePriceRepository;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 랭킹 리스트 조회 (기본: aimsScore 순)
+    @Cacheable(cacheNames = "analystRanking", key = "{#sortBy, @dataVersion.current()}")
     @Transactional(readOnly = true)
     public AnalystRankingResponseDTO getRankedAnalysts(String sortBy) {
-        List<AnalystMetrics> metricsList = metricsRepository.findAll();
+        List<AnalystMetrics> metricsList = metricsRepository.findAllWithAnalyst();
         return createRankedResponse(metricsList,sortBy);
     }
 
     // 🔹 특정 종목 기준 랭킹
     @Transactional(readOnly = true)
     public AnalystRankingResponseDTO getRankedAnalystsByStock(Long stockId, String sortBy) {
-        // 1. 해당 종목의 리포트를 전부 가져옴
-        List<Long> analystIds = reportRepository.findByStockId(stockId).stream()
-                .map(r -> r.getAnalyst().getId())
-                .distinct()
-                .toList();
+        // 1. 해당 종목에 리포트를 낸 애널리스트 ID만 조회 (리포트 엔티티는 로딩하지 않음)
+        Set<Long> analystIds = new HashSet<>(reportRepository.findAnalystIdsByStockId(stockId));
 
         // 2. 애널리스트 ID 기반으로 메트릭 필터링
-        List<AnalystMetrics> metricsList = metricsRepository.findAll().stream()
+        List<AnalystMetrics> metricsList = metricsRepository.findAllWithAnalyst().stream()
                 .filter(m -> analystIds.contains(m.getAnalyst().getId()))
                 .toList();
 
@@ -106,7 +114,7 @@ public class AnalystMetricsService {
     public void calculateAndSaveAccuracyRate(Long analystId) {
         // 1. 모든 리포트 조회
         List<Report> recentReports = reportRepository
-                .findByAnalystIdOrderByReportDateDesc(analystId);
+                .findWithStockByAnalystIdOrderByReportDateDesc(analystId);  // 평가 시 섹터 접근
 
         if (recentReports.isEmpty()) {
             return; // 리포트가 없으면 계산 불가
@@ -260,7 +268,7 @@ public class AnalystMetricsService {
 
         // 1. 모든 리포트 조회
         List<Report> recentReports = reportRepository
-                .findByAnalystIdOrderByReportDateDesc(analystId);
+                .findWithStockByAnalystIdOrderByReportDateDesc(analystId);  // 평가 시 섹터 접근
 
         if (recentReports.isEmpty()) {
             return; // 리포트가 없으면 계산 불가
@@ -713,13 +721,17 @@ public class AnalystMetricsService {
 
         // 0. 모든 기존 메트릭 삭제 (잘못된 데이터 제거)
         System.out.println("🗑️ 기존 메트릭 초기화 중...");
-        int deletedCount = metricsRepository.findAll().size();
-        metricsRepository.deleteAll();
+        int deletedCount = timePhase("full", "reset", () -> {
+            int count = metricsRepository.findAll().size();
+            metricsRepository.deleteAll();
+            return count;
+        });
         System.out.println("✅ 기존 메트릭 삭제 완료: " + deletedCount + "개");
 
         // 1. 섹터별 평균 수익률과 목표가 오차율 계산
         System.out.println("📈 섹터별 평균 계산 중...");
-        Map<String, SectorAverageMetrics> sectorAverages = calculateSectorAverageMetrics();
+        Map<String, SectorAverageMetrics> sectorAverages = timePhase("full", "sector-averages",
+                () -> calculateSectorAverageMetrics());
 
         System.out.println("  ✓ 계산된 섹터 수: " + sectorAverages.size());
         for (Map.Entry<String, SectorAverageMetrics> entry : sectorAverages.entrySet()) {
@@ -734,31 +746,95 @@ public class AnalystMetricsService {
         System.out.println("👥 전체 애널리스트 수: " + allAnalysts.size());
 
         // 3. 각 애널리스트마다 섹터별 평균과 비교하여 지표 계산
-        int calculatedCount = 0;
-        for (Analyst analyst : allAnalysts) {
-            try {
-                calculateAndSaveAccuracyRateWithCache(analyst.getId(), sectorAverages);
-                calculatedCount++;
-
-                // 10명마다 진행 상황 출력
-                if (calculatedCount % 10 == 0) {
-                    System.out.println("  ⏳ 애널리스트 계산: " + calculatedCount + "/" + allAnalysts.size());
+        int calculatedCount = timePhase("full", "evaluation", () -> {
+            int count = 0;
+            for (Analyst analyst : allAnalysts) {
+                try {
+                    calculateAndSaveAccuracyRateWithCache(analyst.getId(), sectorAverages);
+                    count++;
+
+                    // 10명마다 진행 상황 출력
+                    if (count % 10 == 0) {
+                        System.out.println("  ⏳ 애널리스트 계산: " + count + "/" + allAnalysts.size());
+                    }
+                } catch (Exception e) {
+                    System.err.println("⚠️ 애널리스트 " + analyst.getId() + " 지표 계산 실패: " + e.getMessage());
                 }
-            } catch (Exception e) {
-                System.err.println("⚠️ 애널리스트 " + analyst.getId() + " 지표 계산 실패: " + e.getMessage());
             }
-        }
-
+            return count;
+        });
         System.out.println("✅ 애널리스트 지표 계산 완료: " + calculatedCount + "명");
 
         // 4. aim's score 일괄 계산
         System.out.println("🎯 aim's score 일괄 계산 시작...");
-        int scoreCalculatedCount = calculateAllAimsScores();
+        int scoreCalculatedCount = timePhase("full", "scoring", this::calculateAllAimsScores);
         System.out.println("✅ aim's score 계산 완료: " + scoreCalculatedCount + "명");
 
         return calculatedCount;
     }
 
+    /**
+     * 지정한 애널리스트만 지표 재계산 후 aim's score 갱신 (AnalystMetricsUpdateQueue용)
+     * - 섹터 평균은 대상 애널리스트가 리포트를 낸 섹터만 계산 (지표 계산에 다른 섹터 평균은 쓰이지 않음)
+     * - 대상 애널리스트의 지표가 바뀌면 다른 애널리스트의 백분위도 바뀌므로 aim's score는 전체 재계산 후 저장
+     *
+     * @param analystIds 재계산할 애널리스트 ID
+     * @return 계산된 애널리스트 수
+     */
+    @Transactional
+    public int recalculateAnalysts(Collection<Long> analystIds) {
+        if (analystIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, SectorAverageMetrics> sectorAverages = timePhase("incremental", "sector-averages", () -> {
+            List<String> sectors = reportRepository.findSectorsByAnalystIdIn(analystIds);
+            return sectors.isEmpty()
+                    ? new HashMap<>()
+                    : calculateSectorAverageMetrics(reportRepository.findAllWithStockBySectorIn(sectors));
+        });
+
+        int calculatedCount = timePhase("incremental", "evaluation", () -> {
+            int count = 0;
+            for (Long analystId : analystIds) {
+                try {
+                    calculateAndSaveAccuracyRateWithCache(analystId, sectorAverages);
+                    count++;
+                } catch (Exception e) {
+                    System.err.println("⚠️ 애널리스트 " + analystId + " 지표 계산 실패: " + e.getMessage());
+                }
+            }
+            return count;
+        });
+
+        timePhase("incremental", "scoring", this::calculateAllAimsScores);
+        return calculatedCount;
+    }
+
+    /**
+     * 재계산 단계 실행 후 소요 시간 기록 (aim.metrics.recompute.phase)
+     * 예외로 끝난 단계도 기록 (outcome=failure)
+     *
+     * @param mode  full: 전체 일괄 계산, incremental: 대기열의 애널리스트만 재계산
+     * @param phase reset / sector-averages / evaluation / scoring
+     */
+    private <T> T timePhase(String mode, String phase, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            T result = action.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("aim.metrics.recompute.phase")
+                    .description("애널리스트 지표 재계산 단계별 소요 시간")
+                    .tag("mode", mode)
+                    .tag("phase", phase)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
     /**
      * 모든 애널리스트의 aim's score 일괄 계산
      * 백분위 기반 점수 시스템 (40~100점)
@@ -767,6 +843,9 @@ public class AnalystMetricsService {
      */
     @Transactional
     public int calculateAllAimsScores() {
+        // 전체/증분 재계산 모두 여기서 끝나므로 조회 캐시 무효화 이벤트는 한 곳에서 발행 (커밋 후 반영)
+        eventPublisher.publishEvent(new DerivedDataChangedEvent("metrics-recomputed"));
+
         // 1. 모든 애널리스트 메트릭 조회
         List<AnalystMetrics> allMetrics = metricsRepository.findAll();
 
@@ -922,7 +1001,7 @@ public class AnalystMetricsService {
      */
     private GlobalAverageMetrics calculateGlobalAverageMetrics() {
         // 모든 리포트 조회
-        List<Report> allReports = reportRepository.findAll();
+        List<Report> allReports = reportRepository.findAllWithStock();  // 평가 시 섹터 접근
 
         if (allReports.isEmpty()) {
             return new GlobalAverageMetrics(null, null);
@@ -1021,8 +1100,15 @@ public class AnalystMetricsService {
      */
     private Map<String, SectorAverageMetrics> calculateSectorAverageMetrics() {
         // 모든 리포트 조회
-        List<Report> allReports = reportRepository.findAll();
+        return calculateSectorAverageMetrics(reportRepository.findAllWithStock());  // 평가 시 섹터 접근
+    }
 
+    /**
+     * 주어진 리포트로 섹터별 평균 메트릭 계산
+     * 섹터 평균은 그 섹터 종목의 리포트로만 정해지므로 일부 섹터의 리포트만 넘기면 그 섹터만 계산됨
+     * @return 섹터별 평균 수익률과 목표가 오차율을 담은 Map
+     */
+    private Map<String, SectorAverageMetrics> calculateSectorAverageMetrics(List<Report> allReports) {
         if (allReports.isEmpty()) {
             return new HashMap<>();
         }
@@ -0,0 +1,192 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.domain.event.AnalystMetricsDirtyEvent;
+import capstone25_2.aim.domain.event.ClosePriceChangedEvent;
+import capstone25_2.aim.repository.ReportRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 애널리스트 지표 재계산 대기열 (coalescing)
+ *
+ * - 리포트 적재/종가 갱신 트랜잭션이 커밋되면 영향받은 애널리스트 ID를 대기 집합에 추가만 하고 바로 반환
+ * - 첫 요청 후 coalesceWindow 동안 들어온 요청은 같은 집합에 합쳐짐 (같은 애널리스트는 한 번만 계산)
+ * - 윈도우가 끝나면 모인 애널리스트만 재계산 후 aim's score 재순위 (AnalystMetricsService.recalculateAnalysts)
+ * - 재계산 실패 시 대기 집합에 되돌려 다음 윈도우에 재시도
+ * - 서버 종료 시 남은 요청은 윈도우를 기다리지 않고 바로 재계산 (@PreDestroy)
+ * - 지표 신선도 게이지: aim.metrics.pending.analysts (대기 애널리스트 수),
+ *   aim.metrics.staleness (가장 오래 기다린 재계산 요청의 대기 시간, 초 / 대기가 없으면 0)
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalystMetricsUpdateQueue {
+
+    private final AnalystMetricsService analystMetricsService;
+    private final ReportRepository reportRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${aim.metrics.coalesce-window-ms:5000}")
+    private long coalesceWindowMs;
+
+    private final Set<Long> pendingAnalystIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final AtomicLong oldestPendingSince = new AtomicLong();  // 대기 중인 요청 중 가장 오래된 등록 시각 (ms, 없으면 0)
+
+    private ScheduledExecutorService worker;
+
+    @PostConstruct
+    public void start() {
+        worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "analyst-metrics-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("aim.metrics.pending.analysts", pendingAnalystIds, Set::size)
+                .description("지표 재계산 대기 중인 애널리스트 수")
+                .register(meterRegistry);
+        Gauge.builder("aim.metrics.staleness", this, AnalystMetricsUpdateQueue::getStalenessSeconds)
+                .description("가장 오래 기다린 지표 재계산 요청의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 리포트 적재 커밋 후 해당 애널리스트를 재계산 대상으로 등록
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAnalystMetricsDirty(AnalystMetricsDirtyEvent event) {
+        markDirty(event.analystIds());
+    }
+
+    /**
+     * 종가 갱신 커밋 후 해당 종가를 평가에 쓰는 애널리스트를 재계산 대상으로 등록
+     * 리포트는 발행일 ~ 1년 후 종가로 평가하므로 [fromDate - 1년, toDate] 발행 리포트가 영향받음
+     * (toDate 당일 발행 리포트도 포함되도록 상한은 toDate 다음 날 0시, 미포함)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClosePriceChanged(ClosePriceChangedEvent event) {
+        Set<Long> analystIds = new HashSet<>();
+        for (Map.Entry<Long, ClosePriceChangedEvent.DateRange> entry : event.rangesByStockId().entrySet()) {
+            ClosePriceChangedEvent.DateRange range = entry.getValue();
+            LocalDateTime from = range.fromDate().minusYears(1).atStartOfDay();
+            LocalDateTime to = range.toDate().plusDays(1).atStartOfDay();
+            analystIds.addAll(reportRepository.findAnalystIdsByStockIdAndReportDateRange(entry.getKey(), from, to));
+        }
+        markDirty(analystIds);
+    }
+
+    /**
+     * 재계산 대상 등록 (윈도우 안의 중복 요청은 합쳐짐)
+     */
+    public void markDirty(Collection<Long> analystIds) {
+        if (analystIds == null || analystIds.isEmpty()) {
+            return;
+        }
+        oldestPendingSince.compareAndSet(0, System.currentTimeMillis());
+        pendingAnalystIds.addAll(analystIds);
+
+        // 윈도우당 한 번만 처리 예약 (종료 중에는 shutdown()이 직접 처리)
+        if (!worker.isShutdown() && drainScheduled.compareAndSet(false, true)) {
+            worker.schedule(this::drainSafely, coalesceWindowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 대기 중인 애널리스트 지표 재계산
+     *
+     * @return 재계산 요청한 애널리스트 수
+     */
+    public synchronized int drain() {
+        drainScheduled.set(false);
+        long drainStartedAt = System.currentTimeMillis();
+
+        Set<Long> batch = new HashSet<>();
+        for (Long analystId : pendingAnalystIds) {
+            if (pendingAnalystIds.remove(analystId)) {
+                batch.add(analystId);
+            }
+        }
+        if (batch.isEmpty()) {
+            oldestPendingSince.set(0);
+            return 0;
+        }
+
+        try {
+            analystMetricsService.recalculateAnalysts(batch);
+        } catch (RuntimeException e) {
+            // 실패 시 대기 집합에 되돌리고 다음 윈도우에 재시도 (대기 시작 시각은 처음 등록 시각 유지)
+            markDirty(batch);
+            throw e;
+        }
+
+        // 재계산이 끝난 뒤에야 반영된 것이므로 대기 시작 시각은 여기서 갱신
+        // (재계산 중 들어온 요청은 정확한 등록 시각 대신 drain 시작 시각을 기준으로 봄)
+        oldestPendingSince.set(pendingAnalystIds.isEmpty() ? 0 : drainStartedAt);
+        return batch.size();
+    }
+
+    /**
+     * 재계산 대기 중인 애널리스트 수
+     */
+    public int getPendingCount() {
+        return pendingAnalystIds.size();
+    }
+
+    /**
+     * 가장 오래 기다린 재계산 요청의 대기 시간 (초, 대기가 없으면 0)
+     */
+    public double getStalenessSeconds() {
+        long since = oldestPendingSince.get();
+        return since == 0 ? 0 : (System.currentTimeMillis() - since) / 1000.0;
+    }
+
+    /**
+     * 서버 종료 시 윈도우를 기다리지 않고 남은 요청을 바로 재계산
+     * 진행 중인 drain이 있으면 끝난 뒤 실행 (drain은 synchronized)
+     * 재계산에 실패한 애널리스트는 다음 기동 후 전체 재계산 API로 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+        if (pendingAnalystIds.isEmpty()) {
+            return;
+        }
+
+        System.out.println("📊 지표 재계산 대기열 종료: 남은 애널리스트 " + pendingAnalystIds.size() + "명 재계산");
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ 종료 전 지표 재계산 실패 (미처리 " + pendingAnalystIds.size() + "명): " + e.getMessage());
+        }
+    }
+
+    private void drainSafely() {
+        try {
+            int count = drain();
+            if (count > 0) {
+                System.out.println("📊 애널리스트 지표 재계산 완료: " + count + "명");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ 애널리스트 지표 재계산 실패 (재시도 예정, 대기 " + pendingAnalystIds.size() + "명): " + e.getMessage());
+        }
+    }
+}
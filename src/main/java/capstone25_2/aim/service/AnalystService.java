@@ -10,7 +10,9 @@ import capstone25_2.aim.domain.entity.Report;
 import capstone25_2.aim.repository.AnalystMetricsRepository;
 import capstone25_2.aim.repository.AnalystRepository;
 import capstone25_2.aim.repository.ReportRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("aim.service")
 @RequiredArgsConstructor
 public class AnalystService {
     private final AnalystRepository analystRepository;
@@ -33,9 +36,10 @@ public class AnalystService {
     }
 
     // 애널리스트가 커버하는 종목 리스트 조회
+    @Cacheable(cacheNames = "analystCoveredStocks", key = "{#analystId, @dataVersion.current()}")
     @Transactional(readOnly = true)
     public List<CoveredStockDTO> getCoveredStocks(Long analystId) {
-        List<Report> reports = reportRepository.findByAnalystIdOrderByReportDateDesc(analystId);
+        List<Report> reports = reportRepository.findWithStockByAnalystIdOrderByReportDateDesc(analystId);
 
         if (reports.isEmpty()) {
             return List.of();
@@ -61,9 +65,10 @@ public class AnalystService {
     }
 
     // 애널리스트의 리포트 목록 조회 (최근 순)
+    @Cacheable(cacheNames = "analystReports", key = "{#analystId, @dataVersion.current()}")
     @Transactional(readOnly = true)
     public List<AnalystReportSummaryDTO> getAnalystReports(Long analystId) {
-        List<Report> reports = reportRepository.findByAnalystIdOrderByReportDateDesc(analystId);
+        List<Report> reports = reportRepository.findWithStockByAnalystIdOrderByReportDateDesc(analystId);
 
         return reports.stream()
                 .map(report -> AnalystReportSummaryDTO.builder()
@@ -81,6 +86,7 @@ public class AnalystService {
     }
 
     // 애널리스트 지표 조회 (순위 포함)
+    @Cacheable(cacheNames = "analystMetrics", key = "{#analystId, @dataVersion.current()}")
     @Transactional(readOnly = true)
     public AnalystMetricsDTO getAnalystMetrics(Long analystId) {
         Optional<AnalystMetrics> metricsOpt = analystMetricsRepository.findByAnalystId(analystId);
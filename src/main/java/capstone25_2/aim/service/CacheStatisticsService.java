@@ -0,0 +1,65 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.domain.dto.cache.CacheStatsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 통계 조회
+ * - 종목/애널리스트 엔티티 캐시와 자연 키 캐시의 적중/미스 수를 영역별로 반환
+ */
+@Service
+@Timed("aim.service")
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheStatsDTO getCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<CacheStatsDTO.RegionStats> regions = new ArrayList<>();
+        for (String regionName : sortedRegionNames(statistics)) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+            regions.add(CacheStatsDTO.RegionStats.builder()
+                    .regionName(regionName)
+                    .hitCount(region.getHitCount())
+                    .missCount(region.getMissCount())
+                    .putCount(region.getPutCount())
+                    .elementCountInMemory(region.getElementCountInMemory())
+                    .build());
+        }
+
+        long hitCount = statistics.getSecondLevelCacheHitCount();
+        long missCount = statistics.getSecondLevelCacheMissCount();
+
+        return CacheStatsDTO.builder()
+                .statisticsEnabled(statistics.isStatisticsEnabled())
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .putCount(statistics.getSecondLevelCachePutCount())
+                .hitRatio(hitCount + missCount == 0 ? null : hitCount * 100.0 / (hitCount + missCount))
+                .naturalIdHitCount(statistics.getNaturalIdCacheHitCount())
+                .naturalIdMissCount(statistics.getNaturalIdCacheMissCount())
+                .naturalIdPutCount(statistics.getNaturalIdCachePutCount())
+                .regions(regions)
+                .build();
+    }
+
+    private static List<String> sortedRegionNames(Statistics statistics) {
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        return regionNames == null ? List.of() : Arrays.stream(regionNames).sorted().toList();
+    }
+}
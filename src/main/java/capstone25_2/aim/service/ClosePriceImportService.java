@@ -0,0 +1,235 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.domain.dto.stock.ClosePriceImportSummaryDTO;
+import capstone25_2.aim.domain.dto.stock.ClosePriceRowDTO;
+import capstone25_2.aim.domain.entity.ClosePrice;
+import capstone25_2.aim.domain.entity.Stock;
+import capstone25_2.aim.domain.event.ClosePriceChangedEvent;
+import capstone25_2.aim.repository.JdbcBulkLoader;
+import capstone25_2.aim.repository.StockRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 종가 스트리밍 적재 (CSV / NDJSON)
+ *
+ * - 입력을 한 행씩 읽어 chunkSize개마다 별도 트랜잭션으로 UPSERT (uk_stock_trade_date 기준)
+ * - 청크마다 종목별 거래일 범위를 담은 ClosePriceChangedEvent 발행 (커밋 후 리스너 실행)
+ * - 결과로 종목별 영향받은 거래일 범위를 반환
+ */
+@Service
+@Timed("aim.service")
+@RequiredArgsConstructor
+public class ClosePriceImportService {
+
+    private final StockRepository stockRepository;
+    private final JdbcBulkLoader jdbcBulkLoader;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${aim.ingest.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * CSV 적재 (첫 행은 헤더로 스킵)
+     * CSV 컬럼 순서: stockCode, tradeDate(yyyy-MM-dd), closePrice
+     */
+    public ClosePriceImportSummaryDTO importCsv(InputStream inputStream) throws IOException, CsvValidationException {
+        ImportSession session = new ImportSession();
+
+        try (CSVReader reader = new CSVReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            if (reader.readNext() == null) {
+                return session.finish();
+            }
+
+            String[] row;
+            while ((row = reader.readNext()) != null) {
+                session.accept(parseCsvRow(row));
+            }
+        }
+
+        return session.finish();
+    }
+
+    /**
+     * NDJSON 적재 (한 줄에 {"stock_code": ..., "trade_date": ..., "close_price": ...} 하나)
+     * 줄 단위로 파싱하므로 깨진 줄은 parse_error로 세고 다음 줄부터 계속 적재 (CSV와 동일)
+     */
+    public ClosePriceImportSummaryDTO importNdjson(InputStream inputStream) throws IOException {
+        ImportSession session = new ImportSession();
+        ObjectReader rowReader = objectMapper.readerFor(ClosePriceRowDTO.class);
+
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                session.accept(parseNdjsonLine(rowReader, line));
+            }
+        }
+
+        return session.finish();
+    }
+
+    private static ClosePriceRowDTO parseNdjsonLine(ObjectReader rowReader, String line) {
+        try {
+            return rowReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private ClosePriceRowDTO parseCsvRow(String[] row) {
+        if (row.length < 3) {
+            return null;
+        }
+        try {
+            return ClosePriceRowDTO.builder()
+                    .stockCode(ReportCsvParser.normalizeStockCode(row[0].trim()))
+                    .tradeDate(LocalDate.parse(row[1].trim()))
+                    .closePrice(Integer.parseInt(row[2].trim()))
+                    .build();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 한 번의 적재 요청 동안의 상태 (청크, 통계, 종목별 범위)
+     */
+    private final class ImportSession {
+
+        private final Map<String, Stock> stockByCode = new HashMap<>();
+        private final List<ClosePrice> chunk = new ArrayList<>(chunkSize);
+        private final Map<Long, RangeCounter> totalRanges = new LinkedHashMap<>();
+        private final ClosePriceImportSummaryDTO summary = new ClosePriceImportSummaryDTO();
+
+        ImportSession() {
+            // 종목 수는 수천 개 수준이므로 적재 시작 시 한 번에 적재
+            for (Stock stock : stockRepository.findAll()) {
+                stockByCode.put(stock.getStockCode(), stock);
+            }
+        }
+
+        void accept(ClosePriceRowDTO row) {
+            summary.setTotalRows(summary.getTotalRows() + 1);
+
+            if (row == null || row.getStockCode() == null || row.getTradeDate() == null || row.getClosePrice() == null) {
+                summary.setParseError(summary.getParseError() + 1);
+                countRows("parse_error", 1);
+                return;
+            }
+
+            Stock stock = stockByCode.get(ReportCsvParser.normalizeStockCode(row.getStockCode().trim()));
+            if (stock == null) {
+                summary.setUnknownStockRows(summary.getUnknownStockRows() + 1);
+                countRows("unknown_stock", 1);
+                return;
+            }
+
+            ClosePrice closePrice = new ClosePrice();
+            closePrice.setStock(stock);
+            closePrice.setTradeDate(row.getTradeDate());
+            closePrice.setClosePrice(row.getClosePrice());
+            chunk.add(closePrice);
+
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        ClosePriceImportSummaryDTO finish() {
+            if (!chunk.isEmpty()) {
+                flush();
+            }
+
+            List<ClosePriceImportSummaryDTO.StockRange> ranges = new ArrayList<>(totalRanges.size());
+            totalRanges.forEach((stockId, range) -> ranges.add(ClosePriceImportSummaryDTO.StockRange.builder()
+                    .stockId(stockId)
+                    .stockCode(range.stockCode)
+                    .fromDate(range.fromDate)
+                    .toDate(range.toDate)
+                    .rowCount(range.rowCount)
+                    .build()));
+            summary.setTouchedRanges(ranges);
+
+            System.out.println("📈 종가 적재 완료: 총 " + summary.getTotalRows() + "행, 저장 " + summary.getUpsertedRows()
+                    + "행, 종목 없음 " + summary.getUnknownStockRows() + "행, 형식 오류 " + summary.getParseError()
+                    + "행, 종목 " + ranges.size() + "개");
+            return summary;
+        }
+
+        private void flush() {
+            Map<Long, RangeCounter> chunkRanges = new HashMap<>();
+            for (ClosePrice closePrice : chunk) {
+                Stock stock = closePrice.getStock();
+                chunkRanges.computeIfAbsent(stock.getId(), id -> new RangeCounter(stock.getStockCode()))
+                        .add(closePrice.getTradeDate());
+                totalRanges.computeIfAbsent(stock.getId(), id -> new RangeCounter(stock.getStockCode()))
+                        .add(closePrice.getTradeDate());
+            }
+
+            Map<Long, ClosePriceChangedEvent.DateRange> eventRanges = new HashMap<>();
+            chunkRanges.forEach((stockId, range) ->
+                    eventRanges.put(stockId, new ClosePriceChangedEvent.DateRange(range.fromDate, range.toDate)));
+
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcBulkLoader.upsertClosePrices(chunk);
+                // 트랜잭션 안에서 발행 → @TransactionalEventListener는 커밋 후 실행
+                eventPublisher.publishEvent(new ClosePriceChangedEvent(eventRanges));
+            });
+
+            countRows("upserted", chunk.size());
+            summary.setUpsertedRows(summary.getUpsertedRows() + chunk.size());
+            summary.setChunkCount(summary.getChunkCount() + 1);
+            chunk.clear();
+        }
+    }
+
+    // 적재 결과별 행 수 (aim.ingest.rows, outcome: upserted / unknown_stock / parse_error)
+    private void countRows(String outcome, int rows) {
+        meterRegistry.counter("aim.ingest.rows", "type", "close_price", "outcome", outcome).increment(rows);
+    }
+
+    private static final class RangeCounter {
+        private final String stockCode;
+        private LocalDate fromDate;
+        private LocalDate toDate;
+        private int rowCount;
+
+        RangeCounter(String stockCode) {
+            this.stockCode = stockCode;
+        }
+
+        void add(LocalDate date) {
+            if (fromDate == null || date.isBefore(fromDate)) {
+                fromDate = date;
+            }
+            if (toDate == null || date.isAfter(toDate)) {
+                toDate = date;
+            }
+            rowCount++;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.domain.event.ClosePriceChangedEvent;
+import capstone25_2.aim.domain.event.DerivedDataChangedEvent;
+import capstone25_2.aim.domain.event.ReferenceDataChangedEvent;
+import capstone25_2.aim.domain.event.ReportsChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회 결과 캐시와 ETag의 데이터 버전
+ *
+ * - 전체 버전: 리포트/종가 적재, 애널리스트 생성, 지표 재계산, prevReport 재연결이 커밋되면 1 증가
+ * - 파생 버전: 지표 재계산, prevReport 재연결처럼 모든 종목/애널리스트 화면에 영향을 주는 변경만 증가
+ * - 종목별/애널리스트별 버전: 해당 종목·애널리스트의 리포트나 종가가 바뀐 경우만 증가
+ *   (종목 상세 ETag = 종목 버전 + 파생 버전 → 다른 종목 적재로는 바뀌지 않음)
+ * - 캐시 키에 현재 버전을 포함하므로 (@Cacheable key = "{#stockId, @dataVersion.current()}")
+ *   쓰기가 일어나면 이전 버전 항목은 더 이상 조회되지 않고, 캐시의 크기 제한/만료로 자연스럽게 밀려남
+ * - 캐시 항목을 직접 지우지 않으므로 새로운 쓰기 경로가 생겨도 이벤트만 발행하면 됨
+ * - 메모리에만 있으므로 재시작하면 0부터 다시 시작 → 재시작 전 ETag와 구분하도록 기동 시각(epoch)을 함께 사용
+ */
+@Component
+public class DataVersion {
+
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong derivedVersion = new AtomicLong();
+    private final Map<Long, Long> stockVersions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> analystVersions = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportsChanged(ReportsChangedEvent event) {
+        bumpAll(stockVersions, event.stockIds());
+        bumpAll(analystVersions, event.analystIds());
+        bump();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClosePriceChanged(ClosePriceChangedEvent event) {
+        bumpAll(stockVersions, event.rangesByStockId().keySet());
+        bump();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        bump();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDerivedDataChanged(DerivedDataChangedEvent event) {
+        derivedVersion.incrementAndGet();
+        bump();
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    public long bump() {
+        return version.incrementAndGet();
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    public long derived() {
+        return derivedVersion.get();
+    }
+
+    public long stock(Long stockId) {
+        return stockVersions.getOrDefault(stockId, 0L);
+    }
+
+    public long analyst(Long analystId) {
+        return analystVersions.getOrDefault(analystId, 0L);
+    }
+
+    private static void bumpAll(Map<Long, Long> versions, Collection<Long> ids) {
+        for (Long id : ids) {
+            versions.merge(id, 1L, Long::sum);
+        }
+    }
+}
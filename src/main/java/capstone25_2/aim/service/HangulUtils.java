@@ -0,0 +1,120 @@
+package capstone25_2.aim.service;
+
+/**
+ * 한글 자모 분해 / 초성 추출 유틸
+ *
+ * - 음절(가~힣)은 초성 + 중성 + 종성 호환 자모로 분해 (겹모음/겹받침도 낱자로 분해)
+ *   예) "삼성" → "ㅅㅏㅁㅅㅓㅇ", "와" → "ㅇㅗㅏ"
+ *   → 입력 중인 마지막 음절("삼서")도 분해 결과의 접두사로 매칭됨
+ * - 초성 추출: "삼성전자" → "ㅅㅅㅈㅈ"
+ * - 한글 외 문자는 소문자로 그대로 유지
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 자모 단위로 분해 (공백 제거, 소문자)
+     */
+    public static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                sb.append(CHOSEONG[index / (21 * 28)]);
+                sb.append(JUNGSEONG[(index % (21 * 28)) / 28]);
+                sb.append(JONGSEONG[index % 28]);
+            } else if (!Character.isWhitespace(c)) {
+                sb.append(decomposeJamo(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성만 추출 (공백 제거, 한글 외 문자는 소문자로 유지)
+     */
+    public static String choseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                sb.append(CHOSEONG[(c - SYLLABLE_BEGIN) / (21 * 28)]);
+            } else if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 자음(호환 자모)만으로 이루어진 입력인지 ("ㅅㅅ", "ㅅㅅㅈ" 등)
+     */
+    public static boolean isChoseongOnly(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+            hasConsonant = true;
+        }
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /**
+     * 단독으로 입력된 겹자모를 낱자로 분해 ("ㄳ" → "ㄱㅅ", "ㅘ" → "ㅗㅏ")
+     */
+    private static String decomposeJamo(char c) {
+        return switch (c) {
+            case 'ㄳ' -> "ㄱㅅ";
+            case 'ㄵ' -> "ㄴㅈ";
+            case 'ㄶ' -> "ㄴㅎ";
+            case 'ㄺ' -> "ㄹㄱ";
+            case 'ㄻ' -> "ㄹㅁ";
+            case 'ㄼ' -> "ㄹㅂ";
+            case 'ㄽ' -> "ㄹㅅ";
+            case 'ㄾ' -> "ㄹㅌ";
+            case 'ㄿ' -> "ㄹㅍ";
+            case 'ㅀ' -> "ㄹㅎ";
+            case 'ㅄ' -> "ㅂㅅ";
+            case 'ㅘ' -> "ㅗㅏ";
+            case 'ㅙ' -> "ㅗㅐ";
+            case 'ㅚ' -> "ㅗㅣ";
+            case 'ㅝ' -> "ㅜㅓ";
+            case 'ㅞ' -> "ㅜㅔ";
+            case 'ㅟ' -> "ㅜㅣ";
+            case 'ㅢ' -> "ㅡㅣ";
+            default -> String.valueOf(Character.toLowerCase(c));
+        };
+    }
+}
@@ -7,17 +7,20 @@ import capstone25_2.aim.domain.entity.Analyst;
 import capstone25_2.aim.domain.entity.AnalystMetrics;
 import capstone25_2.aim.repository.AnalystMetricsRepository;
 import capstone25_2.aim.repository.AnalystRepository;
-import capstone25_2.aim.repository.SearchLogRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("aim.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class HomeService {
@@ -26,7 +29,7 @@ public class HomeService {
     private final AnalystRepository analystRepository;
     private final StockService stockService;
     private final SectorService sectorService;
-    private final SearchLogRepository searchLogRepository;
+    private final SearchTrendCounter searchTrendCounter;
 
     /**
      * 홈 화면 데이터 조회
@@ -34,7 +37,10 @@ public class HomeService {
      * - TOP 3 상승여력 종목
      * - TOP 3 매수 섹터
      * - TOP 3 검색량 애널리스트 (최근 7일)
+     *
+     * 트렌딩 애널리스트가 메모리 카운터 기반이라 통째로 캐시하지 않고, 동시 요청만 한 번의 집계로 합침
      */
+    @SingleFlight(staleWhileRevalidate = true)
     public HomeResponseDTO getHomeData() {
         List<TopAnalystDTO> topAnalysts = getTopAnalysts();
         List<TopStockDTO> topStocks = getTopStocks();
@@ -53,7 +59,7 @@ public class HomeService {
      * TOP 3 신뢰도 애널리스트 (aimsScore 기준)
      */
     private List<TopAnalystDTO> getTopAnalysts() {
-        List<AnalystMetrics> allMetrics = analystMetricsRepository.findAll();
+        List<AnalystMetrics> allMetrics = analystMetricsRepository.findAllWithAnalyst();
 
         return allMetrics.stream()
                 .filter(metrics -> metrics.getAimsScore() != null)
@@ -111,23 +117,25 @@ public class HomeService {
 
     /**
      * TOP 3 검색량 애널리스트 (최근 7일)
+     * 메모리 카운터에서 TOP 3를 읽고, 애널리스트 정보는 한 번에 조회
      */
     private List<TrendingAnalystDTO> getTrendingAnalysts() {
-        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-        List<Object[]> results = searchLogRepository.findTop3TrendingAnalysts(weekAgo);
+        List<SearchTrendCounter.TrendEntry> topEntries = searchTrendCounter.getTopAnalysts(3);
 
-        if (results.isEmpty()) {
+        if (topEntries.isEmpty()) {
             return List.of();
         }
 
-        return results.stream()
-                .limit(3)
-                .map(result -> {
-                    Long analystId = (Long) result[0];
-                    Long searchCount = (Long) result[1];
+        List<Long> analystIds = topEntries.stream()
+                .map(SearchTrendCounter.TrendEntry::analystId)
+                .collect(Collectors.toList());
+
+        Map<Long, Analyst> analystMap = analystRepository.findAllById(analystIds).stream()
+                .collect(Collectors.toMap(Analyst::getId, Function.identity()));
 
-                    Analyst analyst = analystRepository.findById(analystId)
-                            .orElse(null);
+        return topEntries.stream()
+                .map(entry -> {
+                    Analyst analyst = analystMap.get(entry.analystId());
 
                     if (analyst == null) {
                         return null;
@@ -137,10 +145,10 @@ public class HomeService {
                             .analystId(analyst.getId())
                             .analystName(analyst.getAnalystName())
                             .firmName(analyst.getFirmName())
-                            .searchCount(searchCount)
+                            .searchCount(entry.searchCount())
                             .build();
                 })
-                .filter(dto -> dto != null)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 }
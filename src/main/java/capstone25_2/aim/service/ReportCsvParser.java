@@ -0,0 +1,237 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.domain.dto.report.ReportRequestDTO;
+import capstone25_2.aim.domain.entity.SurfaceOpinion;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 리포트 CSV 한 행을 ReportRequestDTO로 변환 (NDJSON 등 객체 입력은 validate로 같은 규칙 적용)
+ * CSV 컬럼 순서: analystName, firmName, hiddenOpinion, reportDate, reportTitle, stockCode, surfaceOpinion, targetPrice
+ *
+ * 스킵 규칙:
+ * - 컬럼 수가 8개 미만
+ * - 컬럼이 하나라도 비어있음
+ * - analystName이 4글자 이상
+ * - 날짜/숫자/의견 파싱 오류
+ */
+@Component
+public class ReportCsvParser {
+
+    public static final int COLUMN_COUNT = 8;
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final SurfaceOpinion[] SURFACE_OPINIONS = SurfaceOpinion.values();
+
+    public enum SkipReason {
+        COLUMN_COUNT,
+        EMPTY_COLUMN,
+        ANALYST_NAME_TOO_LONG,
+        PARSE_ERROR
+    }
+
+    /**
+     * 행 파싱 결과 (성공 시 request, 스킵 시 skipReason)
+     */
+    public record RowResult(ReportRequestDTO request, SkipReason skipReason, String errorMessage) {
+
+        static RowResult success(ReportRequestDTO request) {
+            return new RowResult(request, null, null);
+        }
+
+        static RowResult skip(SkipReason reason) {
+            return new RowResult(null, reason, null);
+        }
+
+        static RowResult parseError(String errorMessage) {
+            return new RowResult(null, SkipReason.PARSE_ERROR, errorMessage);
+        }
+
+        public boolean isSkipped() {
+            return skipReason != null;
+        }
+    }
+
+    public RowResult parseRow(String[] row) {
+        // 컬럼 수가 8개가 아니면 스킵
+        if (row.length < COLUMN_COUNT) {
+            return RowResult.skip(SkipReason.COLUMN_COUNT);
+        }
+
+        try {
+            // 각 컬럼 값 추출 및 trim
+            String analystName = row[0].trim();
+            String firmName = row[1].trim();
+            String hiddenOpinionStr = row[2].trim();
+            String reportDateStr = row[3].trim();
+            String reportTitle = row[4].trim();
+            String stockCode = normalizeStockCode(row[5].trim());
+            String surfaceOpinionStr = row[6].trim();
+            String targetPriceStr = row[7].trim();
+
+            // 컬럼이 하나라도 비어있으면 스킵
+            if (analystName.isEmpty() || firmName.isEmpty() || hiddenOpinionStr.isEmpty() ||
+                    reportDateStr.isEmpty() || reportTitle.isEmpty() || stockCode.isEmpty() ||
+                    surfaceOpinionStr.isEmpty() || targetPriceStr.isEmpty()) {
+                return RowResult.skip(SkipReason.EMPTY_COLUMN);
+            }
+
+            // analystName이 4글자 이상이면 스킵
+            if (analystName.length() >= 4) {
+                return RowResult.skip(SkipReason.ANALYST_NAME_TOO_LONG);
+            }
+
+            ReportRequestDTO.AnalystInfo analystInfo = ReportRequestDTO.AnalystInfo.builder()
+                    .analystName(analystName)
+                    .firmName(firmName)
+                    .build();
+
+            ReportRequestDTO.ReportInfo reportInfo = ReportRequestDTO.ReportInfo.builder()
+                    .stockCode(stockCode)
+                    .reportTitle(reportTitle)
+                    .reportDate(parseDate(reportDateStr))
+                    .targetPrice(Integer.parseInt(targetPriceStr))
+                    .surfaceOpinion(parseSurfaceOpinion(surfaceOpinionStr))
+                    .hiddenOpinion(Double.parseDouble(hiddenOpinionStr))
+                    .build();
+
+            // 빈 값/이름 길이/종목코드 정규화는 위에서 처리했으므로 validate를 다시 거치지 않음
+            return RowResult.success(ReportRequestDTO.builder()
+                    .analyst(analystInfo)
+                    .report(reportInfo)
+                    .build());
+        } catch (Exception e) {
+            // 파싱 오류 발생 시 해당 행 스킵 (예: 날짜 형식 오류, 숫자 변환 오류 등)
+            return RowResult.parseError(e.getMessage());
+        }
+    }
+
+    /**
+     * JSON 등으로 이미 객체화된 요청에 CSV와 같은 스킵 규칙 적용
+     * (필수 값 누락 → EMPTY_COLUMN, 애널리스트명 4글자 이상 → ANALYST_NAME_TOO_LONG)
+     * 통과하면 문자열 값을 trim하고 stockCode를 6자리로 정규화
+     */
+    public RowResult validate(ReportRequestDTO request) {
+        if (request == null || request.getAnalyst() == null || request.getReport() == null) {
+            return RowResult.skip(SkipReason.EMPTY_COLUMN);
+        }
+
+        ReportRequestDTO.AnalystInfo analyst = request.getAnalyst();
+        ReportRequestDTO.ReportInfo report = request.getReport();
+        if (isBlank(analyst.getAnalystName()) || isBlank(analyst.getFirmName()) ||
+                report.getHiddenOpinion() == null || report.getReportDate() == null ||
+                isBlank(report.getReportTitle()) || isBlank(report.getStockCode()) ||
+                report.getSurfaceOpinion() == null || report.getTargetPrice() == null) {
+            return RowResult.skip(SkipReason.EMPTY_COLUMN);
+        }
+
+        analyst.setAnalystName(analyst.getAnalystName().trim());
+        analyst.setFirmName(analyst.getFirmName().trim());
+        report.setReportTitle(report.getReportTitle().trim());
+
+        // analystName이 4글자 이상이면 스킵
+        if (analyst.getAnalystName().length() >= 4) {
+            return RowResult.skip(SkipReason.ANALYST_NAME_TOO_LONG);
+        }
+
+        try {
+            report.setStockCode(normalizeStockCode(report.getStockCode().trim()));
+        } catch (NumberFormatException e) {
+            return RowResult.parseError(e.getMessage());
+        }
+
+        return RowResult.success(request);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * stockCode를 6자리로 패딩 (DB에는 007393 형식으로 저장됨)
+     * 행마다 호출되므로 정규식/String.format 없이 문자 단위로 처리
+     * (숫자로만 이루어진 경우 앞의 0을 정리하고 6자리로 채움, 그 외는 그대로 반환)
+     */
+    static String normalizeStockCode(String stockCode) {
+        int length = stockCode.length();
+        if (length == 0) {
+            return stockCode;
+        }
+
+        int firstNonZero = -1;
+        for (int i = 0; i < length; i++) {
+            char c = stockCode.charAt(i);
+            if (c < '0' || c > '9') {
+                return stockCode;  // 숫자가 아닌 문자가 있으면 그대로
+            }
+            if (firstNonZero < 0 && c != '0') {
+                firstNonZero = i;
+            }
+        }
+
+        if (firstNonZero < 0) {
+            return "000000";
+        }
+        int digits = length - firstNonZero;
+        if (digits > 9) {
+            // int 범위를 넘을 수 있는 긴 숫자는 기존과 같이 parseInt 결과를 따름 (범위 초과 시 NumberFormatException)
+            return Integer.toString(Integer.parseInt(stockCode));
+        }
+        if (length == 6) {
+            return stockCode;  // 이미 6자리 (가장 흔한 경우) → 할당 없음
+        }
+        if (digits >= 6) {
+            return stockCode.substring(firstNonZero);
+        }
+
+        char[] padded = {'0', '0', '0', '0', '0', '0'};
+        stockCode.getChars(firstNonZero, length, padded, 6 - digits);
+        return new String(padded);
+    }
+
+    /**
+     * yyyy-MM-dd 날짜 파싱 (정확히 10자인 일반적인 형식은 DateTimeFormatter 없이 직접 파싱)
+     * 그 외 형식은 기존 DATE_FORMATTER로 처리하여 같은 결과/예외를 유지
+     */
+    static LocalDate parseDate(String value) {
+        if (value.length() == 10 && value.charAt(4) == '-' && value.charAt(7) == '-') {
+            int year = digitsAt(value, 0, 4);
+            int month = digitsAt(value, 5, 7);
+            int day = digitsAt(value, 8, 10);
+            if (year >= 1 && month >= 1 && month <= 12 && day >= 1 && day <= 31) {
+                // DATE_FORMATTER(SMART)와 같이 29~31일은 해당 월의 말일로 보정
+                YearMonth yearMonth = YearMonth.of(year, month);
+                return yearMonth.atDay(Math.min(day, yearMonth.lengthOfMonth()));
+            }
+        }
+        return LocalDate.parse(value, DATE_FORMATTER);
+    }
+
+    /**
+     * 표면 의견 파싱 (대소문자 무시, toUpperCase 문자열 할당 없음)
+     */
+    static SurfaceOpinion parseSurfaceOpinion(String value) {
+        for (SurfaceOpinion opinion : SURFACE_OPINIONS) {
+            if (opinion.name().equalsIgnoreCase(value)) {
+                return opinion;
+            }
+        }
+        throw new IllegalArgumentException("No enum constant SurfaceOpinion." + value);
+    }
+
+    // value[from, to)가 모두 숫자이면 그 값, 아니면 -1
+    private static int digitsAt(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+}
@@ -0,0 +1,420 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.domain.dto.report.ReportIngestSummaryDTO;
+import capstone25_2.aim.domain.dto.report.ReportRequestDTO;
+import capstone25_2.aim.domain.entity.IngestLedger;
+import capstone25_2.aim.repository.IngestLedgerRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 리포트 스트리밍 적재 (CSV 업로드 / NDJSON 스트림)
+ *
+ * - 입력을 한 행씩 읽어 파싱 → 전체 파일/본문을 메모리에 올리지 않음
+ * - CSV는 레코드 블록 단위로 여러 스레드에서 병렬 파싱하고, 결과는 입력 순서대로 청크에 반영
+ * - chunkSize개가 모이면 ReportService.saveReportChunk로 저장 (청크마다 별도 트랜잭션)
+ * - 파일 크기와 무관하게 메모리 사용량은 청크 하나 분량으로 유지
+ * - 업로드 파일은 파일/청크 해시를 적재 원장(ingest_ledger)에 기록
+ *   → 같은 파일을 다시 올리면 커밋된 청크는 DB 작업 없이 건너뛰고 실패한 청크부터 이어서 적재
+ */
+@Service
+@Timed("aim.service")
+@RequiredArgsConstructor
+public class ReportIngestService {
+
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    private final ReportService reportService;
+    private final ReportCsvParser reportCsvParser;
+    private final ObjectMapper objectMapper;
+    private final IngestLedgerRepository ingestLedgerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${aim.ingest.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${aim.ingest.parse-parallelism:0}")
+    private int parseParallelism;  // 0이면 CPU 코어 수
+
+    @Value("${aim.ingest.parse-block-size:1024}")
+    private int parseBlockSize;
+
+    private ExecutorService parseExecutor;  // null이면 요청 스레드에서 순차 파싱
+    private int parseThreads;
+
+    /**
+     * CSV 파싱 스레드 풀 생성 (스레드가 1개면 순차 파싱)
+     */
+    @PostConstruct
+    public void start() {
+        parseThreads = parseParallelism > 0 ? parseParallelism : Runtime.getRuntime().availableProcessors();
+        if (parseThreads <= 1) {
+            return;
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        parseExecutor = Executors.newFixedThreadPool(parseThreads, runnable -> {
+            Thread thread = new Thread(runnable, "report-csv-parser-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (parseExecutor != null) {
+            parseExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 업로드 파일 적재 (재시도 가능)
+     * 1. 파일 전체 SHA-256 계산 (스트리밍, 파일은 다시 읽을 수 있어야 함 - MultipartFile 등)
+     * 2. 원장에서 이 파일의 커밋된 청크를 한 번에 조회
+     * 3. 청크마다 원본 행 해시를 계산해 원장과 같으면 건너뛰고, 아니면 저장 + 원장 기록을 한 트랜잭션으로 커밋
+     */
+    public ReportIngestSummaryDTO ingestCsv(InputStreamSource file) throws IOException, CsvValidationException {
+        String fileHash = hashOf(file);
+
+        Map<Integer, IngestLedger> committedChunks = new HashMap<>();
+        for (IngestLedger ledger : ingestLedgerRepository.findByFileHash(fileHash)) {
+            committedChunks.put(ledger.getChunkIndex(), ledger);
+        }
+        if (!committedChunks.isEmpty()) {
+            System.out.println("🔁 이전 업로드 이어서 적재: 커밋된 청크 " + committedChunks.size() + "개 (파일 " + fileHash + ")");
+        }
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return ingestCsv(inputStream, new IngestSession(fileHash, committedChunks));
+        }
+    }
+
+    /**
+     * CSV 스트림을 읽어 청크 단위로 저장 (첫 행은 헤더로 스킵, 원장 미사용)
+     */
+    public ReportIngestSummaryDTO ingestCsv(InputStream inputStream) throws IOException, CsvValidationException {
+        return ingestCsv(inputStream, new IngestSession(null, Map.of()));
+    }
+
+    private ReportIngestSummaryDTO ingestCsv(InputStream inputStream, IngestSession session)
+            throws IOException, CsvValidationException {
+        try (CSVReader reader = new CSVReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            // 첫 번째 행은 헤더로 스킵
+            if (reader.readNext() == null) {
+                return session.summary;
+            }
+
+            if (parseExecutor == null) {
+                String[] row;
+                while ((row = reader.readNext()) != null) {
+                    session.digest(row);
+                    session.accept(reportCsvParser.parseRow(row));
+                }
+            } else {
+                parseInParallel(reader, session);
+            }
+        }
+
+        return session.finish();
+    }
+
+    /**
+     * 레코드 블록 단위 병렬 파싱
+     * - 요청 스레드가 CSVReader로 레코드를 parseBlockSize개씩 묶음 (따옴표 안 줄바꿈도 한 레코드로 유지)
+     * - 블록 파싱/검증은 parseExecutor에서 병렬 실행
+     * - 결과는 제출 순서대로 꺼내 청크에 반영 → 저장 순서, 청크 경계, 청크 해시는 순차 처리와 동일
+     * - 진행 중인 블록 수를 스레드 수 × 2로 제한 (청크 저장이 느리면 읽기도 멈춤 → 메모리 사용량 고정)
+     */
+    private void parseInParallel(CSVReader reader, IngestSession session) throws IOException, CsvValidationException {
+        int maxInFlight = parseThreads * 2;
+        Deque<Future<ParsedBlock>> inFlight = new ArrayDeque<>(maxInFlight);
+
+        try {
+            List<String[]> block = new ArrayList<>(parseBlockSize);
+            String[] row;
+            while ((row = reader.readNext()) != null) {
+                block.add(row);
+                if (block.size() >= parseBlockSize) {
+                    inFlight.add(submitBlock(block));
+                    block = new ArrayList<>(parseBlockSize);
+                    if (inFlight.size() >= maxInFlight) {
+                        applyBlock(inFlight.poll(), session);
+                    }
+                }
+            }
+            if (!block.isEmpty()) {
+                inFlight.add(submitBlock(block));
+            }
+            while (!inFlight.isEmpty()) {
+                applyBlock(inFlight.poll(), session);
+            }
+        } finally {
+            // 청크 저장 실패 등으로 중단된 경우 남은 파싱 작업 취소
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private Future<ParsedBlock> submitBlock(List<String[]> rows) {
+        return parseExecutor.submit(() -> {
+            ReportCsvParser.RowResult[] results = new ReportCsvParser.RowResult[rows.size()];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = reportCsvParser.parseRow(rows.get(i));
+            }
+            return new ParsedBlock(rows, results);
+        });
+    }
+
+    private void applyBlock(Future<ParsedBlock> future, IngestSession session) {
+        ParsedBlock block;
+        try {
+            block = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("CSV parsing interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("CSV parsing failed", e.getCause());
+        }
+
+        for (int i = 0; i < block.results.length; i++) {
+            session.digest(block.rows.get(i));
+            session.accept(block.results[i]);
+        }
+    }
+
+    // 병렬 파싱된 블록 (원본 레코드 + 행별 파싱 결과)
+    private record ParsedBlock(List<String[]> rows, ReportCsvParser.RowResult[] results) {
+    }
+
+    /**
+     * NDJSON 스트림을 읽어 청크 단위로 저장 (한 줄에 ReportRequestDTO 하나)
+     *
+     * 요청 본문을 한 줄씩 읽으며 처리하므로 전체 본문을 버퍼링하지 않음.
+     * 청크 저장 중에는 본문을 더 읽지 않으므로 TCP 흐름 제어로 송신 측 속도가 자연스럽게 조절됨 (backpressure)
+     * 깨진 줄은 CSV와 같이 PARSE_ERROR로 세고 다음 줄부터 계속 처리
+     */
+    public ReportIngestSummaryDTO ingestNdjson(InputStream inputStream) throws IOException {
+        IngestSession session = new IngestSession(null, Map.of());
+        ObjectReader rowReader = objectMapper.readerFor(ReportRequestDTO.class);
+
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                session.accept(parseNdjsonLine(rowReader, line));
+            }
+        }
+
+        return session.finish();
+    }
+
+    private ReportCsvParser.RowResult parseNdjsonLine(ObjectReader rowReader, String line) {
+        try {
+            return reportCsvParser.validate(rowReader.readValue(line));
+        } catch (JsonProcessingException e) {
+            return ReportCsvParser.RowResult.parseError(e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * 한 번의 적재 요청 동안의 상태 (청크, 통계, 원장)
+     * fileHash가 null이면 원장을 쓰지 않음 (다시 읽을 수 없는 스트림)
+     */
+    private final class IngestSession {
+
+        private final String fileHash;
+        private final Map<Integer, IngestLedger> committedChunks;
+        private final MessageDigest chunkDigest;
+        private final List<ReportRequestDTO> chunk = new ArrayList<>(chunkSize);
+        private final ReportIngestSummaryDTO summary = new ReportIngestSummaryDTO();
+        private int chunkIndex;
+
+        IngestSession(String fileHash, Map<Integer, IngestLedger> committedChunks) {
+            this.fileHash = fileHash;
+            this.committedChunks = committedChunks;
+            this.chunkDigest = fileHash == null ? null : newSha256();
+            summary.setFileHash(fileHash);
+        }
+
+        /**
+         * 원본 행을 현재 청크 해시에 반영 (스킵된 행 포함 → 청크 경계까지 읽은 모든 행)
+         */
+        void digest(String[] row) {
+            if (chunkDigest == null) {
+                return;
+            }
+            for (String field : row) {
+                chunkDigest.update(field.getBytes(StandardCharsets.UTF_8));
+                chunkDigest.update((byte) 0x1F);  // 필드 구분자
+            }
+            chunkDigest.update((byte) '\n');
+        }
+
+        void accept(ReportCsvParser.RowResult result) {
+            summary.setTotalRows(summary.getTotalRows() + 1);
+
+            if (result.isSkipped()) {
+                countSkip(summary, result);
+                return;
+            }
+
+            summary.setParsedRows(summary.getParsedRows() + 1);
+            chunk.add(result.request());
+            if (chunk.size() >= chunkSize) {
+                saveChunk();
+            }
+        }
+
+        ReportIngestSummaryDTO finish() {
+            if (!chunk.isEmpty()) {
+                saveChunk();
+            }
+
+            printSummary(summary);
+            return summary;
+        }
+
+        private void saveChunk() {
+            int index = chunkIndex++;
+
+            if (fileHash == null) {
+                addResult(reportService.saveReportChunk(chunk));
+                return;
+            }
+
+            String chunkHash = HexFormat.of().formatHex(chunkDigest.digest());
+            IngestLedger committed = committedChunks.get(index);
+
+            // 같은 파일의 같은 청크가 이미 커밋됨 → DB 작업 없이 건너뜀
+            if (committed != null && committed.getChunkHash().equals(chunkHash)) {
+                summary.setResumedChunkCount(summary.getResumedChunkCount() + 1);
+                chunk.clear();
+                return;
+            }
+
+            // 청크 저장과 원장 기록을 한 트랜잭션으로 커밋 (청크 크기 설정이 바뀌어 해시가 다르면 원장 행 갱신)
+            IngestLedger ledger = committed != null ? committed : new IngestLedger();
+            ReportService.ReportChunkResult result = transactionTemplate.execute(status -> {
+                ReportService.ReportChunkResult saved = reportService.saveReportChunk(chunk);
+                ledger.setFileHash(fileHash);
+                ledger.setChunkIndex(index);
+                ledger.setChunkHash(chunkHash);
+                ledger.setRowCount(chunk.size());
+                ledger.setSavedCount(saved.savedCount());
+                ledger.setCommittedAt(LocalDateTime.now());
+                ingestLedgerRepository.save(ledger);
+                return saved;
+            });
+            addResult(result);
+        }
+
+        private void addResult(ReportService.ReportChunkResult result) {
+            countRows("new", result.savedCount());
+            countRows("duplicate", result.duplicateCount());
+            countRows("unknown_stock", result.stockNotFoundCount());
+
+            summary.setSavedCount(summary.getSavedCount() + result.savedCount());
+            summary.setDuplicateCount(summary.getDuplicateCount() + result.duplicateCount());
+            summary.setStockNotFoundCount(summary.getStockNotFoundCount() + result.stockNotFoundCount());
+            summary.setChunkCount(summary.getChunkCount() + 1);
+
+            System.out.println("📦 청크 " + summary.getChunkCount() + " 커밋: " + chunk.size() + "행 (누적 저장 "
+                    + summary.getSavedCount() + "개)");
+            chunk.clear();
+        }
+    }
+
+    private void countSkip(ReportIngestSummaryDTO summary, ReportCsvParser.RowResult result) {
+        countRows(result.skipReason() == ReportCsvParser.SkipReason.PARSE_ERROR ? "parse_error" : "invalid_row", 1);
+
+        switch (result.skipReason()) {
+            case COLUMN_COUNT -> summary.setColumnCountError(summary.getColumnCountError() + 1);
+            case EMPTY_COLUMN -> summary.setEmptyColumnError(summary.getEmptyColumnError() + 1);
+            case ANALYST_NAME_TOO_LONG -> summary.setAnalystNameTooLongError(summary.getAnalystNameTooLongError() + 1);
+            case PARSE_ERROR -> {
+                summary.setParseError(summary.getParseError() + 1);
+                System.err.println("⚠️ 파싱 오류 (데이터 " + summary.getTotalRows() + "번째 행): " + result.errorMessage());
+            }
+        }
+    }
+
+    // 적재 결과별 행 수 (aim.ingest.rows, outcome: new / duplicate / unknown_stock / parse_error / invalid_row)
+    private void countRows(String outcome, int rows) {
+        if (rows > 0) {
+            meterRegistry.counter("aim.ingest.rows", "type", "report", "outcome", outcome).increment(rows);
+        }
+    }
+
+    private void printSummary(ReportIngestSummaryDTO summary) {
+        System.out.println("\n📊 CSV 적재 결과:");
+        System.out.println("  - 총 행 수: " + summary.getTotalRows());
+        System.out.println("  - 파싱 성공: " + summary.getParsedRows() + "개");
+        System.out.println("  - 컬럼 수 부족: " + summary.getColumnCountError() + "개");
+        System.out.println("  - 빈 컬럼: " + summary.getEmptyColumnError() + "개");
+        System.out.println("  - 애널리스트명 4글자 이상: " + summary.getAnalystNameTooLongError() + "개");
+        System.out.println("  - 파싱 오류: " + summary.getParseError() + "개");
+        System.out.println("  - 신규 저장: " + summary.getSavedCount() + "개");
+        System.out.println("  - 중복 (스킵): " + summary.getDuplicateCount() + "개");
+        System.out.println("  - Stock 없음 (스킵): " + summary.getStockNotFoundCount() + "개");
+        System.out.println("  - 커밋된 청크: " + summary.getChunkCount() + "개");
+        System.out.println("  - 이전 업로드에서 커밋된 청크 (건너뜀): " + summary.getResumedChunkCount() + "개\n");
+    }
+
+    /**
+     * 파일 전체 SHA-256 (hex) - 버퍼 단위로 읽어 메모리 사용량 고정
+     */
+    private static String hashOf(InputStreamSource file) throws IOException {
+        MessageDigest digest = newSha256();
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
+        try (InputStream inputStream = file.getInputStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+}
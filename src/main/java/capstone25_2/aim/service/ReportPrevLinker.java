@@ -0,0 +1,198 @@
+package capstone25_2.aim.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.*;
+
+/**
+ * 리포트 prevReport(같은 애널리스트 + 같은 종목의 직전 리포트) 일괄 연결
+ *
+ * - (애널리스트, 종목, 리포트 날짜, ID) 순으로 정렬된 리포트를 한 번만 훑으며 직전 리포트를 계산
+ *   → 리포트마다 직전 리포트를 조회하던 N회 쿼리 제거
+ * - 직전 리포트 = 현재 날짜보다 "이전 날짜" 리포트 중 가장 최근 것 (같은 날짜는 ID가 큰 쪽)
+ *   같은 날짜의 리포트끼리는 서로 연결하지 않음 (기존 ReportDateBefore 조건과 동일)
+ * - 값이 달라진 행만 batchSize 단위 UPDATE
+ * - 전체 연결은 JDBC 스트리밍으로 읽어 엔티티를 메모리에 올리지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportPrevLinker {
+
+    private static final String SELECT_COLUMNS =
+            "SELECT report_id, analyst_id, stock_id, report_date, prev_report_id FROM report ";
+
+    private static final String ORDER_BY_SERIES = " ORDER BY analyst_id, stock_id, report_date, report_id";
+
+    // 한 SELECT에 넣는 시리즈 키 수 (바인드 변수 = 2배)
+    private static final int MAX_SERIES_PER_QUERY = 500;
+
+    private static final String UPDATE_PREV_SQL = "UPDATE report SET prev_report_id = ? WHERE report_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // MySQL은 Integer.MIN_VALUE일 때 행 단위 스트리밍
+    @Value("${aim.jdbc.stream-fetch-size:-2147483648}")
+    private int streamFetchSize;
+
+    @Value("${aim.jdbc.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 리포트 시리즈 키 (애널리스트 + 종목)
+     */
+    public record SeriesKey(long analystId, long stockId) {
+    }
+
+    /**
+     * 모든 리포트의 prevReport를 다시 계산하고 달라진 행만 UPDATE
+     *
+     * @return UPDATE된 리포트 수
+     */
+    public int relinkAll() {
+        JdbcTemplate streamingTemplate = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        streamingTemplate.setFetchSize(streamFetchSize);
+
+        LinkPass pass = new LinkPass();
+        // 스트리밍 결과를 읽는 동안 같은 커넥션으로 UPDATE할 수 없으므로 변경분만 모았다가 적용
+        streamingTemplate.query(SELECT_COLUMNS + ORDER_BY_SERIES, (RowCallbackHandler) pass::accept);
+        return applyChanges(pass.changes);
+    }
+
+    /**
+     * 주어진 시리즈들만 prevReport를 다시 계산 (배치 적재 후 영향받은 시리즈 연결용)
+     * 중간 날짜로 끼워 넣은 리포트의 다음 리포트도 새 리포트를 가리키도록 갱신됨
+     *
+     * @return UPDATE된 리포트 수
+     */
+    public int relinkSeries(Set<SeriesKey> series) {
+        if (series.isEmpty()) {
+            return 0;
+        }
+
+        // (analyst_id, stock_id) 행 값 IN으로 요청한 시리즈만 조회 (analyst_id IN × stock_id IN 조합 전체를 읽지 않음)
+        // 시리즈끼리 겹치지 않으므로 나눠 조회해도 LinkPass 상태는 시리즈 경계에서 초기화됨
+        List<SeriesKey> keys = new ArrayList<>(series);
+        LinkPass pass = new LinkPass();
+        for (int from = 0; from < keys.size(); from += MAX_SERIES_PER_QUERY) {
+            List<SeriesKey> group = keys.subList(from, Math.min(from + MAX_SERIES_PER_QUERY, keys.size()));
+            Object[] args = new Object[group.size() * 2];
+            for (int i = 0; i < group.size(); i++) {
+                args[i * 2] = group.get(i).analystId();
+                args[i * 2 + 1] = group.get(i).stockId();
+            }
+            String placeholders = String.join(", ", Collections.nCopies(group.size(), "(?, ?)"));
+            jdbcTemplate.query(SELECT_COLUMNS + "WHERE (analyst_id, stock_id) IN (" + placeholders + ")" + ORDER_BY_SERIES,
+                    (RowCallbackHandler) pass::accept, args);
+        }
+        return applyChanges(pass.changes);
+    }
+
+    private int applyChanges(ChangeList changes) {
+        for (int from = 0; from < changes.size; from += batchSize) {
+            int offset = from;
+            int size = Math.min(batchSize, changes.size - from);
+            jdbcTemplate.batchUpdate(UPDATE_PREV_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    long prevId = changes.prevIds[offset + i];
+                    if (prevId == ChangeList.NO_PREV) {
+                        ps.setNull(1, Types.BIGINT);
+                    } else {
+                        ps.setLong(1, prevId);
+                    }
+                    ps.setLong(2, changes.reportIds[offset + i]);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+        return changes.size;
+    }
+
+    /**
+     * 정렬된 리포트를 한 행씩 받아 직전 리포트를 계산
+     */
+    private static final class LinkPass {
+
+        private final ChangeList changes = new ChangeList();
+
+        private long analystId = -1;
+        private long stockId = -1;
+        private Timestamp currentDate;
+        private long lastIdBeforeCurrentDate = ChangeList.NO_PREV;
+        private long lastIdOfCurrentDate = ChangeList.NO_PREV;
+
+        void accept(ResultSet rs) throws SQLException {
+            long reportId = rs.getLong(1);
+            long rowAnalystId = rs.getLong(2);
+            boolean analystNull = rs.wasNull();
+            long rowStockId = rs.getLong(3);
+            boolean stockNull = rs.wasNull();
+            Timestamp reportDate = rs.getTimestamp(4);
+            long currentPrev = rs.getLong(5);
+            if (rs.wasNull()) {
+                currentPrev = ChangeList.NO_PREV;
+            }
+
+            // 시리즈를 특정할 수 없는 행은 건드리지 않음
+            if (analystNull || stockNull || reportDate == null) {
+                return;
+            }
+
+            // 새 시리즈 시작
+            if (rowAnalystId != analystId || rowStockId != stockId) {
+                analystId = rowAnalystId;
+                stockId = rowStockId;
+                currentDate = null;
+                lastIdBeforeCurrentDate = ChangeList.NO_PREV;
+                lastIdOfCurrentDate = ChangeList.NO_PREV;
+            }
+
+            // 날짜가 바뀌면 직전 날짜의 마지막 리포트가 직전 리포트 후보
+            if (!reportDate.equals(currentDate)) {
+                lastIdBeforeCurrentDate = lastIdOfCurrentDate;
+                currentDate = reportDate;
+            }
+
+            if (currentPrev != lastIdBeforeCurrentDate) {
+                changes.add(reportId, lastIdBeforeCurrentDate);
+            }
+            lastIdOfCurrentDate = reportId;
+        }
+    }
+
+    /**
+     * 변경할 (reportId, prevId) 목록 (박싱 없이 long 배열로 유지)
+     */
+    private static final class ChangeList {
+
+        static final long NO_PREV = 0L;  // IDENTITY ID는 1부터 시작
+
+        long[] reportIds = new long[1024];
+        long[] prevIds = new long[1024];
+        int size;
+
+        void add(long reportId, long prevId) {
+            if (size == reportIds.length) {
+                reportIds = Arrays.copyOf(reportIds, size * 2);
+                prevIds = Arrays.copyOf(prevIds, size * 2);
+            }
+            reportIds[size] = reportId;
+            prevIds[size] = prevId;
+            size++;
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package capstone25_2.aim.service;
 
 import capstone25_2.aim.domain.dto.report.ReportRequestDTO;
+import capstone25_2.aim.domain.dto.report.ReportSnapshot;
 import capstone25_2.aim.domain.dto.report.TargetPriceTrendDTO;
 import capstone25_2.aim.domain.dto.report.TargetPriceTrendResponseDTO;
 import capstone25_2.aim.domain.dto.stock.StockConsensusDTO;
 import capstone25_2.aim.domain.entity.*;
+import capstone25_2.aim.domain.event.AnalystMetricsDirtyEvent;
+import capstone25_2.aim.domain.event.DerivedDataChangedEvent;
+import capstone25_2.aim.domain.event.ReferenceDataChangedEvent;
+import capstone25_2.aim.domain.event.ReportsChangedEvent;
 import capstone25_2.aim.repository.AnalystRepository;
 import capstone25_2.aim.repository.ClosePriceRepository;
+import capstone25_2.aim.repository.JdbcBulkLoader;
 import capstone25_2.aim.repository.ReportRepository;
 import capstone25_2.aim.repository.StockRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +28,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("aim.service")
 @RequiredArgsConstructor
 public class ReportService {
     private final ReportRepository reportRepository;
@@ -26,6 +36,9 @@ public class ReportService {
     private final StockRepository stockRepository;
     private final ClosePriceRepository closePriceRepository;
     private final AnalystMetricsService analystMetricsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcBulkLoader jdbcBulkLoader;
+    private final ReportPrevLinker reportPrevLinker;
 
     public List<Report> getReportsByStockId(Long stockId){
         return reportRepository.findByStockId(stockId);
@@ -54,7 +67,10 @@ public class ReportService {
     // 종목별 목표가 변동 추이 데이터 생성
     @Transactional(readOnly = true)
     public TargetPriceTrendResponseDTO getTargetPriceTrend(Long stockId){
-        List<Report> recentReports = getRecentReportsByStockId(stockId);
+        // 애널리스트, 직전 리포트, 종목을 함께 로딩 (리포트마다 프록시 초기화 쿼리 방지)
+        LocalDateTime oneYearAgo = LocalDateTime.now().minusYears(1);
+        List<Report> recentReports = reportRepository
+                .findWithAnalystAndPrevReportByStockIdAndReportDateAfterOrderByReportDateDesc(stockId, oneYearAgo);
 
         if(recentReports.isEmpty()){
             throw new RuntimeException("No reports found for stock");
@@ -90,31 +106,33 @@ public class ReportService {
      * 각 애널리스트의 의견 변화 이후 최신 리포트만 집계 (BUY, HOLD, SELL 개수)
      * 의견 변화가 없으면 최근 1년 리포트 중 최신 리포트 사용
      */
+    @Cacheable(cacheNames = "stockConsensus", key = "{#stockId, @dataVersion.current()}")
     @Transactional(readOnly = true)
     public StockConsensusDTO getStockConsensus(Long stockId) {
         // 1. 종목 조회
         Stock stock = stockRepository.findById(stockId)
                 .orElseThrow(() -> new RuntimeException("Stock not found"));
 
-        // 2. 해당 종목의 최근 1년 리포트 조회
-        List<Report> recentReports = getRecentReportsByStockId(stockId);
+        // 2. 해당 종목의 최근 1년 리포트 조회 (필요한 컬럼만 projection으로 조회)
+        LocalDateTime oneYearAgo = LocalDateTime.now().minusYears(1);
+        List<ReportSnapshot> recentReports = reportRepository.findSnapshotsByStockIdAndReportDateAfter(stockId, oneYearAgo);
 
         if (recentReports.isEmpty()) {
             throw new RuntimeException("No reports found for stock");
         }
 
         // 3. 애널리스트별로 그룹핑
-        Map<Long, List<Report>> reportsByAnalyst = recentReports.stream()
-                .collect(Collectors.groupingBy(report -> report.getAnalyst().getId()));
+        Map<Long, List<ReportSnapshot>> reportsByAnalyst = recentReports.stream()
+                .collect(Collectors.groupingBy(ReportSnapshot::analystId));
 
         // 4. 각 애널리스트의 의견 변화 이후 최신 리포트만 선택
-        List<Report> validReportsAfterOpinionChange = new ArrayList<>();
+        List<ReportSnapshot> validReportsAfterOpinionChange = new ArrayList<>();
 
-        for (Map.Entry<Long, List<Report>> entry : reportsByAnalyst.entrySet()) {
-            List<Report> analystReports = entry.getValue();
+        for (Map.Entry<Long, List<ReportSnapshot>> entry : reportsByAnalyst.entrySet()) {
+            List<ReportSnapshot> analystReports = entry.getValue();
 
             // 날짜순 정렬 (오래된 것부터)
-            analystReports.sort(Comparator.comparing(Report::getReportDate));
+            analystReports.sort(Comparator.comparing(ReportSnapshot::reportDate));
 
             // 마지막 의견 변화 시점 찾기
             int lastChangeIndex = 0;
@@ -122,7 +140,7 @@ public class ReportService {
 
             for (int i = 0; i < analystReports.size(); i++) {
                 String currentCategory = HiddenOpinionLabel.toSimpleCategory(
-                        analystReports.get(i).getHiddenOpinion());
+                        analystReports.get(i).hiddenOpinion());
 
                 if (previousCategory != null && !Objects.equals(previousCategory, currentCategory)) {
                     lastChangeIndex = i;  // 의견 변화 발생
@@ -131,13 +149,13 @@ public class ReportService {
             }
 
             // 의견 변화 이후의 가장 최신 리포트 선택
-            Report latestValidReport = analystReports.get(analystReports.size() - 1);
+            ReportSnapshot latestValidReport = analystReports.get(analystReports.size() - 1);
             validReportsAfterOpinionChange.add(latestValidReport);
         }
 
         // 5. hiddenOpinion이 null이 아닌 것만 필터링
-        List<Report> validReports = validReportsAfterOpinionChange.stream()
-                .filter(report -> report.getHiddenOpinion() != null)
+        List<ReportSnapshot> validReports = validReportsAfterOpinionChange.stream()
+                .filter(report -> report.hiddenOpinion() != null)
                 .collect(Collectors.toList());
 
         if (validReports.isEmpty()) {
@@ -147,28 +165,28 @@ public class ReportService {
         // 6. hiddenOpinion 별 개수 계산 (3단계 분류)
         int buyCount = (int) validReports.stream()
                 .filter(report -> {
-                    String category = HiddenOpinionLabel.toSimpleCategory(report.getHiddenOpinion());
+                    String category = HiddenOpinionLabel.toSimpleCategory(report.hiddenOpinion());
                     return "BUY".equals(category);
                 })
                 .count();
 
         int holdCount = (int) validReports.stream()
                 .filter(report -> {
-                    String category = HiddenOpinionLabel.toSimpleCategory(report.getHiddenOpinion());
+                    String category = HiddenOpinionLabel.toSimpleCategory(report.hiddenOpinion());
                     return "HOLD".equals(category);
                 })
                 .count();
 
         int sellCount = (int) validReports.stream()
                 .filter(report -> {
-                    String category = HiddenOpinionLabel.toSimpleCategory(report.getHiddenOpinion());
+                    String category = HiddenOpinionLabel.toSimpleCategory(report.hiddenOpinion());
                     return "SELL".equals(category);
                 })
                 .count();
 
         // 7. 애널리스트 평균 목표가 계산 (기존 로직 유지)
         Double averageTargetPrice = validReports.stream()
-                .map(Report::getTargetPrice)
+                .map(ReportSnapshot::targetPrice)
                 .filter(Objects::nonNull)
                 .mapToInt(Integer::intValue)
                 .average()
@@ -178,30 +196,32 @@ public class ReportService {
         List<ClosePrice> closePrices = closePriceRepository.findByStockIdOrderByTradeDateDesc(stockId);
         Integer currentClosePrice = !closePrices.isEmpty() ? closePrices.get(0).getClosePrice() : null;
 
+        // 발행일 종가 조회용 (거래일 → 종가, 리포트마다 쿼리하지 않고 이미 읽은 종가에서 찾음)
+        TreeMap<LocalDate, Integer> closePriceByDate = new TreeMap<>();
+        closePrices.forEach(closePrice -> closePriceByDate.put(closePrice.getTradeDate(), closePrice.getClosePrice()));
+
         // 9. AIM's 평균 목표가 계산 (BUY: 실제 목표가, HOLD: 발행일 종가, SELL: 발행일 종가 × 0.8)
         Double aimsAverageTargetPrice = validReports.stream()
                 .mapToDouble(report -> {
-                    String category = HiddenOpinionLabel.toSimpleCategory(report.getHiddenOpinion());
+                    String category = HiddenOpinionLabel.toSimpleCategory(report.hiddenOpinion());
                     // BUY는 실제 목표가 사용
                     if ("BUY".equals(category)) {
-                        return report.getTargetPrice() != null ? report.getTargetPrice() : 0.0;
+                        return report.targetPrice() != null ? report.targetPrice() : 0.0;
                     }
                     // HOLD는 발행일 종가 사용 (변화 없음을 의미)
                     else if ("HOLD".equals(category)) {
-                        LocalDate reportDate = report.getReportDate().toLocalDate();
-                        Optional<ClosePrice> reportClosePrice = closePriceRepository
-                                .findFirstByStockIdAndTradeDateLessThanEqualOrderByTradeDateDesc(stockId, reportDate);
-                        if (reportClosePrice.isPresent()) {
-                            return reportClosePrice.get().getClosePrice().doubleValue();
+                        Map.Entry<LocalDate, Integer> reportClosePrice =
+                                closePriceByDate.floorEntry(report.reportDate().toLocalDate());
+                        if (reportClosePrice != null) {
+                            return reportClosePrice.getValue().doubleValue();
                         }
                     }
                     // SELL은 발행일 종가 × 0.8
                     else if ("SELL".equals(category)) {
-                        LocalDate reportDate = report.getReportDate().toLocalDate();
-                        Optional<ClosePrice> reportClosePrice = closePriceRepository
-                                .findFirstByStockIdAndTradeDateLessThanEqualOrderByTradeDateDesc(stockId, reportDate);
-                        if (reportClosePrice.isPresent()) {
-                            return reportClosePrice.get().getClosePrice() * 0.8;
+                        Map.Entry<LocalDate, Integer> reportClosePrice =
+                                closePriceByDate.floorEntry(report.reportDate().toLocalDate());
+                        if (reportClosePrice != null) {
+                            return reportClosePrice.getValue() * 0.8;
                         }
                     }
                     return 0.0;
@@ -273,14 +293,16 @@ public class ReportService {
      * 1. Analyst 먼저 저장 (없으면 새로 생성, 있으면 기존 사용)
      * 2. stockCode로 Stock 조회
      * 3. Report 저장
-     * 4. 애널리스트 정확도 자동 재계산
+     * 4. 애널리스트 지표 재계산 요청 (커밋 후 AnalystMetricsUpdateQueue가 모아서 비동기 처리)
      */
     @Transactional
     public Report saveReportFromAI(ReportRequestDTO requestDTO) {
         Report savedReport = saveReportWithoutMetricsUpdate(requestDTO);
 
-        // 리포트 저장 후 애널리스트 정확도 자동 재계산
-        analystMetricsService.calculateAndSaveAccuracyRate(savedReport.getAnalyst().getId());
+        // 적재 트랜잭션 안에서 재계산하지 않고 재계산 대상으로만 등록
+        eventPublisher.publishEvent(new AnalystMetricsDirtyEvent(Set.of(savedReport.getAnalyst().getId())));
+        eventPublisher.publishEvent(new ReportsChangedEvent(
+                Set.of(savedReport.getStock().getId()), Set.of(savedReport.getAnalyst().getId())));
 
         return savedReport;
     }
@@ -301,6 +323,7 @@ public class ReportService {
                     Analyst newAnalyst = new Analyst();
                     newAnalyst.setAnalystName(requestDTO.getAnalyst().getAnalystName());
                     newAnalyst.setFirmName(requestDTO.getAnalyst().getFirmName());
+                    eventPublisher.publishEvent(new ReferenceDataChangedEvent("analyst-created"));
                     return analystRepository.save(newAnalyst);
                 });
 
@@ -340,187 +363,241 @@ public class ReportService {
                 );
         prevReport.ifPresent(report::setPrevReport);
 
-        return reportRepository.save(report);
+        Report savedReport = reportRepository.save(report);
+
+        // 6. 중간 날짜로 끼워 넣은 경우 다음 리포트가 새 리포트를 가리키도록 재연결
+        reportPrevLinker.relinkSeries(Set.of(new ReportPrevLinker.SeriesKey(analyst.getId(), stock.getId())));
+
+        return savedReport;
     }
 
     /**
      * 여러 개의 리포트를 한번에 저장 (배치 처리)
      * Python에서 DataFrame을 JSON 배열로 보낼 때 사용
-     * 효율성을 위해 모든 리포트 저장 후 애널리스트별로 한 번씩만 정확도 계산
-     * 배치 처리 중 애널리스트 캐시를 사용하여 중복 조회 방지
+     * 지표는 저장된 애널리스트별로 재계산 요청만 하고 커밋 후 대기열에서 한 번씩 계산
+     * 종목/애널리스트/중복 여부는 행 단위가 아닌 집합 단위로 조회 (persistBatch)
      */
     @Transactional
     public List<Report> saveReportsFromAIBatch(List<ReportRequestDTO> requestDTOList) {
         System.out.println("\n🔄 Service 계층 처리 시작: " + requestDTOList.size() + "개 DTO 받음");
 
-        // 1. 애널리스트 캐시 생성 (배치 처리 중 중복 조회 방지)
-        Map<String, Analyst> analystCache = new HashMap<>();
+        BatchOutcome outcome = persistBatch(requestDTOList);
+        List<Report> savedReports = outcome.savedReports;
+
+        System.out.println("\n📊 Service 계층 통계:");
+        System.out.println("  - 신규 리포트: " + savedReports.size() + "개");
+        System.out.println("  - 중복 리포트 (스킵): " + outcome.duplicateCount + "개");
+        System.out.println("  - Stock 없음 (스킵): " + outcome.stockNotFoundCount + "개");
+        System.out.println("✅ Batch Insert 완료: " + savedReports.size() + "개 저장됨");
+
+        System.out.println("📊 지표 재계산 요청 (커밋 후 비동기 처리). 애널리스트: " + outcome.dirtyAnalystIds.size() + "명\n");
+
+        return savedReports;
+    }
+
+    /**
+     * 리포트 청크 저장 결과 (스트리밍 적재용)
+     */
+    public record ReportChunkResult(int savedCount, int duplicateCount, int stockNotFoundCount) {
+    }
+
+    /**
+     * 리포트 청크 저장 (스트리밍 적재용)
+     * 청크마다 별도 트랜잭션으로 커밋하고 저장된 엔티티는 반환하지 않음
+     * → 커밋 후 영속성 컨텍스트와 함께 메모리에서 해제
+     */
+    @Transactional
+    public ReportChunkResult saveReportChunk(List<ReportRequestDTO> requestDTOList) {
+        BatchOutcome outcome = persistBatch(requestDTOList);
+        return new ReportChunkResult(outcome.savedReports.size(), outcome.duplicateCount, outcome.stockNotFoundCount);
+    }
+
+    /**
+     * 리포트 목록 저장 공통 처리 (행 단위 조회 없이 집합 단위로 처리)
+     * 1. 종목코드 → Stock 맵: IN 조회 1회
+     * 2. 애널리스트: 이름 IN 조회 1회, 없는 애널리스트는 한 번에 saveAll
+     * 3. 중복 체크: (애널리스트, 종목, 날짜) 키를 1회 조회 + 목록 내부 중복도 제거
+     * 4. 신규 리포트만 JDBC 배치 INSERT (JdbcBulkLoader)
+     * 5. 영향받은 시리즈의 prevReport 재연결 (ReportPrevLinker) → 업로드 후 전체 재연결 불필요
+     * 6. 신규 리포트가 생긴 애널리스트의 지표 재계산 요청 (AnalystMetricsDirtyEvent)
+     */
+    private BatchOutcome persistBatch(List<ReportRequestDTO> requestDTOList) {
+        // 1. 종목코드 → Stock 맵
+        Set<String> stockCodes = requestDTOList.stream()
+                .map(dto -> dto.getReport().getStockCode())
+                .collect(Collectors.toSet());
+        Map<String, Stock> stockByCode = stockRepository.findByStockCodeIn(stockCodes).stream()
+                .collect(Collectors.toMap(Stock::getStockCode, stock -> stock, (first, second) -> first));
+
+        // 2. (이름|증권사) → Analyst 맵
+        Map<String, Analyst> analystByKey = resolveAnalysts(requestDTOList);
+
+        // 3. 이미 저장된 리포트 키 조회 (종목이 있는 행 기준)
+        Set<Long> analystIds = new HashSet<>();
+        Set<Long> stockIds = new HashSet<>();
+        LocalDateTime minDate = null;
+        LocalDateTime maxDate = null;
+        for (ReportRequestDTO requestDTO : requestDTOList) {
+            Stock stock = stockByCode.get(requestDTO.getReport().getStockCode());
+            if (stock == null) {
+                continue;
+            }
+            LocalDateTime reportDate = requestDTO.getReport().getReportDate().atStartOfDay();
+            analystIds.add(analystByKey.get(analystKey(requestDTO)).getId());
+            stockIds.add(stock.getId());
+            minDate = minDate == null || reportDate.isBefore(minDate) ? reportDate : minDate;
+            maxDate = maxDate == null || reportDate.isAfter(maxDate) ? reportDate : maxDate;
+        }
+
+        Set<ReportKey> seenKeys = new HashSet<>();
+        if (!stockIds.isEmpty()) {
+            for (Object[] row : reportRepository.findReportKeys(analystIds, stockIds, minDate, maxDate)) {
+                seenKeys.add(new ReportKey((Long) row[0], (Long) row[1], (LocalDateTime) row[2]));
+            }
+        }
 
         // 통계 카운터
         int stockNotFoundCount = 0;
         int duplicateCount = 0;
-        int newReportCount = 0;
 
-        // 2. 모든 리포트 객체 생성 (아직 DB에 저장하지 않음)
+        // 4. 신규 리포트 객체 생성 (아직 DB에 저장하지 않음)
         List<Report> reportsToSave = new ArrayList<>();
         for (ReportRequestDTO requestDTO : requestDTOList) {
-            ReportSaveResult result = saveReportWithCacheAndStats(requestDTO, analystCache);
-
-            if (result == null) {
+            Stock stock = stockByCode.get(requestDTO.getReport().getStockCode());
+            if (stock == null) {
+                System.err.println("⚠️ Stock을 찾을 수 없어 스킵: stockCode=" + requestDTO.getReport().getStockCode()
+                    + ", 리포트=" + requestDTO.getReport().getReportTitle());
                 stockNotFoundCount++;
-            } else if (result.isDuplicate) {
-                duplicateCount++;
-            } else {
-                newReportCount++;
-                reportsToSave.add(result.report);
+                continue;
             }
-        }
 
-        System.out.println("\n📊 Service 계층 통계:");
-        System.out.println("  - 신규 리포트: " + newReportCount + "개");
-        System.out.println("  - 중복 리포트 (스킵): " + duplicateCount + "개");
-        System.out.println("  - Stock 없음 (스킵): " + stockNotFoundCount + "개");
-
-        System.out.println("\n📦 Batch Insert 시작: " + reportsToSave.size() + "개 리포트");
+            Analyst analyst = analystByKey.get(analystKey(requestDTO));
+            LocalDateTime reportDate = requestDTO.getReport().getReportDate().atStartOfDay();
 
-        // 3. Batch Insert - 한 번에 저장 (대폭 성능 향상)
-        List<Report> savedReports = reportRepository.saveAll(reportsToSave);
+            // 이미 존재하거나 목록 안에서 앞서 나온 키면 스킵 (중복 저장 방지)
+            if (!seenKeys.add(new ReportKey(analyst.getId(), stock.getId(), reportDate))) {
+                duplicateCount++;
+                continue;
+            }
 
-        System.out.println("✅ Batch Insert 완료: " + savedReports.size() + "개 저장됨");
+            Report report = new Report();
+            report.setReportTitle(requestDTO.getReport().getReportTitle());
+            report.setReportDate(reportDate);
+            report.setTargetPrice(requestDTO.getReport().getTargetPrice());
+            report.setSurfaceOpinion(requestDTO.getReport().getSurfaceOpinion());
+            report.setHiddenOpinion(requestDTO.getReport().getHiddenOpinion());
+            report.setAnalyst(analyst);
+            report.setStock(stock);
+            reportsToSave.add(report);
+        }
 
-        // 4. 저장된 리포트에 관련된 애널리스트 ID 중복 제거
-        Set<Long> analystIds = savedReports.stream()
-                .map(report -> report.getAnalyst().getId())
-                .collect(Collectors.toSet());
+        // 5. Batch Insert - IDENTITY 전략이라 saveAll은 행마다 INSERT → JDBC 배치로 저장
+        jdbcBulkLoader.insertReports(reportsToSave);
+        List<Report> savedReports = reportsToSave;
 
-        // 4. 각 애널리스트의 정확도를 한 번씩만 재계산 (임시 비활성화)
-        // TODO: 데이터 저장 완료 후 별도 API로 실행
-        // analystIds.forEach(analystMetricsService::calculateAndSaveAccuracyRate);
-        System.out.println("⚠️ 지표 계산 스킵 (성능 최적화). 저장된 리포트: " + savedReports.size()
-            + "개, 애널리스트: " + analystIds.size() + "명\n");
+        // 6. 신규 리포트가 들어간 시리즈(애널리스트 + 종목)만 prevReport 재연결
+        //    배치 내 순서가 뒤섞인 행, 중간 날짜로 끼워 넣은 리포트의 다음 리포트까지 함께 갱신
+        Set<ReportPrevLinker.SeriesKey> series = new HashSet<>();
+        for (Report report : savedReports) {
+            series.add(new ReportPrevLinker.SeriesKey(report.getAnalyst().getId(), report.getStock().getId()));
+        }
+        reportPrevLinker.relinkSeries(series);
+
+        // 7. 지표 재계산 요청 - 같은 애널리스트는 대기열에서 한 번만 계산
+        Set<Long> dirtyAnalystIds = new HashSet<>();
+        Set<Long> changedStockIds = new HashSet<>();
+        for (ReportPrevLinker.SeriesKey key : series) {
+            dirtyAnalystIds.add(key.analystId());
+            changedStockIds.add(key.stockId());
+        }
+        if (!dirtyAnalystIds.isEmpty()) {
+            eventPublisher.publishEvent(new AnalystMetricsDirtyEvent(dirtyAnalystIds));
+            eventPublisher.publishEvent(new ReportsChangedEvent(changedStockIds, dirtyAnalystIds));
+        }
 
-        return savedReports;
+        return new BatchOutcome(savedReports, duplicateCount, stockNotFoundCount, dirtyAnalystIds);
     }
 
-    // 저장 결과를 담는 내부 클래스
-    private static class ReportSaveResult {
-        Report report;
-        boolean isDuplicate;
+    /**
+     * 목록에 나온 애널리스트를 (이름|증권사) 키로 조회, 없으면 한 번에 생성
+     */
+    private Map<String, Analyst> resolveAnalysts(List<ReportRequestDTO> requestDTOList) {
+        Map<String, ReportRequestDTO.AnalystInfo> requested = new LinkedHashMap<>();
+        for (ReportRequestDTO requestDTO : requestDTOList) {
+            requested.putIfAbsent(analystKey(requestDTO), requestDTO.getAnalyst());
+        }
+
+        Set<String> names = requested.values().stream()
+                .map(ReportRequestDTO.AnalystInfo::getAnalystName)
+                .collect(Collectors.toSet());
 
-        ReportSaveResult(Report report, boolean isDuplicate) {
-            this.report = report;
-            this.isDuplicate = isDuplicate;
+        // 이름으로 조회 후 증권사까지 일치하는 애널리스트만 사용
+        Map<String, Analyst> analystByKey = new HashMap<>();
+        for (Analyst analyst : analystRepository.findByAnalystNameIn(names)) {
+            String key = analyst.getAnalystName() + "|" + analyst.getFirmName();
+            if (requested.containsKey(key)) {
+                analystByKey.put(key, analyst);
+            }
         }
-    }
 
-    /**
-     * 애널리스트 캐시를 사용하여 리포트 저장 (배치 처리용, 통계 포함)
-     */
-    private ReportSaveResult saveReportWithCacheAndStats(ReportRequestDTO requestDTO, Map<String, Analyst> analystCache) {
-        // 1. 캐시에서 Analyst 조회 (analystName + firmName을 키로 사용)
-        String cacheKey = requestDTO.getAnalyst().getAnalystName() + "|" + requestDTO.getAnalyst().getFirmName();
-
-        Analyst analyst = analystCache.computeIfAbsent(cacheKey, key -> {
-            // 캐시에 없으면 DB에서 조회 또는 생성
-            return analystRepository
-                    .findByAnalystNameAndFirmName(
-                            requestDTO.getAnalyst().getAnalystName(),
-                            requestDTO.getAnalyst().getFirmName()
-                    )
-                    .orElseGet(() -> {
-                        // 애널리스트가 없으면 새로 생성
-                        Analyst newAnalyst = new Analyst();
-                        newAnalyst.setAnalystName(requestDTO.getAnalyst().getAnalystName());
-                        newAnalyst.setFirmName(requestDTO.getAnalyst().getFirmName());
-                        return analystRepository.save(newAnalyst);
-                    });
+        // 애널리스트가 없으면 새로 생성
+        List<Analyst> newAnalysts = new ArrayList<>();
+        requested.forEach((key, info) -> {
+            if (!analystByKey.containsKey(key)) {
+                Analyst newAnalyst = new Analyst();
+                newAnalyst.setAnalystName(info.getAnalystName());
+                newAnalyst.setFirmName(info.getFirmName());
+                newAnalysts.add(newAnalyst);
+            }
         });
 
-        // 2. Stock 조회 (stockCode로) - DB에 없으면 스킵
-        Optional<Stock> stockOpt = stockRepository.findByStockCode(requestDTO.getReport().getStockCode());
-        if (stockOpt.isEmpty()) {
-            System.err.println("⚠️ Stock을 찾을 수 없어 스킵: stockCode=" + requestDTO.getReport().getStockCode()
-                + ", 리포트=" + requestDTO.getReport().getReportTitle());
-            return null;  // 해당 리포트 스킵
+        if (!newAnalysts.isEmpty()) {
+            jdbcBulkLoader.insertAnalysts(newAnalysts);
+            for (Analyst saved : newAnalysts) {
+                analystByKey.put(saved.getAnalystName() + "|" + saved.getFirmName(), saved);
+            }
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent("analyst-created"));
         }
-        Stock stock = stockOpt.get();
 
-        // 3. 중복 체크: 애널리스트 + 종목 + 리포트 날짜로 기존 리포트 확인
-        LocalDateTime reportDate = requestDTO.getReport().getReportDate().atStartOfDay();
-        Optional<Report> existingReport = reportRepository.findByAnalystIdAndStockIdAndReportDate(
-                analyst.getId(),
-                stock.getId(),
-                reportDate
-        );
+        return analystByKey;
+    }
 
-        // 이미 존재하면 기존 리포트 반환 (중복 저장 방지)
-        if (existingReport.isPresent()) {
-            return new ReportSaveResult(existingReport.get(), true);  // 중복
-        }
+    private static String analystKey(ReportRequestDTO requestDTO) {
+        return requestDTO.getAnalyst().getAnalystName() + "|" + requestDTO.getAnalyst().getFirmName();
+    }
 
-        // 4. Report 생성 및 저장
-        Report report = new Report();
-        report.setReportTitle(requestDTO.getReport().getReportTitle());
-        report.setReportDate(reportDate);
-        report.setTargetPrice(requestDTO.getReport().getTargetPrice());
-        report.setSurfaceOpinion(requestDTO.getReport().getSurfaceOpinion());
-        report.setHiddenOpinion(requestDTO.getReport().getHiddenOpinion());
-        report.setAnalyst(analyst);
-        report.setStock(stock);
-
-        // 5. prevReport 설정 (임시 비활성화 - 성능 최적화)
-        // TODO: 데이터 저장 완료 후 별도로 설정
-        // Optional<Report> prevReport = reportRepository
-        //         .findTopByAnalystIdAndStockIdAndReportDateBeforeOrderByReportDateDesc(
-        //                 analyst.getId(),
-        //                 stock.getId(),
-        //                 reportDate
-        //         );
-        // prevReport.ifPresent(report::setPrevReport);
-
-        return new ReportSaveResult(report, false);  // 신규 리포트
+    // 중복 체크 키 (애널리스트 + 종목 + 리포트 날짜)
+    private record ReportKey(Long analystId, Long stockId, LocalDateTime reportDate) {
+    }
+
+    // 목록 저장 결과를 담는 내부 클래스
+    private static class BatchOutcome {
+        List<Report> savedReports;
+        int duplicateCount;
+        int stockNotFoundCount;
+        Set<Long> dirtyAnalystIds;
+
+        BatchOutcome(List<Report> savedReports, int duplicateCount, int stockNotFoundCount, Set<Long> dirtyAnalystIds) {
+            this.savedReports = savedReports;
+            this.duplicateCount = duplicateCount;
+            this.stockNotFoundCount = stockNotFoundCount;
+            this.dirtyAnalystIds = dirtyAnalystIds;
+        }
     }
 
     /**
      * DB에 저장된 모든 리포트의 prevReport를 일괄 설정
      * 같은 애널리스트 + 같은 종목의 직전 리포트를 찾아서 매핑
+     * (애널리스트, 종목, 날짜) 정렬 순서로 한 번만 훑고 달라진 행만 UPDATE (ReportPrevLinker)
      */
     @Transactional
     public int updateAllPrevReports() {
         System.out.println("🔄 모든 리포트의 prevReport 일괄 설정 시작...");
 
-        // 1. 모든 리포트 조회
-        List<Report> allReports = reportRepository.findAll();
-        System.out.println("📊 전체 리포트 수: " + allReports.size());
+        int updatedCount = reportPrevLinker.relinkAll();
+        eventPublisher.publishEvent(new DerivedDataChangedEvent("prev-report-relinked"));
 
-        int updatedCount = 0;
-
-        // 2. 각 리포트마다 prevReport 설정
-        for (Report report : allReports) {
-            // prevReport가 이미 설정되어 있으면 스킵
-            if (report.getPrevReport() != null) {
-                continue;
-            }
-
-            // 같은 애널리스트 + 같은 종목의 직전 리포트 조회
-            Optional<Report> prevReport = reportRepository
-                    .findTopByAnalystIdAndStockIdAndReportDateBeforeOrderByReportDateDesc(
-                            report.getAnalyst().getId(),
-                            report.getStock().getId(),
-                            report.getReportDate()
-                    );
-
-            // prevReport가 있으면 설정
-            if (prevReport.isPresent()) {
-                report.setPrevReport(prevReport.get());
-                updatedCount++;
-            }
-        }
-
-        // 3. 배치 저장
-        reportRepository.saveAll(allReports);
         System.out.println("✅ prevReport 설정 완료: " + updatedCount + "개 업데이트됨");
-
         return updatedCount;
     }
 
@@ -0,0 +1,293 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.domain.dto.search.AnalystSearchResultDTO;
+import capstone25_2.aim.domain.dto.search.StockSearchResultDTO;
+import capstone25_2.aim.domain.dto.search.UnifiedSearchResultDTO;
+import capstone25_2.aim.domain.entity.Analyst;
+import capstone25_2.aim.domain.entity.Stock;
+import capstone25_2.aim.domain.event.ReferenceDataChangedEvent;
+import capstone25_2.aim.repository.AnalystRepository;
+import capstone25_2.aim.repository.ReportRepository;
+import capstone25_2.aim.repository.StockRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 애널리스트/종목 통합 검색용 메모리 n-gram 인덱스
+ *
+ * - 애널리스트: 이름 + 증권사명, 종목: 종목명 + 종목코드를 소문자로 정규화하여 색인
+ * - 1글자(unigram) / 2글자(bigram) 포스팅 리스트 유지
+ *   → 1글자 검색어는 unigram 리스트, 2글자 이상은 검색어의 모든 bigram 리스트 교집합
+ *   → 교집합 후보만 contains로 최종 확인 (bigram 순서/간격 오탐 제거)
+ * - 인덱스는 불변 스냅샷으로 만들고 volatile 참조 교체 → 검색은 락 없이 수행
+ * - 자동완성용 자모/초성 인덱스(TypeaheadIndex)도 같은 스냅샷에 함께 구성
+ * - 서버 시작 시 / 기준 데이터 변경 이벤트 커밋 후 / 주기적으로(외부 적재 종목 반영) 재구성
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndex {
+
+    private final AnalystRepository analystRepository;
+    private final StockRepository stockRepository;
+    private final ReportRepository reportRepository;
+    private final SearchTrendCounter searchTrendCounter;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // 이벤트가 연달아 와도 재구성은 한 번만 예약
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-index-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 서버 시작 시 인덱스 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * 리포트 적재 등으로 기준 데이터가 바뀌면 커밋 후 재구성 예약
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        requestRefresh();
+    }
+
+    /**
+     * 종목은 외부에서 적재되므로 주기적으로도 재구성
+     */
+    @Scheduled(fixedDelayString = "${aim.search-index.refresh-interval-ms:600000}",
+               initialDelayString = "${aim.search-index.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        requestRefresh();
+    }
+
+    public void requestRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                refreshPending.set(false);
+                try {
+                    refresh();
+                } catch (RuntimeException e) {
+                    System.err.println("⚠️ 검색 인덱스 재구성 실패: " + e.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * DB에서 애널리스트/종목을 읽어 인덱스를 새로 만들고 교체
+     */
+    public void refresh() {
+        List<Analyst> analysts = analystRepository.findAll();
+        List<Stock> stocks = stockRepository.findAll();
+        Map<Long, Long> stockReportCounts = new HashMap<>();
+        for (Object[] row : reportRepository.countReportsGroupByStock()) {
+            stockReportCounts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        snapshot = build(analysts, stocks, stockReportCounts);
+        System.out.println("🔎 검색 인덱스 재구성 완료: 애널리스트 " + analysts.size() + "명, 종목 " + stocks.size() + "개");
+    }
+
+    /**
+     * 애널리스트 검색 (이름 또는 증권사명 포함), 이름순
+     */
+    public List<AnalystSearchResultDTO> searchAnalysts(String keyword) {
+        return snapshot.analysts().search(keyword);
+    }
+
+    /**
+     * 종목 검색 (종목명 또는 종목코드 포함), 종목명순
+     */
+    public List<StockSearchResultDTO> searchStocks(String keyword) {
+        return snapshot.stocks().search(keyword);
+    }
+
+    /**
+     * 자동완성: 애널리스트 이름 / 종목명을 자모·초성 단위로 매칭
+     * 인기도 - 애널리스트: 최근 7일 검색 수, 종목: 리포트 수
+     */
+    public UnifiedSearchResultDTO typeahead(String keyword, int limit) {
+        Snapshot current = snapshot;
+        Map<Long, Long> searchCounts = searchTrendCounter.getSearchCounts();  // 후보마다 카운터를 호출하지 않도록 요청당 한 번
+        return UnifiedSearchResultDTO.builder()
+                .analysts(current.analystTypeahead().search(keyword, limit,
+                        doc -> searchCounts.getOrDefault(doc.getAnalystId(), 0L)))
+                .stocks(current.stockTypeahead().search(keyword, limit,
+                        doc -> current.stockReportCounts().getOrDefault(doc.getStockId(), 0L)))
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    static Snapshot build(List<Analyst> analysts, List<Stock> stocks, Map<Long, Long> stockReportCounts) {
+        List<AnalystSearchResultDTO> analystDocs = analysts.stream()
+                .map(analyst -> AnalystSearchResultDTO.builder()
+                        .analystId(analyst.getId())
+                        .analystName(analyst.getAnalystName())
+                        .firmName(analyst.getFirmName())
+                        .build())
+                .sorted(Comparator.comparing(AnalystSearchResultDTO::getAnalystName,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        List<StockSearchResultDTO> stockDocs = stocks.stream()
+                .map(stock -> StockSearchResultDTO.builder()
+                        .stockId(stock.getId())
+                        .stockCode(stock.getStockCode())
+                        .stockName(stock.getStockName())
+                        .sector(stock.getSector())
+                        .build())
+                .sorted(Comparator.comparing(StockSearchResultDTO::getStockName,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        return new Snapshot(
+                new GramIndex<>(analystDocs, doc -> List.of(nullToEmpty(doc.getAnalystName()), nullToEmpty(doc.getFirmName()))),
+                new GramIndex<>(stockDocs, doc -> List.of(nullToEmpty(doc.getStockName()), nullToEmpty(doc.getStockCode()))),
+                new TypeaheadIndex<>(analystDocs, AnalystSearchResultDTO::getAnalystName),
+                new TypeaheadIndex<>(stockDocs, StockSearchResultDTO::getStockName),
+                Map.copyOf(stockReportCounts));
+    }
+
+    static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String nullToEmpty(String text) {
+        return text == null ? "" : text;
+    }
+
+    record Snapshot(GramIndex<AnalystSearchResultDTO> analysts,
+                    GramIndex<StockSearchResultDTO> stocks,
+                    TypeaheadIndex<AnalystSearchResultDTO> analystTypeahead,
+                    TypeaheadIndex<StockSearchResultDTO> stockTypeahead,
+                    Map<Long, Long> stockReportCounts) {
+        static final Snapshot EMPTY = build(List.of(), List.of(), Map.of());
+    }
+
+    /**
+     * 문서 목록(정렬된 상태)에 대한 n-gram 포스팅 리스트
+     * 포스팅 리스트는 문서 순번(오름차순)이므로 교집합 결과도 정렬 순서를 유지
+     */
+    static final class GramIndex<T> {
+
+        private final List<T> docs;
+        private final List<List<String>> fields;   // 문서별 정규화된 검색 필드
+        private final Map<String, int[]> postings;
+
+        GramIndex(List<T> docs, Function<T, List<String>> fieldExtractor) {
+            this.docs = docs;
+            this.fields = new ArrayList<>(docs.size());
+
+            Map<String, List<Integer>> building = new HashMap<>();
+            for (int ordinal = 0; ordinal < docs.size(); ordinal++) {
+                List<String> normalized = fieldExtractor.apply(docs.get(ordinal)).stream()
+                        .map(SearchIndex::normalize)
+                        .toList();
+                fields.add(normalized);
+
+                Set<String> grams = new HashSet<>();
+                for (String field : normalized) {
+                    for (int i = 0; i < field.length(); i++) {
+                        grams.add(field.substring(i, i + 1));
+                        if (i + 1 < field.length()) {
+                            grams.add(field.substring(i, i + 2));
+                        }
+                    }
+                }
+                for (String gram : grams) {
+                    building.computeIfAbsent(gram, key -> new ArrayList<>()).add(ordinal);
+                }
+            }
+
+            this.postings = new HashMap<>(building.size() * 2);
+            building.forEach((gram, ordinals) ->
+                    postings.put(gram, ordinals.stream().mapToInt(Integer::intValue).toArray()));
+        }
+
+        List<T> search(String keyword) {
+            if (keyword == null || keyword.isBlank()) {
+                return List.of();
+            }
+            String query = normalize(keyword);
+
+            int[] candidates = candidates(query);
+            List<T> result = new ArrayList<>();
+            for (int ordinal : candidates) {
+                if (matches(ordinal, query)) {
+                    result.add(docs.get(ordinal));
+                }
+            }
+            return result;
+        }
+
+        private int[] candidates(String query) {
+            if (query.length() == 1) {
+                return postings.getOrDefault(query, new int[0]);
+            }
+
+            // 검색어의 bigram 포스팅 리스트를 짧은 순으로 교집합
+            List<int[]> lists = new ArrayList<>(query.length() - 1);
+            for (int i = 0; i + 1 < query.length(); i++) {
+                int[] list = postings.get(query.substring(i, i + 2));
+                if (list == null) {
+                    return new int[0];
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.length));
+
+            int[] result = lists.get(0);
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = intersect(result, lists.get(i));
+            }
+            return result;
+        }
+
+        private boolean matches(int ordinal, String query) {
+            for (String field : fields.get(ordinal)) {
+                if (field.contains(query)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] out = new int[Math.min(a.length, b.length)];
+            int i = 0, j = 0, n = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    out[n++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(out, n);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.repository.SearchCountDailyRepository;
+import capstone25_2.aim.repository.SearchLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 검색 로그 압축 작업
+ *
+ * - retentionDays가 지난 search_log 원본 행을 search_count_daily(애널리스트, 날짜)로 합산 후 삭제
+ * - 한 배치(batchSize행)마다 별도 트랜잭션으로 롤업 + 삭제 → 긴 락/거대 트랜잭션 방지
+ * - 롤업 보관 기간(rollupRetentionDays)이 지난 일간 집계도 배치 단위로 삭제
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchLogCompactionJob {
+
+    private final SearchLogRepository searchLogRepository;
+    private final SearchCountDailyRepository searchCountDailyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${aim.search-log.retention-days:2}")
+    private int retentionDays;
+
+    @Value("${aim.search-log.compaction-batch-size:5000}")
+    private int batchSize;
+
+    @Value("${aim.search-log.rollup-retention-days:400}")
+    private int rollupRetentionDays;
+
+    /**
+     * 매일 새벽 압축 실행 (cron은 aim.search-log.compaction-cron으로 변경 가능)
+     */
+    @Scheduled(cron = "${aim.search-log.compaction-cron:0 30 4 * * *}")
+    public void compact() {
+        LocalDate today = LocalDate.now();
+        // 날짜 경계로 자르므로 한 날짜의 로그는 같은 롤업 행으로 모인다
+        LocalDateTime cutoff = today.minusDays(retentionDays).atStartOfDay();
+
+        int rolledUp = 0;
+        int moved;
+        while ((moved = compactBatch(cutoff)) > 0) {
+            rolledUp += moved;
+        }
+
+        LocalDate rollupCutoff = today.minusDays(rollupRetentionDays);
+        int pruned = 0;
+        int deleted;
+        while ((deleted = pruneBatch(rollupCutoff)) > 0) {
+            pruned += deleted;
+        }
+
+        System.out.println("🗜️ 검색 로그 압축 완료: 원본 " + rolledUp + "건 롤업, 만료 일간 집계 " + pruned + "건 삭제");
+    }
+
+    /**
+     * cutoff 이전 로그 중 가장 오래된 batchSize행을 롤업 후 삭제
+     *
+     * @return 삭제된 원본 로그 수 (0이면 더 이상 압축할 로그 없음)
+     */
+    int compactBatch(LocalDateTime cutoff) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            Long maxId = searchLogRepository.findMaxIdOfOldestBatch(cutoff, batchSize);
+            if (maxId == null) {
+                return 0;
+            }
+            // 같은 범위(cutoff 이전 + maxId 이하)를 합산하고 삭제해야 이중 집계/누락이 없다
+            searchCountDailyRepository.rollUpSearchLogs(cutoff, maxId);
+            return searchLogRepository.deleteRolledUp(cutoff, maxId);
+        });
+        return deleted != null ? deleted : 0;
+    }
+
+    private int pruneBatch(LocalDate before) {
+        Integer deleted = transactionTemplate.execute(status ->
+                searchCountDailyRepository.deleteOlderThan(before, batchSize));
+        return deleted != null ? deleted : 0;
+    }
+}
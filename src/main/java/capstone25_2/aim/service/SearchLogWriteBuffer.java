@@ -0,0 +1,235 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.domain.event.ReferenceDataChangedEvent;
+import capstone25_2.aim.repository.AnalystRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 검색 로그 write-behind 버퍼
+ *
+ * - 클릭 시점에는 메모리 큐에 넣기만 하고 바로 응답
+ * - 애널리스트 ID는 메모리의 ID 집합으로만 검증 (클릭마다 DB를 확인하지 않음)
+ *   집합은 서버 시작 시 적재하고, 애널리스트가 생성되면(ReferenceDataChangedEvent) 커밋 후 다시 적재
+ * - 큐가 batchSize 이상 쌓이거나 flushInterval이 지나면 multi-row INSERT로 일괄 저장
+ * - 서버 정상 종료 시 남은 로그를 모두 저장
+ * - DB 장애 시 메모리가 무한히 늘지 않도록 제한
+ *   대기 로그가 max-pending에 도달하면 새 로그를 버림 (drop-new, 이미 쌓인 로그는 유지)
+ *   저장 실패한 배치는 큐 앞쪽에 다시 넣어 순서를 유지하고, max-attempts번 실패하면 버림
+ *   버린 로그는 aim.search-log.dropped{reason=overflow|retry_exhausted} 카운터로 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchLogWriteBuffer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AnalystRepository analystRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${aim.search-log.batch-size:500}")
+    private int batchSize;
+
+    @Value("${aim.search-log.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${aim.search-log.max-pending:100000}")
+    private int maxPending;
+
+    @Value("${aim.search-log.max-attempts:5}")
+    private int maxAttempts;
+
+    // 적재 전(null)에만 DB로 확인
+    private volatile Set<Long> knownAnalystIds;
+    private final Deque<PendingLog> queue = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private ScheduledExecutorService flusher;
+
+    // attempts: 저장 실패 횟수
+    private record PendingLog(Long analystId, LocalDateTime searchedAt, int attempts) {
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-log-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 서버 시작 시 애널리스트 ID 집합 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAnalystIds() {
+        knownAnalystIds = Set.copyOf(analystRepository.findAllIds());
+        System.out.println("📝 검색 로그 버퍼 준비 완료: 애널리스트 " + knownAnalystIds.size() + "명");
+    }
+
+    /**
+     * 리포트 적재 중 애널리스트가 생성되면 커밋 후 ID 집합을 다시 적재
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        knownAnalystIds = Set.copyOf(analystRepository.findAllIds());
+    }
+
+    /**
+     * 존재하는 애널리스트인지 확인
+     * 없는 ID(잘못된 요청)도 메모리 집합으로 판단하므로 DB를 거치지 않음
+     */
+    public boolean isKnownAnalyst(Long analystId) {
+        if (analystId == null) {
+            return false;
+        }
+        Set<Long> analystIds = knownAnalystIds;
+        if (analystIds == null) {
+            // 서버 시작 직후 집합 적재 전
+            return analystRepository.existsById(analystId);
+        }
+        return analystIds.contains(analystId);
+    }
+
+    /**
+     * 검색 로그를 버퍼에 추가 (DB 저장은 비동기)
+     */
+    public void enqueue(Long analystId, LocalDateTime searchedAt) {
+        // 대기 로그가 가득 차면 새 로그를 버림 (자리를 먼저 확보한 뒤 큐에 추가)
+        int pending = pendingCount.incrementAndGet();
+        if (pending > maxPending) {
+            pendingCount.decrementAndGet();
+            countDropped("overflow", 1);
+            return;
+        }
+        queue.add(new PendingLog(analystId, searchedAt, 0));
+
+        // 크기 임계치 도달 시 즉시 flush 요청 (중복 요청 방지)
+        if (pending >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flushSafely);
+            } catch (RejectedExecutionException e) {
+                // 종료 중: 요청은 실패시키지 않고 로그는 큐에 남김
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * 버퍼에 쌓인 로그를 batchSize 단위 multi-row INSERT로 저장
+     *
+     * @return 저장된 로그 수
+     */
+    public synchronized int flush() {
+        flushRequested.set(false);
+        int flushedCount = 0;
+
+        while (true) {
+            List<PendingLog> batch = new ArrayList<>(batchSize);
+            PendingLog log;
+            while (batch.size() < batchSize && (log = queue.poll()) != null) {
+                batch.add(log);
+            }
+            if (batch.isEmpty()) {
+                break;
+            }
+            pendingCount.addAndGet(-batch.size());
+
+            try {
+                insertBatch(batch);
+                flushedCount += batch.size();
+            } catch (RuntimeException e) {
+                requeueFailed(batch);
+                throw e;
+            }
+        }
+
+        return flushedCount;
+    }
+
+    /**
+     * 서버 종료 시 남은 로그 저장
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+
+        int flushedCount = flush();
+        System.out.println("📝 검색 로그 버퍼 종료: 남은 로그 " + flushedCount + "건 저장");
+    }
+
+    /**
+     * 저장 실패한 배치를 큐 앞쪽에 순서대로 되돌림 (다음 주기에 재시도)
+     * max-attempts번 실패한 로그는 버림
+     */
+    private void requeueFailed(List<PendingLog> batch) {
+        int requeued = 0;
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            PendingLog log = batch.get(i);
+            if (log.attempts() + 1 >= maxAttempts) {
+                continue;
+            }
+            queue.addFirst(new PendingLog(log.analystId(), log.searchedAt(), log.attempts() + 1));
+            requeued++;
+        }
+        pendingCount.addAndGet(requeued);
+        countDropped("retry_exhausted", batch.size() - requeued);
+    }
+
+    private void countDropped(String reason, int count) {
+        if (count > 0) {
+            meterRegistry.counter("aim.search-log.dropped", "reason", reason).increment(count);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ 검색 로그 저장 실패 (재시도 예정, 대기 " + pendingCount.get() + "건): " + e.getMessage());
+        }
+    }
+
+    private void insertBatch(List<PendingLog> batch) {
+        StringBuilder sql = new StringBuilder("INSERT INTO search_log (analyst_id, searched_at) VALUES ");
+        Object[] args = new Object[batch.size() * 2];
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingLog log = batch.get(i);
+            sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+            args[i * 2] = log.analystId();
+            args[i * 2 + 1] = Timestamp.valueOf(log.searchedAt());
+        }
+
+        jdbcTemplate.update(sql.toString(), args);
+    }
+}
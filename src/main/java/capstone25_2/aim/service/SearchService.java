@@ -1,88 +1,67 @@
 package capstone25_2.aim.service;
 
 import capstone25_2.aim.domain.dto.search.AnalystSearchResultDTO;
-import capstone25_2.aim.domain.dto.search.StockSearchResultDTO;
 import capstone25_2.aim.domain.dto.search.UnifiedSearchResultDTO;
-import capstone25_2.aim.domain.entity.Analyst;
-import capstone25_2.aim.domain.entity.SearchLog;
-import capstone25_2.aim.domain.entity.Stock;
-import capstone25_2.aim.repository.AnalystRepository;
-import capstone25_2.aim.repository.SearchLogRepository;
-import capstone25_2.aim.repository.StockRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
+@Timed("aim.service")
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class SearchService {
 
-    private final AnalystRepository analystRepository;
-    private final SearchLogRepository searchLogRepository;
-    private final StockRepository stockRepository;
+    private static final int MAX_TYPEAHEAD_LIMIT = 50;
+
+    private final SearchIndex searchIndex;
+    private final SearchTrendCounter searchTrendCounter;
+    private final SearchLogWriteBuffer searchLogWriteBuffer;
 
     /**
      * 통합 검색 (애널리스트 + 종목)
-     * 애널리스트: 이름으로 검색
+     * 애널리스트: 이름 또는 증권사명으로 검색
      * 종목: 종목명 또는 종목코드로 검색
+     * DB 조회 없이 메모리 n-gram 인덱스(SearchIndex)에서 검색 (트랜잭션/커넥션을 열지 않음)
      */
     public UnifiedSearchResultDTO unifiedSearch(String keyword) {
-        // 애널리스트 검색
-        List<AnalystSearchResultDTO> analysts = searchAnalysts(keyword);
-
-        // 종목 검색 (종목명 또는 종목코드)
-        List<Stock> stocks = stockRepository
-                .findByStockNameContainingIgnoreCaseOrStockCodeContaining(keyword, keyword);
-
-        List<StockSearchResultDTO> stockDTOs = stocks.stream()
-                .map(stock -> StockSearchResultDTO.builder()
-                        .stockId(stock.getId())
-                        .stockCode(stock.getStockCode())
-                        .stockName(stock.getStockName())
-                        .sector(stock.getSector())
-                        .build())
-                .collect(Collectors.toList());
-
         return UnifiedSearchResultDTO.builder()
-                .analysts(analysts)
-                .stocks(stockDTOs)
+                .analysts(searchIndex.searchAnalysts(keyword))
+                .stocks(searchIndex.searchStocks(keyword))
                 .build();
     }
 
     /**
-     * 애널리스트 검색 (이름으로만 검색)
+     * 애널리스트 검색 (이름 또는 증권사명)
      * 이름순으로 정렬
      */
     public List<AnalystSearchResultDTO> searchAnalysts(String keyword) {
-        List<Analyst> analysts = analystRepository.findAll().stream()
-                .filter(analyst -> analyst.getAnalystName().contains(keyword))
-                .sorted(Comparator.comparing(Analyst::getAnalystName))  // 이름순 정렬
-                .collect(Collectors.toList());
+        return searchIndex.searchAnalysts(keyword);
+    }
 
-        return analysts.stream()
-                .map(analyst -> AnalystSearchResultDTO.builder()
-                        .analystId(analyst.getId())
-                        .analystName(analyst.getAnalystName())
-                        .firmName(analyst.getFirmName())
-                        .build())
-                .collect(Collectors.toList());
+    /**
+     * 자동완성 검색 (키 입력마다 호출)
+     * 초성("ㅅㅅ")·입력 중인 음절("삼서")도 매칭, 완전 > 접두사 > 부분 일치 후 인기도순
+     */
+    public UnifiedSearchResultDTO typeahead(String keyword, int limit) {
+        return searchIndex.typeahead(keyword, Math.min(Math.max(limit, 1), MAX_TYPEAHEAD_LIMIT));
     }
 
     /**
      * 애널리스트 검색 로그 저장
+     * 버퍼에 넣고 바로 반환 (DB 저장은 SearchLogWriteBuffer가 일괄 처리)
      */
-    @Transactional
     public void logAnalystSearch(Long analystId) {
-        Analyst analyst = analystRepository.findById(analystId)
-                .orElseThrow(() -> new RuntimeException("Analyst not found"));
+        if (!searchLogWriteBuffer.isKnownAnalyst(analystId)) {
+            throw new RuntimeException("Analyst not found");
+        }
+
+        LocalDateTime searchedAt = LocalDateTime.now();
+        searchLogWriteBuffer.enqueue(analystId, searchedAt);
 
-        SearchLog log = new SearchLog();
-        log.setAnalyst(analyst);
-        searchLogRepository.save(log);
+        // 최근 7일 검색 트렌드 카운터 갱신
+        searchTrendCounter.record(analystId, searchedAt);
     }
 }
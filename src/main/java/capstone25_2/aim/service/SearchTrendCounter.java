@@ -0,0 +1,213 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.repository.SearchCountDailyRepository;
+import capstone25_2.aim.repository.SearchLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근 7일 애널리스트 검색 횟수 카운터 (메모리)
+ *
+ * - 1시간 단위 버킷 168개(7일)를 링 버퍼로 유지
+ * - 버킷이 만료되면 해당 버킷의 카운트만큼 누적값에서 차감
+ * - 누적값 기준 정렬 집합(TreeSet)을 함께 유지하여 TOP K 조회는 O(K)
+ * - 쓰기/TOP K는 synchronized, 애널리스트별 검색 수 조회는 잠금 없이 ConcurrentHashMap에서 읽음
+ *   (자동완성은 후보마다 검색 수를 보므로 요청 스레드끼리 잠금 경쟁하지 않도록)
+ * - 서버 시작 시 search_count_daily(압축된 과거 일간 집계) + search_log(최근 원본)로 재구성
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchTrendCounter {
+
+    static final int BUCKET_COUNT = 24 * 7;  // 1시간 × 7일
+
+    private final SearchLogRepository searchLogRepository;
+    private final SearchCountDailyRepository searchCountDailyRepository;
+
+    // 버킷별 애널리스트 검색 횟수 (index = 시각(epoch hour) % BUCKET_COUNT)
+    private final List<Map<Long, Integer>> buckets = createBuckets();
+
+    // 애널리스트별 7일 누적 검색 횟수 + 누적값 정렬 집합
+    private final Map<Long, Long> totals = new ConcurrentHashMap<>();
+    private final Map<Long, Long> totalsView = Collections.unmodifiableMap(totals);
+    private final NavigableSet<TrendEntry> ranking = new TreeSet<>(
+            Comparator.comparingLong(TrendEntry::searchCount).reversed()
+                    .thenComparingLong(TrendEntry::analystId));
+
+    private volatile long currentHour = Long.MIN_VALUE;
+
+    /**
+     * 애널리스트별 누적 검색 횟수
+     */
+    public record TrendEntry(long analystId, long searchCount) {
+    }
+
+    /**
+     * 서버 시작 시 최근 7일 검색 기록으로 카운터 재구성
+     * 압축된 날짜는 시간 정보가 없으므로 해당 날짜 0시(윈도우 시작 이전이면 윈도우 시작) 버킷에 합산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowStart = now.minusHours(BUCKET_COUNT - 1).withMinute(0).withSecond(0).withNano(0);
+        List<Object[]> dailyCounts = searchCountDailyRepository.findDailyCountsSince(windowStart.toLocalDate());
+        List<Object[]> logs = searchLogRepository.findAnalystSearchTimesSince(windowStart);
+
+        synchronized (this) {
+            clear();
+            advanceTo(toEpochHour(now));
+            for (Object[] daily : dailyCounts) {
+                LocalDateTime dayStart = ((LocalDate) daily[1]).atStartOfDay();
+                LocalDateTime bucketTime = dayStart.isBefore(windowStart) ? windowStart : dayStart;
+                record((Long) daily[0], bucketTime, ((Number) daily[2]).longValue());
+            }
+            for (Object[] log : logs) {
+                record((Long) log[0], (LocalDateTime) log[1], 1);
+            }
+            System.out.println("🔥 검색 트렌드 카운터 재구성 완료: 일간 집계 " + dailyCounts.size()
+                    + "건, 로그 " + logs.size() + "건, 애널리스트 " + totals.size() + "명");
+        }
+    }
+
+    /**
+     * 검색 1회 기록
+     */
+    public synchronized void record(Long analystId, LocalDateTime searchedAt) {
+        record(analystId, searchedAt, 1);
+    }
+
+    /**
+     * 검색 횟수 기록 (재구성/롤업 데이터 반영용)
+     */
+    public synchronized void record(Long analystId, LocalDateTime searchedAt, long count) {
+        if (analystId == null || searchedAt == null || count <= 0) {
+            return;
+        }
+
+        long hour = toEpochHour(searchedAt);
+        if (hour > currentHour) {
+            advanceTo(hour);
+        }
+
+        // 7일 윈도우를 벗어난 기록은 무시
+        if (hour <= currentHour - BUCKET_COUNT) {
+            return;
+        }
+
+        int index = bucketIndex(hour);
+        buckets.get(index).merge(analystId, (int) count, Integer::sum);
+        updateTotal(analystId, count);
+    }
+
+    /**
+     * 최근 7일 검색량 TOP K
+     */
+    public List<TrendEntry> getTopAnalysts(int k) {
+        return getTopAnalysts(k, LocalDateTime.now());
+    }
+
+    synchronized List<TrendEntry> getTopAnalysts(int k, LocalDateTime now) {
+        advanceTo(toEpochHour(now));
+
+        List<TrendEntry> result = new ArrayList<>(k);
+        for (TrendEntry entry : ranking) {
+            if (result.size() >= k) {
+                break;
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+
+    /**
+     * 특정 애널리스트의 최근 7일 검색 횟수
+     */
+    public long getSearchCount(Long analystId) {
+        return getSearchCounts().getOrDefault(analystId, 0L);
+    }
+
+    /**
+     * 애널리스트별 최근 7일 검색 횟수 (읽기 전용 뷰, 잠금 없이 조회)
+     * 만료할 버킷이 있을 때만 잠금을 잡고 이동 → 여러 애널리스트를 볼 때는 한 번 받아서 재사용
+     */
+    public Map<Long, Long> getSearchCounts() {
+        long hour = toEpochHour(LocalDateTime.now());
+        if (hour > currentHour) {
+            synchronized (this) {
+                advanceTo(hour);
+            }
+        }
+        return totalsView;
+    }
+
+    /**
+     * 현재 시각까지 버킷을 이동시키며 만료된 버킷을 누적값에서 차감
+     */
+    private void advanceTo(long hour) {
+        if (currentHour == Long.MIN_VALUE) {
+            currentHour = hour;
+            return;
+        }
+        if (hour <= currentHour) {
+            return;
+        }
+
+        // 한 바퀴 이상 지났으면 모든 버킷을 한 번씩만 비우면 됨
+        long steps = Math.min(hour - currentHour, BUCKET_COUNT);
+        for (long h = hour - steps + 1; h <= hour; h++) {
+            int index = bucketIndex(h);
+            Map<Long, Integer> expired = buckets.get(index);
+            for (Map.Entry<Long, Integer> entry : expired.entrySet()) {
+                updateTotal(entry.getKey(), -entry.getValue());
+            }
+            expired.clear();
+        }
+        currentHour = hour;
+    }
+
+    private void updateTotal(Long analystId, long delta) {
+        long oldTotal = totals.getOrDefault(analystId, 0L);
+        long newTotal = oldTotal + delta;
+
+        if (oldTotal > 0) {
+            ranking.remove(new TrendEntry(analystId, oldTotal));
+        }
+        if (newTotal > 0) {
+            totals.put(analystId, newTotal);
+            ranking.add(new TrendEntry(analystId, newTotal));
+        } else {
+            totals.remove(analystId);
+        }
+    }
+
+    private void clear() {
+        buckets.forEach(Map::clear);
+        totals.clear();
+        ranking.clear();
+        currentHour = Long.MIN_VALUE;
+    }
+
+    private static int bucketIndex(long hour) {
+        return (int) Math.floorMod(hour, (long) BUCKET_COUNT);
+    }
+
+    private static long toEpochHour(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 3600L);
+    }
+
+    private static List<Map<Long, Integer>> createBuckets() {
+        List<Map<Long, Integer>> list = new ArrayList<>(BUCKET_COUNT);
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            list.add(new HashMap<>());
+        }
+        return list;
+    }
+}
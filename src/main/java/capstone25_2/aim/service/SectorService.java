@@ -1,24 +1,28 @@
 package capstone25_2.aim.service;
 
+import capstone25_2.aim.domain.dto.report.ReportSnapshot;
 import capstone25_2.aim.domain.dto.sector.SectorListDTO;
 import capstone25_2.aim.domain.dto.sector.SectorResponseDTO;
 import capstone25_2.aim.domain.dto.sector.SectorStockDTO;
 import capstone25_2.aim.domain.entity.ClosePrice;
 import capstone25_2.aim.domain.entity.HiddenOpinionLabel;
-import capstone25_2.aim.domain.entity.Report;
 import capstone25_2.aim.domain.entity.Stock;
 import capstone25_2.aim.repository.ClosePriceRepository;
 import capstone25_2.aim.repository.ReportRepository;
 import capstone25_2.aim.repository.StockRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("aim.service")
 @RequiredArgsConstructor
 public class SectorService {
 
@@ -34,6 +38,8 @@ public class SectorService {
      * 1) 모든 종목 조회
      * 2) 모든 종목의 최근 5년 리포트 한 번에 조회
      */
+    @SingleFlight(staleWhileRevalidate = true)
+    @Cacheable(cacheNames = "sectors", key = "@dataVersion.current()")
     @Transactional(readOnly = true)
     public List<SectorListDTO> getAllSectors() {
         // 1. 모든 종목 조회 (쿼리 1개)
@@ -50,17 +56,17 @@ public class SectorService {
 
         // 3. 모든 종목의 최근 5년 리포트를 한 번에 조회 (쿼리 1개)
         LocalDateTime fiveYearsAgo = LocalDateTime.now().minusYears(5);
-        List<Report> allReports = reportRepository.findByStockIdInAndReportDateAfterOrderByReportDateDesc(
+        List<ReportSnapshot> allReports = reportRepository.findSnapshotsByStockIdInAndReportDateAfter(
                 stockIds, fiveYearsAgo);
 
         // 4. 리포트를 종목별로 그룹핑 (메모리 연산)
-        Map<Long, List<Report>> reportsByStock = allReports.stream()
-                .collect(Collectors.groupingBy(report -> report.getStock().getId()));
+        Map<Long, List<ReportSnapshot>> reportsByStock = allReports.stream()
+                .collect(Collectors.groupingBy(ReportSnapshot::stockId));
 
         // 5. 각 종목의 다수결 의견 계산 (메모리 연산)
         Map<Long, HiddenOpinionLabel> stockOpinions = new HashMap<>();
         for (Stock stock : allStocks) {
-            List<Report> stockReports = reportsByStock.get(stock.getId());
+            List<ReportSnapshot> stockReports = reportsByStock.get(stock.getId());
             if (stockReports != null && !stockReports.isEmpty()) {
                 HiddenOpinionLabel opinion = calculateStockMajorityOpinion(stockReports);
                 if (opinion != null) {
@@ -92,8 +98,9 @@ public class SectorService {
      * 쿼리 최적화: 전체 3개 쿼리로 처리
      * 1) 해당 섹터의 종목 조회
      * 2) 해당 섹터 종목들의 최근 5년 리포트 한 번에 조회
-     * 3) 해당 섹터 종목들의 최신 종가 한 번에 조회
+     * 3) 해당 섹터 종목들의 종가 한 번에 조회 (최신 종가, HOLD/SELL 발행일 종가)
      */
+    @Cacheable(cacheNames = "sectorDetails", key = "{#sectorName, @dataVersion.current()}")
     @Transactional(readOnly = true)
     public SectorResponseDTO getSectorDetails(String sectorName) {
         // 1. 해당 섹터의 모든 종목 조회 (쿼리 1개)
@@ -110,29 +117,27 @@ public class SectorService {
 
         // 3. 모든 종목의 최근 5년 리포트를 한 번에 조회 (쿼리 1개)
         LocalDateTime fiveYearsAgo = LocalDateTime.now().minusYears(5);
-        List<Report> allReports = reportRepository.findByStockIdInAndReportDateAfterOrderByReportDateDesc(
+        List<ReportSnapshot> allReports = reportRepository.findSnapshotsByStockIdInAndReportDateAfter(
                 stockIds, fiveYearsAgo);
 
         // 4. 모든 종목의 종가를 한 번에 조회 (쿼리 1개)
         List<ClosePrice> allClosePrices = closePriceRepository.findByStockIdInOrderByStockIdAscTradeDateDesc(stockIds);
 
         // 5. 리포트를 종목별로 그룹핑 (메모리 연산)
-        Map<Long, List<Report>> reportsByStock = allReports.stream()
-                .collect(Collectors.groupingBy(report -> report.getStock().getId()));
+        Map<Long, List<ReportSnapshot>> reportsByStock = allReports.stream()
+                .collect(Collectors.groupingBy(ReportSnapshot::stockId));
 
-        // 6. 종가를 종목별로 그룹핑하여 최신 종가만 저장 (메모리 연산)
-        Map<Long, Integer> latestClosePriceByStock = new HashMap<>();
+        // 6. 종가를 종목별로 그룹핑 (거래일 → 종가, 최신 종가와 발행일 종가 조회용, 메모리 연산)
+        Map<Long, TreeMap<LocalDate, Integer>> closePricesByStock = new HashMap<>();
         for (ClosePrice closePrice : allClosePrices) {
-            Long stockId = closePrice.getStock().getId();
-            if (!latestClosePriceByStock.containsKey(stockId)) {
-                latestClosePriceByStock.put(stockId, closePrice.getClosePrice());
-            }
+            closePricesByStock.computeIfAbsent(closePrice.getStock().getId(), id -> new TreeMap<>())
+                    .put(closePrice.getTradeDate(), closePrice.getClosePrice());
         }
 
         // 7. 각 종목의 다수결 의견 계산 (메모리 연산)
         Map<Long, HiddenOpinionLabel> stockOpinions = new HashMap<>();
         for (Stock stock : stocks) {
-            List<Report> stockReports = reportsByStock.get(stock.getId());
+            List<ReportSnapshot> stockReports = reportsByStock.get(stock.getId());
             if (stockReports != null && !stockReports.isEmpty()) {
                 HiddenOpinionLabel opinion = calculateStockMajorityOpinion(stockReports);
                 if (opinion != null) {
@@ -147,11 +152,12 @@ public class SectorService {
         // 9. 각 종목의 상세 정보 계산 (메모리 연산)
         List<SectorStockDTO> stockDTOs = stocks.stream()
                 .map(stock -> {
-                    List<Report> stockReports = reportsByStock.get(stock.getId());
-                    Integer latestClosePrice = latestClosePriceByStock.get(stock.getId());
+                    List<ReportSnapshot> stockReports = reportsByStock.get(stock.getId());
+                    TreeMap<LocalDate, Integer> closePriceByDate =
+                            closePricesByStock.getOrDefault(stock.getId(), new TreeMap<>());
                     HiddenOpinionLabel opinion = stockOpinions.get(stock.getId());
 
-                    return calculateStockStats(stock, stockReports, latestClosePrice, opinion);
+                    return calculateStockStats(stock, stockReports, closePriceByDate, opinion);
                 })
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
@@ -236,24 +242,24 @@ public class SectorService {
      * @param stockReports 종목의 최근 5년 리포트 리스트
      * @return 다수결 의견 (HiddenOpinionLabel)
      */
-    private HiddenOpinionLabel calculateStockMajorityOpinion(List<Report> stockReports) {
+    private HiddenOpinionLabel calculateStockMajorityOpinion(List<ReportSnapshot> stockReports) {
         if (stockReports == null || stockReports.isEmpty()) {
             return null;
         }
 
         // 1. 애널리스트별로 그룹핑
-        Map<Long, List<Report>> reportsByAnalyst = stockReports.stream()
-                .collect(Collectors.groupingBy(report -> report.getAnalyst().getId()));
+        Map<Long, List<ReportSnapshot>> reportsByAnalyst = stockReports.stream()
+                .collect(Collectors.groupingBy(ReportSnapshot::analystId));
 
         // 2. 각 애널리스트의 최신 리포트만 선택 (1년 이내 리포트만)
         LocalDateTime oneYearAgo = LocalDateTime.now().minusYears(1);
-        List<Report> latestReportsByAnalyst = new ArrayList<>();
-        for (List<Report> analystReports : reportsByAnalyst.values()) {
+        List<ReportSnapshot> latestReportsByAnalyst = new ArrayList<>();
+        for (List<ReportSnapshot> analystReports : reportsByAnalyst.values()) {
             // 이미 날짜 내림차순으로 정렬되어 있으므로 첫 번째가 최신
             if (!analystReports.isEmpty()) {
-                Report latestReport = analystReports.get(0);
+                ReportSnapshot latestReport = analystReports.get(0);
                 // 최신 리포트가 1년 이내인 경우만 포함
-                if (latestReport.getReportDate().isAfter(oneYearAgo)) {
+                if (latestReport.reportDate().isAfter(oneYearAgo)) {
                     latestReportsByAnalyst.add(latestReport);
                 }
             }
@@ -261,7 +267,7 @@ public class SectorService {
 
         // 3. hiddenOpinion을 5단계로 변환하여 개수 집계
         Map<HiddenOpinionLabel, Long> opinionCounts = latestReportsByAnalyst.stream()
-                .map(report -> HiddenOpinionLabel.fromScore(report.getHiddenOpinion()))
+                .map(report -> HiddenOpinionLabel.fromScore(report.hiddenOpinion()))
                 .filter(Objects::nonNull)
                 .collect(Collectors.groupingBy(label -> label, Collectors.counting()));
 
@@ -316,12 +322,13 @@ public class SectorService {
      *
      * @param stock 종목 엔티티
      * @param stockReports 종목의 최근 5년 리포트 리스트
-     * @param latestClosePrice 최신 종가
+     * @param closePriceByDate 종목의 거래일 → 종가 (마지막 항목이 최신 종가, HOLD/SELL 발행일 종가도 여기서 찾음)
      * @param opinion 종목의 다수결 의견
      * @return SectorStockDTO
      */
-    private SectorStockDTO calculateStockStats(Stock stock, List<Report> stockReports,
-                                                Integer latestClosePrice, HiddenOpinionLabel opinion) {
+    private SectorStockDTO calculateStockStats(Stock stock, List<ReportSnapshot> stockReports,
+                                                TreeMap<LocalDate, Integer> closePriceByDate,
+                                                HiddenOpinionLabel opinion) {
         if (stockReports == null || stockReports.isEmpty()) {
             return SectorStockDTO.builder()
                     .stockId(stock.getId())
@@ -334,17 +341,17 @@ public class SectorService {
         }
 
         // 1. 애널리스트별로 그룹핑
-        Map<Long, List<Report>> reportsByAnalyst = stockReports.stream()
-                .collect(Collectors.groupingBy(report -> report.getAnalyst().getId()));
+        Map<Long, List<ReportSnapshot>> reportsByAnalyst = stockReports.stream()
+                .collect(Collectors.groupingBy(ReportSnapshot::analystId));
 
         // 2. 각 애널리스트의 최신 리포트만 선택 (1년 이내 리포트만)
         LocalDateTime oneYearAgo = LocalDateTime.now().minusYears(1);
-        List<Report> latestReportsByAnalyst = new ArrayList<>();
-        for (List<Report> analystReports : reportsByAnalyst.values()) {
+        List<ReportSnapshot> latestReportsByAnalyst = new ArrayList<>();
+        for (List<ReportSnapshot> analystReports : reportsByAnalyst.values()) {
             if (!analystReports.isEmpty()) {
-                Report latestReport = analystReports.get(0);
+                ReportSnapshot latestReport = analystReports.get(0);
                 // 최신 리포트가 1년 이내인 경우만 포함
-                if (latestReport.getReportDate().isAfter(oneYearAgo)) {
+                if (latestReport.reportDate().isAfter(oneYearAgo)) {
                     latestReportsByAnalyst.add(latestReport);
                 }
             }
@@ -352,15 +359,15 @@ public class SectorService {
 
         // 3. hiddenOpinion 별 개수 계산 (매수비율용)
         int buyCount = (int) latestReportsByAnalyst.stream()
-                .filter(report -> report.getHiddenOpinion() != null)
+                .filter(report -> report.hiddenOpinion() != null)
                 .filter(report -> {
-                    String category = HiddenOpinionLabel.toSimpleCategory(report.getHiddenOpinion());
+                    String category = HiddenOpinionLabel.toSimpleCategory(report.hiddenOpinion());
                     return "BUY".equals(category);
                 })
                 .count();
 
         int totalOpinions = (int) latestReportsByAnalyst.stream()
-                .filter(report -> report.getHiddenOpinion() != null)
+                .filter(report -> report.hiddenOpinion() != null)
                 .count();
 
         // 4. 매수 비율 계산 (소수점 첫째자리)
@@ -371,31 +378,27 @@ public class SectorService {
 
         // 5. AIM's 평균 목표가 계산 (BUY: 실제 목표가, HOLD: 발행일 종가, SELL: 발행일 종가 × 0.8)
         Double aimsAverageTargetPrice = latestReportsByAnalyst.stream()
-                .filter(report -> report.getHiddenOpinion() != null)
+                .filter(report -> report.hiddenOpinion() != null)
                 .mapToDouble(report -> {
-                    String category = HiddenOpinionLabel.toSimpleCategory(report.getHiddenOpinion());
+                    String category = HiddenOpinionLabel.toSimpleCategory(report.hiddenOpinion());
                     // BUY는 실제 목표가 사용
                     if ("BUY".equals(category)) {
-                        return report.getTargetPrice() != null ? report.getTargetPrice() : 0.0;
+                        return report.targetPrice() != null ? report.targetPrice() : 0.0;
                     }
                     // HOLD는 발행일 종가 사용 (변화 없음을 의미)
                     else if ("HOLD".equals(category)) {
-                        java.time.LocalDate reportDate = report.getReportDate().toLocalDate();
-                        java.util.Optional<ClosePrice> reportClosePrice = closePriceRepository
-                                .findFirstByStockIdAndTradeDateLessThanEqualOrderByTradeDateDesc(
-                                        stock.getId(), reportDate);
-                        if (reportClosePrice.isPresent()) {
-                            return reportClosePrice.get().getClosePrice().doubleValue();
+                        Map.Entry<LocalDate, Integer> reportClosePrice =
+                                closePriceByDate.floorEntry(report.reportDate().toLocalDate());
+                        if (reportClosePrice != null) {
+                            return reportClosePrice.getValue().doubleValue();
                         }
                     }
                     // SELL은 발행일 종가 × 0.8
                     else if ("SELL".equals(category)) {
-                        java.time.LocalDate reportDate = report.getReportDate().toLocalDate();
-                        java.util.Optional<ClosePrice> reportClosePrice = closePriceRepository
-                                .findFirstByStockIdAndTradeDateLessThanEqualOrderByTradeDateDesc(
-                                        stock.getId(), reportDate);
-                        if (reportClosePrice.isPresent()) {
-                            return reportClosePrice.get().getClosePrice() * 0.8;
+                        Map.Entry<LocalDate, Integer> reportClosePrice =
+                                closePriceByDate.floorEntry(report.reportDate().toLocalDate());
+                        if (reportClosePrice != null) {
+                            return reportClosePrice.getValue() * 0.8;
                         }
                     }
                     return 0.0;
@@ -405,6 +408,7 @@ public class SectorService {
                 .orElse(0.0);
 
         // 6. 상승 여력 계산 (AIM's 평균 목표가 기준, 소수점 첫째자리)
+        Integer latestClosePrice = closePriceByDate.isEmpty() ? null : closePriceByDate.lastEntry().getValue();
         Double upsidePotential = null;
         if (latestClosePrice != null && latestClosePrice > 0 && aimsAverageTargetPrice > 0) {
             upsidePotential = ((aimsAverageTargetPrice - latestClosePrice) / latestClosePrice) * 100;
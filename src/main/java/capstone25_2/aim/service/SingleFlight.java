@@ -0,0 +1,26 @@
+package capstone25_2.aim.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 인자로 동시에 들어온 호출을 한 번의 계산으로 합침 (SingleFlightAspect)
+ *
+ * - 먼저 들어온 호출만 실제로 실행하고, 실행 중에 들어온 호출은 그 결과를 함께 받음
+ * - 트랜잭션/조회 결과 캐시보다 바깥에서 동작하므로 기다리는 호출은 DB 커넥션을 잡지 않음
+ * - 인자 조합마다 마지막 결과를 보관하므로 인자가 없거나 종류가 적은 집계 메서드에만 선언
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SingleFlight {
+
+    /**
+     * 다시 계산하는 동안 들어온 호출에 직전 결과를 바로 돌려줄지 여부 (stale-while-revalidate)
+     * 직전 결과가 aim.single-flight.max-stale-ms보다 오래되었으면 계산이 끝날 때까지 기다림
+     */
+    boolean staleWhileRevalidate() default false;
+}
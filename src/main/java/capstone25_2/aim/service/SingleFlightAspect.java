@@ -0,0 +1,143 @@
+package capstone25_2.aim.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * @SingleFlight 처리 (동시 요청 합치기 + stale-while-revalidate)
+ *
+ * - 가장 바깥 advice(HIGHEST_PRECEDENCE)로 조회 결과 캐시, 트랜잭션보다 먼저 실행
+ *   → 적재 직후 캐시가 비었을 때 동시에 들어온 /home, /stocks, /sectors 요청이 집계를 한 번만 실행하고,
+ *     기다리는 요청은 커넥션 풀을 쓰지 않음
+ * - 직전 결과는 실행할 때마다(캐시 적중 포함) 갱신하므로, 요청이 꾸준하면 항상 최근 결과를 보관
+ * - 직전 결과를 돌려준 웹 요청에는 STALE_RESPONSE_ATTRIBUTE를 남겨 ETag를 붙이지 않음
+ *   (이전 데이터가 새 버전의 ETag로 브라우저에 저장되지 않도록)
+ * - 계산이 시작된 뒤 데이터 버전이 올랐다면, 그 결과를 받은 호출(실행한 호출 포함)도 같은 이유로 STALE 표시
+ *   (계산 안의 @Cacheable은 시작 시점 버전 기준이므로 쓰기 이전 데이터일 수 있음)
+ * - 진행 중인 계산을 wait-timeout-ms 이상 기다리면 기다리기를 멈추고 직접 실행
+ *   (계산이 멈춘 경우 기다리는 요청이 끝없이 쌓이지 않도록)
+ * - aim.singleflight.calls{method, outcome=leader|shared|stale|timeout}로 합쳐진 호출 수 기록
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SingleFlightAspect {
+
+    public static final String STALE_RESPONSE_ATTRIBUTE = SingleFlightAspect.class.getName() + ".STALE";
+
+    private final MeterRegistry meterRegistry;
+    private final DataVersion dataVersion;
+
+    @Value("${aim.single-flight.max-stale-ms:60000}")
+    private long maxStaleMs;
+
+    @Value("${aim.single-flight.wait-timeout-ms:10000}")
+    private long waitTimeoutMs;
+
+    private final Map<FlightKey, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Map<FlightKey, Completed> lastCompleted = new ConcurrentHashMap<>();
+
+    @Around("@annotation(singleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, SingleFlight singleFlight) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String method = signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+        FlightKey key = new FlightKey(method, Arrays.asList(joinPoint.getArgs()));
+
+        long version = dataVersion.current();
+        Flight flight = new Flight(new CompletableFuture<>(), version);
+        Flight existing = inFlight.putIfAbsent(key, flight);
+
+        // 1. 같은 계산이 진행 중 → 직전 결과(허용 시) 또는 진행 중인 계산의 결과
+        if (existing != null) {
+            if (singleFlight.staleWhileRevalidate()) {
+                Completed stale = lastCompleted.get(key);
+                if (stale != null && System.currentTimeMillis() - stale.completedAt() <= maxStaleMs) {
+                    count(method, "stale");
+                    markStaleResponse();
+                    return stale.value();
+                }
+            }
+            count(method, "shared");
+            return await(existing, version, joinPoint, method);
+        }
+
+        // 2. 진행 중인 계산 없음 → 직접 실행하고 결과를 기다리던 호출에 전달
+        count(method, "leader");
+        try {
+            Object result = joinPoint.proceed();
+            if (singleFlight.staleWhileRevalidate()) {
+                lastCompleted.put(key, new Completed(result, System.currentTimeMillis()));
+            }
+            flight.result().complete(result);
+            if (dataVersion.current() > version) {
+                // 계산 도중 쓰기가 커밋됨 → 응답 시점 버전의 ETag를 붙이지 않음
+                markStaleResponse();
+            }
+            return result;
+        } catch (Throwable t) {
+            flight.result().completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Object await(Flight flight, long version, ProceedingJoinPoint joinPoint, String method) throws Throwable {
+        try {
+            Object result = flight.result().get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+            if (version > flight.version()) {
+                // 이 호출보다 이전 버전에서 시작한 계산 → 쓰기 이전 데이터일 수 있음
+                markStaleResponse();
+            }
+            return result;
+        } catch (ExecutionException e) {
+            // 실행한 호출과 같은 예외를 그대로 전달
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            // 진행 중인 계산과 합치지 않고 직접 실행 (결과는 다른 호출과 공유하지 않음)
+            count(method, "timeout");
+            return joinPoint.proceed();
+        }
+    }
+
+    private static void markStaleResponse() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(STALE_RESPONSE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private void count(String method, String outcome) {
+        meterRegistry.counter("aim.singleflight.calls", "method", method, "outcome", outcome).increment();
+    }
+
+    private record FlightKey(String method, List<Object> args) {
+    }
+
+    // 진행 중인 계산 (version: 계산을 시작할 때의 데이터 버전)
+    private record Flight(CompletableFuture<Object> result, long version) {
+    }
+
+    private record Completed(Object value, long completedAt) {
+    }
+}
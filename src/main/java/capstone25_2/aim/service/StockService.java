@@ -1,5 +1,6 @@
 package capstone25_2.aim.service;
 
+import capstone25_2.aim.domain.dto.report.ReportSnapshot;
 import capstone25_2.aim.domain.dto.stock.*;
 import capstone25_2.aim.domain.entity.AnalystMetrics;
 import capstone25_2.aim.domain.entity.ClosePrice;
@@ -11,7 +12,9 @@ import capstone25_2.aim.repository.AnalystMetricsRepository;
 import capstone25_2.aim.repository.ClosePriceRepository;
 import capstone25_2.aim.repository.ReportRepository;
 import capstone25_2.aim.repository.StockRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +24,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("aim.service")
 @RequiredArgsConstructor
 public class StockService {
 
@@ -36,6 +40,8 @@ public class StockService {
 
     // 종목 리스트 조회 (상승여력, 매수 비율 포함)
     // 쿼리 최적화: N+1 문제 해결 (전체 3개 쿼리로 처리)
+    @SingleFlight(staleWhileRevalidate = true)
+    @Cacheable(cacheNames = "stockRanking", key = "@dataVersion.current()")
     @Transactional(readOnly = true)
     public List<StockListDTO> getAllStocksWithRankingInfo() {
         // 1. 모든 종목 조회 (쿼리 1개)
@@ -50,84 +56,82 @@ public class StockService {
                 .map(Stock::getId)
                 .collect(Collectors.toList());
 
-        // 3. 최근 1년간의 리포트를 한 번에 조회 (쿼리 1개)
-
+        // 3. 최근 1년간의 리포트를 한 번에 조회 (쿼리 1개, 필요한 컬럼만 projection으로 조회)
         LocalDateTime oneYearAgo = LocalDateTime.now().minusYears(1);
-        List<Report> allReports = reportRepository.findAll().stream()
-                .filter(report -> stockIds.contains(report.getStock().getId()))
-                .filter(report -> report.getReportDate().isAfter(oneYearAgo))
-                .sorted(Comparator.comparing(Report::getReportDate).reversed())
-                .collect(Collectors.toList());
+        List<ReportSnapshot> allReports = reportRepository.findSnapshotsByReportDateAfter(oneYearAgo);
 
         // 4. 모든 종목의 최신 종가를 한 번에 조회 (쿼리 1개)
         List<ClosePrice> allClosePrices = closePriceRepository
                 .findByStockIdInOrderByStockIdAscTradeDateDesc(stockIds);
 
         // 5. 리포트를 종목별로 그룹핑 (메모리 연산)
-        Map<Long, List<Report>> reportsByStock = allReports.stream()
-                .collect(Collectors.groupingBy(report -> report.getStock().getId()));
+        Map<Long, List<ReportSnapshot>> reportsByStock = allReports.stream()
+                .collect(Collectors.groupingBy(ReportSnapshot::stockId));
 
-        // 6. 종가를 종목별로 그룹핑하여 최신 종가만 저장 (메모리 연산)
-        Map<Long, Integer> latestClosePriceByStock = new HashMap<>();
+        // 6. 종가를 종목별로 그룹핑 (거래일 → 종가, 최신 종가와 발행일 종가 조회용, 메모리 연산)
+        Map<Long, TreeMap<LocalDate, Integer>> closePricesByStock = new HashMap<>();
         for (ClosePrice closePrice : allClosePrices) {
-            Long stockId = closePrice.getStock().getId();
-            if (!latestClosePriceByStock.containsKey(stockId)) {
-                latestClosePriceByStock.put(stockId, closePrice.getClosePrice());
-            }
+            closePricesByStock.computeIfAbsent(closePrice.getStock().getId(), id -> new TreeMap<>())
+                    .put(closePrice.getTradeDate(), closePrice.getClosePrice());
         }
 
         // 7. 각 종목의 상승여력과 매수비율 계산 (메모리 연산)
         return stocks.stream()
                 .map(stock -> {
-                    List<Report> stockReports = reportsByStock.get(stock.getId());
-                    Integer latestClosePrice = latestClosePriceByStock.get(stock.getId());
+                    List<ReportSnapshot> stockReports = reportsByStock.get(stock.getId());
+                    TreeMap<LocalDate, Integer> closePriceByDate =
+                            closePricesByStock.getOrDefault(stock.getId(), new TreeMap<>());
 
-                    return calculateStockRankingInfo(stock, stockReports, latestClosePrice);
+                    return calculateStockRankingInfo(stock, stockReports, closePriceByDate);
                 })
                 .collect(Collectors.toList());
     }
 
     /**
      * 종목의 랭킹 정보 계산 (상승여력, 매수비율)
+     *
+     * @param closePriceByDate 종목의 거래일 → 종가 (마지막 항목이 최신 종가, HOLD/SELL 발행일 종가도 여기서 찾음)
      */
-    private StockListDTO calculateStockRankingInfo(Stock stock, List<Report> stockReports, Integer latestClosePrice) {
+    private StockListDTO calculateStockRankingInfo(Stock stock, List<ReportSnapshot> stockReports,
+                                                   TreeMap<LocalDate, Integer> closePriceByDate) {
         Double upsidePotential = null;
         Double buyRatio = null;
+        Integer latestClosePrice = closePriceByDate.isEmpty() ? null : closePriceByDate.lastEntry().getValue();
 
         if (stockReports != null && !stockReports.isEmpty()) {
             try {
                 // 애널리스트별로 최신 리포트만 선택
-                Map<Long, Report> latestReportByAnalyst = new HashMap<>();
-                for (Report report : stockReports) {
-                    Long analystId = report.getAnalyst().getId();
+                Map<Long, ReportSnapshot> latestReportByAnalyst = new HashMap<>();
+                for (ReportSnapshot report : stockReports) {
+                    Long analystId = report.analystId();
                     if (!latestReportByAnalyst.containsKey(analystId)) {
                         latestReportByAnalyst.put(analystId, report);
                     }
                 }
 
-                List<Report> validReports = new ArrayList<>(latestReportByAnalyst.values());
+                List<ReportSnapshot> validReports = new ArrayList<>(latestReportByAnalyst.values());
 
                 // hiddenOpinion 별 개수 계산 (매수비율용)
                 int buyCount = (int) validReports.stream()
-                        .filter(report -> report.getHiddenOpinion() != null)
+                        .filter(report -> report.hiddenOpinion() != null)
                         .filter(report -> {
-                            String category = HiddenOpinionLabel.toSimpleCategory(report.getHiddenOpinion());
+                            String category = HiddenOpinionLabel.toSimpleCategory(report.hiddenOpinion());
                             return "BUY".equals(category);
                         })
                         .count();
 
                 int holdCount = (int) validReports.stream()
-                        .filter(report -> report.getHiddenOpinion() != null)
+                        .filter(report -> report.hiddenOpinion() != null)
                         .filter(report -> {
-                            String category = HiddenOpinionLabel.toSimpleCategory(report.getHiddenOpinion());
+                            String category = HiddenOpinionLabel.toSimpleCategory(report.hiddenOpinion());
                             return "HOLD".equals(category);
                         })
                         .count();
 
                 int sellCount = (int) validReports.stream()
-                        .filter(report -> report.getHiddenOpinion() != null)
+                        .filter(report -> report.hiddenOpinion() != null)
                         .filter(report -> {
-                            String category = HiddenOpinionLabel.toSimpleCategory(report.getHiddenOpinion());
+                            String category = HiddenOpinionLabel.toSimpleCategory(report.hiddenOpinion());
                             return "SELL".equals(category);
                         })
                         .count();
@@ -141,31 +145,27 @@ public class StockService {
 
                 // AIM's 평균 목표가 계산 (BUY: 실제 목표가, HOLD: 발행일 종가, SELL: 발행일 종가 × 0.8)
                 Double aimsAverageTargetPrice = validReports.stream()
-                        .filter(report -> report.getHiddenOpinion() != null)
+                        .filter(report -> report.hiddenOpinion() != null)
                         .mapToDouble(report -> {
-                            String category = HiddenOpinionLabel.toSimpleCategory(report.getHiddenOpinion());
+                            String category = HiddenOpinionLabel.toSimpleCategory(report.hiddenOpinion());
                             // BUY는 실제 목표가 사용
                             if ("BUY".equals(category)) {
-                                return report.getTargetPrice() != null ? report.getTargetPrice() : 0.0;
+                                return report.targetPrice() != null ? report.targetPrice() : 0.0;
                             }
                             // HOLD는 발행일 종가 사용 (변화 없음을 의미)
                             else if ("HOLD".equals(category)) {
-                                LocalDate reportDate = report.getReportDate().toLocalDate();
-                                Optional<ClosePrice> reportClosePrice = closePriceRepository
-                                        .findFirstByStockIdAndTradeDateLessThanEqualOrderByTradeDateDesc(
-                                                stock.getId(), reportDate);
-                                if (reportClosePrice.isPresent()) {
-                                    return reportClosePrice.get().getClosePrice().doubleValue();
+                                Map.Entry<LocalDate, Integer> reportClosePrice =
+                                        closePriceByDate.floorEntry(report.reportDate().toLocalDate());
+                                if (reportClosePrice != null) {
+                                    return reportClosePrice.getValue().doubleValue();
                                 }
                             }
                             // SELL은 발행일 종가 × 0.8
                             else if ("SELL".equals(category)) {
-                                LocalDate reportDate = report.getReportDate().toLocalDate();
-                                Optional<ClosePrice> reportClosePrice = closePriceRepository
-                                        .findFirstByStockIdAndTradeDateLessThanEqualOrderByTradeDateDesc(
-                                                stock.getId(), reportDate);
-                                if (reportClosePrice.isPresent()) {
-                                    return reportClosePrice.get().getClosePrice() * 0.8;
+                                Map.Entry<LocalDate, Integer> reportClosePrice =
+                                        closePriceByDate.floorEntry(report.reportDate().toLocalDate());
+                                if (reportClosePrice != null) {
+                                    return reportClosePrice.getValue() * 0.8;
                                 }
                             }
                             return 0.0;
@@ -240,6 +240,7 @@ public class StockService {
     }
 
     // 종가 변동 추이 조회 (최근 5년)
+    @Cacheable(cacheNames = "stockClosePrices", key = "{#stockId, @dataVersion.current()}")
     @Transactional(readOnly = true)
     public List<ClosePriceTrendDTO> getClosePriceTrend(Long stockId) {
         LocalDate fiveYearsAgo = LocalDate.now().minusYears(5);
@@ -255,6 +256,7 @@ public class StockService {
     }
 
     // 날짜별 AIM's 평균 목표주가 계산 (최근 2년간 매일 데이터, Forward Fill 방식)
+    @Cacheable(cacheNames = "stockDailyTargetPrices", key = "{#stockId, @dataVersion.current()}")
     @Transactional(readOnly = true)
     public List<DailyAverageTargetPriceDTO> getDailyAverageTargetPrices(Long stockId) {
         LocalDate today = LocalDate.now();
@@ -262,24 +264,29 @@ public class StockService {
         LocalDateTime startDateTime = startDate.atStartOfDay();
 
         // 2년간의 모든 리포트 조회
-        List<Report> validReports = reportRepository
-                .findByStockIdAndReportDateAfterOrderByReportDateDesc(stockId, startDateTime);
+        List<ReportSnapshot> validReports = reportRepository
+                .findSnapshotsByStockIdAndReportDateAfter(stockId, startDateTime);
 
         if (validReports.isEmpty()) {
             return List.of();
         }
 
-        // 리포트별 발행일 종가를 미리 조회하여 캐싱 (HOLD, SELL 리포트용)
+        // 리포트별 발행일 종가를 미리 찾아 캐싱 (HOLD, SELL 리포트용)
+        // 종목 종가를 한 번에 읽고 발행일 이전 가장 가까운 거래일을 찾음 (리포트마다 쿼리하지 않음)
+        TreeMap<LocalDate, Integer> closePriceByDate = new TreeMap<>();
+        closePriceRepository.findByStockIdOrderByTradeDateDesc(stockId)
+                .forEach(closePrice -> closePriceByDate.put(closePrice.getTradeDate(), closePrice.getClosePrice()));
+
         Map<Long, Integer> closePriceByReportId = new HashMap<>();
-        for (Report report : validReports) {
-            if (report.getHiddenOpinion() != null) {
-                String category = HiddenOpinionLabel.toSimpleCategory(report.getHiddenOpinion());
+        for (ReportSnapshot report : validReports) {
+            if (report.hiddenOpinion() != null) {
+                String category = HiddenOpinionLabel.toSimpleCategory(report.hiddenOpinion());
                 if ("HOLD".equals(category) || "SELL".equals(category)) {
-                    LocalDate reportDate = report.getReportDate().toLocalDate();
-                    // 해당 리포트 발행일의 종가 조회
-                    closePriceRepository
-                            .findFirstByStockIdAndTradeDateLessThanEqualOrderByTradeDateDesc(stockId, reportDate)
-                            .ifPresent(closePrice -> closePriceByReportId.put(report.getId(), closePrice.getClosePrice()));
+                    // 해당 리포트 발행일의 종가
+                    Map.Entry<LocalDate, Integer> closePrice = closePriceByDate.floorEntry(report.reportDate().toLocalDate());
+                    if (closePrice != null) {
+                        closePriceByReportId.put(report.id(), closePrice.getValue());
+                    }
                 }
             }
         }
@@ -292,36 +299,36 @@ public class StockService {
             final LocalDate currentDate = date;
 
             // 해당 날짜 이전에 발행된 리포트들만 필터링
-            List<Report> reportsUntilDate = validReports.stream()
-                    .filter(report -> !report.getReportDate().toLocalDate().isAfter(currentDate))
+            List<ReportSnapshot> reportsUntilDate = validReports.stream()
+                    .filter(report -> !report.reportDate().toLocalDate().isAfter(currentDate))
                     .collect(Collectors.toList());
 
             if (!reportsUntilDate.isEmpty()) {
                 // 애널리스트별 가장 최근 리포트만 선택
-                Map<Long, Report> latestReportByAnalyst = reportsUntilDate.stream()
+                Map<Long, ReportSnapshot> latestReportByAnalyst = reportsUntilDate.stream()
                         .collect(Collectors.toMap(
-                                report -> report.getAnalyst().getId(),
+                                ReportSnapshot::analystId,
                                 report -> report,
-                                (r1, r2) -> r1.getReportDate().isAfter(r2.getReportDate()) ? r1 : r2
+                                (r1, r2) -> r1.reportDate().isAfter(r2.reportDate()) ? r1 : r2
                         ));
 
                 // AIM's 평균 목표가 계산 (BUY: 실제 목표가, HOLD: 발행일 종가, SELL: 발행일 종가 × 0.8)
                 Double averageTargetPrice = latestReportByAnalyst.values().stream()
-                        .filter(report -> report.getHiddenOpinion() != null)
+                        .filter(report -> report.hiddenOpinion() != null)
                         .mapToDouble(report -> {
-                            String category = HiddenOpinionLabel.toSimpleCategory(report.getHiddenOpinion());
+                            String category = HiddenOpinionLabel.toSimpleCategory(report.hiddenOpinion());
                             // BUY는 실제 목표가 사용
                             if ("BUY".equals(category)) {
-                                return report.getTargetPrice() != null ? report.getTargetPrice() : 0.0;
+                                return report.targetPrice() != null ? report.targetPrice() : 0.0;
                             }
                             // HOLD는 발행일 종가 사용 (변화 없음을 의미)
                             else if ("HOLD".equals(category)) {
-                                Integer closePrice = closePriceByReportId.get(report.getId());
+                                Integer closePrice = closePriceByReportId.get(report.id());
                                 return closePrice != null ? closePrice : 0.0;
                             }
                             // SELL은 발행일 종가 × 0.8
                             else if ("SELL".equals(category)) {
-                                Integer closePrice = closePriceByReportId.get(report.getId());
+                                Integer closePrice = closePriceByReportId.get(report.id());
                                 return closePrice != null ? closePrice * 0.8 : 0.0;
                             }
                             return 0.0;
@@ -349,20 +356,21 @@ public class StockService {
     }
 
     // 현재 기준 목표가 통계 (최대/평균/최소: 애널리스트 실제 목표가, aimsTargetPrice: AIM's 방식)
+    @Cacheable(cacheNames = "stockTargetPriceStats", key = "{#stockId, @dataVersion.current()}")
     @Transactional(readOnly = true)
     public TargetPriceStatsDTO getTargetPriceStats(Long stockId) {
         LocalDateTime oneYearAgo = LocalDateTime.now().minusYears(1);
-        List<Report> validReports = reportRepository
-                .findByStockIdAndReportDateAfterOrderByReportDateDesc(stockId, oneYearAgo);
+        List<ReportSnapshot> validReports = reportRepository
+                .findSnapshotsByStockIdAndReportDateAfter(stockId, oneYearAgo);
 
         if (validReports.isEmpty()) {
             return null;
         }
 
         // 애널리스트별로 최신 리포트만 선택
-        Map<Long, Report> latestReportByAnalyst = new HashMap<>();
-        for (Report report : validReports) {
-            Long analystId = report.getAnalyst().getId();
+        Map<Long, ReportSnapshot> latestReportByAnalyst = new HashMap<>();
+        for (ReportSnapshot report : validReports) {
+            Long analystId = report.analystId();
             if (!latestReportByAnalyst.containsKey(analystId)) {
                 latestReportByAnalyst.put(analystId, report);
             }
@@ -370,7 +378,7 @@ public class StockService {
 
         // 1. 애널리스트 실제 목표가 리스트 추출 (기존 로직)
         List<Integer> targetPrices = latestReportByAnalyst.values().stream()
-                .map(Report::getTargetPrice)
+                .map(ReportSnapshot::targetPrice)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
@@ -386,31 +394,38 @@ public class StockService {
                 .average()
                 .orElse(0.0);
 
+        // 발행일 종가 조회용 (종목 종가를 한 번에 읽고 발행일 이전 가장 가까운 거래일을 찾음, 리포트마다 쿼리하지 않음)
+        TreeMap<LocalDate, Integer> closePriceByDate = new TreeMap<>();
+        closePriceRepository.findByStockIdOrderByTradeDateDesc(stockId)
+                .forEach(closePrice -> closePriceByDate.put(closePrice.getTradeDate(), closePrice.getClosePrice()));
+
         // 3. AIM's 평균 목표가 계산 (BUY: 실제 목표가, HOLD: 발행일 종가, SELL: 발행일 종가 × 0.8)
         List<Double> aimsTargetPrices = new ArrayList<>();
-        for (Report report : latestReportByAnalyst.values()) {
-            if (report.getHiddenOpinion() != null) {
-                String category = HiddenOpinionLabel.toSimpleCategory(report.getHiddenOpinion());
+        for (ReportSnapshot report : latestReportByAnalyst.values()) {
+            if (report.hiddenOpinion() != null) {
+                String category = HiddenOpinionLabel.toSimpleCategory(report.hiddenOpinion());
 
                 // BUY는 실제 목표가 사용
                 if ("BUY".equals(category)) {
-                    if (report.getTargetPrice() != null) {
-                        aimsTargetPrices.add(report.getTargetPrice().doubleValue());
+                    if (report.targetPrice() != null) {
+                        aimsTargetPrices.add(report.targetPrice().doubleValue());
                     }
                 }
                 // HOLD는 발행일 종가 사용 (변화 없음을 의미)
                 else if ("HOLD".equals(category)) {
-                    LocalDate reportDate = report.getReportDate().toLocalDate();
-                    closePriceRepository
-                            .findFirstByStockIdAndTradeDateLessThanEqualOrderByTradeDateDesc(stockId, reportDate)
-                            .ifPresent(closePrice -> aimsTargetPrices.add(closePrice.getClosePrice().doubleValue()));
+                    Map.Entry<LocalDate, Integer> closePrice =
+                            closePriceByDate.floorEntry(report.reportDate().toLocalDate());
+                    if (closePrice != null) {
+                        aimsTargetPrices.add(closePrice.getValue().doubleValue());
+                    }
                 }
                 // SELL은 발행일 종가 × 0.8
                 else if ("SELL".equals(category)) {
-                    LocalDate reportDate = report.getReportDate().toLocalDate();
-                    closePriceRepository
-                            .findFirstByStockIdAndTradeDateLessThanEqualOrderByTradeDateDesc(stockId, reportDate)
-                            .ifPresent(closePrice -> aimsTargetPrices.add(closePrice.getClosePrice() * 0.8));
+                    Map.Entry<LocalDate, Integer> closePrice =
+                            closePriceByDate.floorEntry(report.reportDate().toLocalDate());
+                    if (closePrice != null) {
+                        aimsTargetPrices.add(closePrice.getValue() * 0.8);
+                    }
                 }
             }
         }
@@ -448,11 +463,13 @@ public class StockService {
     }
 
     // 해당 종목을 커버하는 애널리스트 목록 (오늘 기준 1년 미만 리포트, 지표 포함)
+    @Cacheable(cacheNames = "stockCoveringAnalysts", key = "{#stockId, @dataVersion.current()}")
     @Transactional(readOnly = true)
     public List<CoveringAnalystDTO> getCoveringAnalysts(Long stockId) {
         LocalDateTime oneYearAgo = LocalDateTime.now().minusYears(1);
+        // 애널리스트명/증권사, 직전 리포트 목표가를 함께 로딩 (애널리스트마다 프록시 초기화 쿼리 방지)
         List<Report> validReports = reportRepository
-                .findByStockIdAndReportDateAfterOrderByReportDateDesc(stockId, oneYearAgo);
+                .findWithAnalystAndPrevReportByStockIdAndReportDateAfterOrderByReportDateDesc(stockId, oneYearAgo);
 
         if (validReports.isEmpty()) {
             return List.of();
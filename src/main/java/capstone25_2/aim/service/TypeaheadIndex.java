@@ -0,0 +1,85 @@
+package capstone25_2.aim.service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 자동완성(typeahead)용 불변 인덱스
+ *
+ * - 이름마다 자모 분해 문자열과 초성 문자열을 미리 계산해 둠
+ * - 검색어가 자음만이면("ㅅㅅ") 초성 문자열, 아니면 자모 분해 문자열로 비교
+ * - 순위: 완전 일치 > 접두사 일치 > 부분 일치, 같은 등급이면 인기도 내림차순, 이름순
+ * - 상위 limit개만 크기 제한 힙으로 유지 (수천 건 규모에서 키 입력마다 호출 가능)
+ */
+final class TypeaheadIndex<T> {
+
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int INFIX = 2;
+
+    private final List<T> docs;
+    private final String[] names;
+    private final String[] jamos;
+    private final String[] choseongs;
+
+    TypeaheadIndex(List<T> docs, Function<T, String> nameExtractor) {
+        this.docs = docs;
+        this.names = new String[docs.size()];
+        this.jamos = new String[docs.size()];
+        this.choseongs = new String[docs.size()];
+
+        for (int i = 0; i < docs.size(); i++) {
+            String name = nameExtractor.apply(docs.get(i));
+            names[i] = name == null ? "" : name;
+            jamos[i] = HangulUtils.decompose(names[i]);
+            choseongs[i] = HangulUtils.choseong(names[i]);
+        }
+    }
+
+    private record Match(int ordinal, int grade, long popularity) {
+    }
+
+    List<T> search(String keyword, int limit, ToLongFunction<T> popularity) {
+        if (keyword == null || keyword.isBlank() || limit <= 0) {
+            return List.of();
+        }
+
+        boolean choseongOnly = HangulUtils.isChoseongOnly(keyword);
+        String query = choseongOnly ? HangulUtils.choseong(keyword) : HangulUtils.decompose(keyword);
+        String[] targets = choseongOnly ? choseongs : jamos;
+
+        // 힙의 루트 = 현재 상위 limit개 중 가장 낮은 순위
+        Comparator<Match> ranking = Comparator.comparingInt(Match::grade)
+                .thenComparing(Comparator.comparingLong(Match::popularity).reversed())
+                .thenComparing(match -> names[match.ordinal()]);
+        PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, ranking.reversed());
+
+        for (int i = 0; i < targets.length; i++) {
+            String target = targets[i];
+            int grade;
+            if (target.equals(query)) {
+                grade = EXACT;
+            } else if (target.startsWith(query)) {
+                grade = PREFIX;
+            } else if (target.contains(query)) {
+                grade = INFIX;
+            } else {
+                continue;
+            }
+
+            top.add(new Match(i, grade, popularity.applyAsLong(docs.get(i))));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(top);
+        matches.sort(ranking);
+        List<T> result = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            result.add(docs.get(match.ordinal()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,188 @@
+package capstone25_2.aim.controller;
+
+import capstone25_2.aim.domain.event.ClosePriceChangedEvent;
+import capstone25_2.aim.domain.event.DerivedDataChangedEvent;
+import capstone25_2.aim.domain.event.ReportsChangedEvent;
+import capstone25_2.aim.service.DataVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 데이터 버전 ETag 조건부 GET 테스트
+ *
+ * 컨트롤러 대신 @ConditionalGet만 선언한 핸들러로 인터셉터를 직접 호출해
+ * 304 여부와 범위별 ETag 변화를 확인한다.
+ */
+@DisplayName("ConditionalGetInterceptor 테스트")
+class ConditionalGetInterceptorTest {
+
+    private DataVersion dataVersion;
+    private ConditionalGetInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        dataVersion = new DataVersion();
+        interceptor = new ConditionalGetInterceptor(dataVersion);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 컨트롤러 실행 없이 304")
+    void matchingETag_ShouldShortCircuitWith304() throws Exception {
+        // given
+        String etag = etag("stock", "1");
+
+        // when
+        MockHttpServletRequest request = request("stock", "1");
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean proceed = interceptor.preHandle(request, response, handler("stock"));
+
+        // then
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader("ETag")).isEqualTo(etag);
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("no-cache");
+    }
+
+    @Test
+    @DisplayName("약한 비교 - W/ 접두사와 여러 값 중 하나만 일치해도 304")
+    void weakOrListedETag_ShouldAlsoMatch() throws Exception {
+        // given
+        String etag = etag("ranking", null);
+
+        // when
+        MockHttpServletRequest request = request("ranking", null);
+        request.addHeader("If-None-Match", "\"old\", W/" + etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // then
+        assertThat(interceptor.preHandle(request, response, handler("ranking"))).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("첫 요청은 강한 ETag를 계산해 두고 컨트롤러로 진행 (헤더는 본문 기록 직전에 추가)")
+    void firstRequest_ShouldProceedWithStrongETag() throws Exception {
+        // when
+        MockHttpServletRequest request = request("ranking", null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean proceed = interceptor.preHandle(request, response, handler("ranking"));
+
+        // then
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat((String) request.getAttribute(ConditionalGetInterceptor.ETAG_ATTRIBUTE))
+                .startsWith("\"").endsWith("\"").contains(LocalDate.now().toString());
+    }
+
+    @Test
+    @DisplayName("종목 ETag는 해당 종목의 리포트/종가 변경과 지표 재계산에만 바뀜")
+    void stockETag_ShouldChangeOnlyForAffectingWrites() throws Exception {
+        // given
+        String stock1 = etag("stock", "1");
+        String stock2 = etag("stock", "2");
+        String ranking = etag("ranking", null);
+
+        // when - 종목 1 종가 적재
+        dataVersion.onClosePriceChanged(new ClosePriceChangedEvent(Map.of(1L,
+                new ClosePriceChangedEvent.DateRange(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 2)))));
+
+        // then
+        assertThat(etag("stock", "1")).isNotEqualTo(stock1);
+        assertThat(etag("stock", "2")).isEqualTo(stock2);
+        assertThat(etag("ranking", null)).isNotEqualTo(ranking);
+
+        // when - 지표 재계산은 모든 종목 상세에 반영
+        dataVersion.onDerivedDataChanged(new DerivedDataChangedEvent("metrics-recomputed"));
+
+        // then
+        assertThat(etag("stock", "2")).isNotEqualTo(stock2);
+    }
+
+    @Test
+    @DisplayName("애널리스트 ETag는 해당 애널리스트의 리포트가 저장될 때 바뀜")
+    void analystETag_ShouldChangeWhenAnalystReportsChange() throws Exception {
+        // given
+        String analyst1 = etag("analyst", "1");
+        String analyst2 = etag("analyst", "2");
+
+        // when
+        dataVersion.onReportsChanged(new ReportsChangedEvent(Set.of(10L), Set.of(1L)));
+
+        // then
+        assertThat(etag("analyst", "1")).isNotEqualTo(analyst1);
+        assertThat(etag("analyst", "2")).isEqualTo(analyst2);
+    }
+
+    @Test
+    @DisplayName("@ConditionalGet이 없는 핸들러는 ETag 없이 진행")
+    void undeclaredHandler_ShouldProceedWithoutETag() throws Exception {
+        MockHttpServletRequest request = request("home", null);
+        request.addHeader("If-None-Match", "\"anything\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(request, response, handler("home"))).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(request.getAttribute(ConditionalGetInterceptor.ETAG_ATTRIBUTE)).isNull();
+    }
+
+    // If-None-Match 없는 첫 요청에서 계산된 ETag
+    private String etag(String handlerName, String id) throws Exception {
+        MockHttpServletRequest request = request(handlerName, id);
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), handler(handlerName))).isTrue();
+        return (String) request.getAttribute(ConditionalGetInterceptor.ETAG_ATTRIBUTE);
+    }
+
+    private MockHttpServletRequest request(String handlerName, String id) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/" + handlerName);
+        if (id != null) {
+            String variable = handlerName.equals("stock") ? "stockId" : "analystId";
+            request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of(variable, id));
+        }
+        return request;
+    }
+
+    private HandlerMethod handler(String name) throws NoSuchMethodException {
+        TestController controller = new TestController();
+        return switch (name) {
+            case "stock" -> new HandlerMethod(controller, TestController.class.getMethod("stock", Long.class));
+            case "analyst" -> new HandlerMethod(controller, TestController.class.getMethod("analyst", Long.class));
+            case "ranking" -> new HandlerMethod(controller, TestController.class.getMethod("ranking"));
+            default -> new HandlerMethod(controller, TestController.class.getMethod("home"));
+        };
+    }
+
+    static class TestController {
+
+        @ConditionalGet(ConditionalGet.Scope.STOCK)
+        public String stock(@PathVariable Long stockId) {
+            return "stock";
+        }
+
+        @ConditionalGet(ConditionalGet.Scope.ANALYST)
+        public String analyst(@PathVariable Long analystId) {
+            return "analyst";
+        }
+
+        @ConditionalGet
+        public String ranking() {
+            return "ranking";
+        }
+
+        public String home() {
+            return "home";
+        }
+    }
+}
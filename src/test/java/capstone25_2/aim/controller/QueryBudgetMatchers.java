@@ -0,0 +1,78 @@
+package capstone25_2.aim.controller;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿼리 예산 검사용 MockMvc ResultMatcher
+ *
+ * SqlTimingInterceptor가 남긴 Server-Timing 헤더(db;desc="N queries")에서 SQL 실행 횟수를 읽어
+ * 핸들러 메서드에 선언된 @QueryBudget 또는 지정한 최대값과 비교한다.
+ *
+ * 사용 예: mockMvc.perform(get("/stocks/1")).andExpect(withinDeclaredBudget());
+ */
+public final class QueryBudgetMatchers {
+
+    private static final Pattern QUERY_COUNT = Pattern.compile("db;desc=\"(\\d+) queries\"");
+
+    private QueryBudgetMatchers() {
+    }
+
+    /**
+     * 핸들러 메서드의 @QueryBudget 이하로 SQL을 실행했는지 검사 (예산이 선언되지 않았으면 실패)
+     */
+    public static ResultMatcher withinDeclaredBudget() {
+        return result -> {
+            QueryBudget budget = declaredBudget(result);
+            assertThat(budget)
+                    .as(endpoint(result) + "에 @QueryBudget이 선언되지 않음")
+                    .isNotNull();
+            assertWithin(result, budget.value());
+        };
+    }
+
+    /**
+     * 지정한 횟수 이하로 SQL을 실행했는지 검사
+     */
+    public static ResultMatcher atMost(int maxStatements) {
+        return result -> assertWithin(result, maxStatements);
+    }
+
+    /**
+     * 응답의 Server-Timing 헤더에서 읽은 SQL 실행 횟수
+     */
+    public static int statementCount(MvcResult result) {
+        String serverTiming = result.getResponse().getHeader(SqlTimingInterceptor.SERVER_TIMING_HEADER);
+        assertThat(serverTiming)
+                .as(endpoint(result) + " 응답에 Server-Timing 헤더 없음")
+                .isNotNull();
+
+        Matcher matcher = QUERY_COUNT.matcher(serverTiming);
+        assertThat(matcher.find())
+                .as("Server-Timing 형식 오류: " + serverTiming)
+                .isTrue();
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    private static void assertWithin(MvcResult result, int maxStatements) {
+        assertThat(statementCount(result))
+                .as(endpoint(result) + " SQL 실행 횟수 (예산 " + maxStatements + "회)")
+                .isLessThanOrEqualTo(maxStatements);
+    }
+
+    private static QueryBudget declaredBudget(MvcResult result) {
+        return result.getHandler() instanceof HandlerMethod handlerMethod
+                ? handlerMethod.getMethodAnnotation(QueryBudget.class)
+                : null;
+    }
+
+    private static String endpoint(MvcResult result) {
+        return result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+    }
+}
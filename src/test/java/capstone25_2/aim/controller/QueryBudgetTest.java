@@ -0,0 +1,201 @@
+package capstone25_2.aim.controller;
+
+import capstone25_2.aim.service.DataVersion;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static capstone25_2.aim.controller.QueryBudgetMatchers.atMost;
+import static capstone25_2.aim.controller.QueryBudgetMatchers.statementCount;
+import static capstone25_2.aim.controller.QueryBudgetMatchers.withinDeclaredBudget;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 쿼리 예산 테스트 (N+1 회귀 방지)
+ *
+ * 종목 2개 × 애널리스트 ANALYST_COUNT명 × 리포트 여러 개(BUY/HOLD/SELL 혼합)와 종가를 적재하고,
+ * 각 조회 엔드포인트가 @QueryBudget에 선언한 횟수 이하로 SQL을 실행하는지 확인한다.
+ * 루프 안에서 조회하면 SQL 수가 애널리스트/리포트 수만큼 늘어 예산을 넘는다.
+ * 2차 캐시와 조회 결과 캐시는 요청마다 비워서 캐시가 없는 상태 기준으로 센다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("h2")
+@TestPropertySource(properties = {
+        "aim.test.h2-db-name=query-budget",
+        "decorator.datasource.p6spy.enable-logging=false"
+})
+@DisplayName("엔드포인트별 쿼리 예산 테스트")
+class QueryBudgetTest {
+
+    private static final int ANALYST_COUNT = 10;
+    private static final int REPORTS_PER_STOCK = 3;
+    private static final double[] HIDDEN_OPINIONS = {0.7, 0.3, 0.1};  // BUY, HOLD, SELL
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    @BeforeEach
+    void setUp() {
+        // 종목 2개(같은 섹터), 애널리스트 10명 × 종목별 리포트 3개, 애널리스트별 지표, 종목별 최근 60일 종가 (테스트 트랜잭션과 함께 롤백)
+        jdbcTemplate.update("INSERT INTO stock (stock_id, stock_code, stock_name, sector) VALUES (?, ?, ?, ?), (?, ?, ?, ?)",
+                1L, "005930", "삼성전자", "반도체", 2L, "000660", "SK하이닉스", "반도체");
+
+        List<Object[]> analysts = new ArrayList<>();
+        List<Object[]> metrics = new ArrayList<>();
+        for (long id = 1; id <= ANALYST_COUNT; id++) {
+            analysts.add(new Object[]{id, "애널" + id, "증권" + (id % 3)});
+            metrics.add(new Object[]{id, id, 50.0 + id, (int) (60 + id)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO analyst (analyst_id, analyst_name, firm_name) VALUES (?, ?, ?)", analysts);
+        jdbcTemplate.batchUpdate("INSERT INTO analyst_metrics (id, analyst_id, accuracy_rate, aims_score) VALUES (?, ?, ?, ?)", metrics);
+
+        LocalDate today = LocalDate.now();
+        List<Object[]> closePrices = new ArrayList<>();
+        long closePriceId = 1;
+        for (long stockId = 1; stockId <= 2; stockId++) {
+            for (int day = 0; day < 60; day++) {
+                closePrices.add(new Object[]{closePriceId++, stockId, Date.valueOf(today.minusDays(day)), 10000 + day});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO close_price (close_price_id, stock_id, trade_date, close_price) VALUES (?, ?, ?, ?)",
+                closePrices);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> reports = new ArrayList<>();
+        long reportId = 1;
+        for (long stockId = 1; stockId <= 2; stockId++) {
+            for (long analystId = 1; analystId <= ANALYST_COUNT; analystId++) {
+                for (int i = 0; i < REPORTS_PER_STOCK; i++) {
+                    reports.add(new Object[]{reportId, "리포트" + reportId, Timestamp.valueOf(now.minusDays(analystId + i * 15)),
+                            "BUY", (int) (12000 + reportId * 10), HIDDEN_OPINIONS[(int) (reportId % 3)], stockId, analystId});
+                    reportId++;
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO report (report_id, report_title, report_date, surface_opinion, " +
+                "target_price, hidden_opinion, stock_id, analyst_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", reports);
+    }
+
+    @Test
+    @DisplayName("홈/종목 랭킹/섹터 랭킹 - 선언한 쿼리 예산 이내")
+    void rankingEndpoints_ShouldStayWithinBudget() throws Exception {
+        perform("/home");
+        perform("/stocks");
+        perform("/sectors");
+        perform("/analysts/metrics");
+    }
+
+    @Test
+    @DisplayName("종목/애널리스트/섹터 상세 - 선언한 쿼리 예산 이내 (HOLD/SELL 리포트 발행일 종가 포함)")
+    void detailEndpoints_ShouldStayWithinBudget() throws Exception {
+        perform("/stocks/1");
+        perform("/analysts/1");
+        perform("/sectors/{sectorName}", "반도체");
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 테스트 실패")
+    void atMost_WhenExceeded_ShouldFail() {
+        clearCaches();
+        assertThatThrownBy(() -> mockMvc.perform(get("/stocks")).andExpect(atMost(0)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("GET /stocks");
+    }
+
+    @Test
+    @DisplayName("같은 데이터 버전의 재요청은 조회 결과 캐시에서 SQL 없이 응답, 버전이 오르면 다시 계산")
+    void repeatedRequest_ShouldHitResponseCacheUntilDataVersionChanges() throws Exception {
+        // given
+        MvcResult first = perform("/stocks");
+        assertThat(statementCount(first)).isPositive();
+
+        // when & then - 같은 버전: 캐시 적중
+        MvcResult cached = mockMvc.perform(get("/stocks")).andReturn();
+        assertThat(statementCount(cached)).isZero();
+        assertThat(cached.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+
+        // when & then - 쓰기 후 버전이 오르면 다시 계산
+        dataVersion.bump();
+        MvcResult recomputed = mockMvc.perform(get("/stocks")).andReturn();
+        assertThat(statementCount(recomputed)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Server-Timing 헤더와 엔드포인트별 SQL 횟수 히스토그램 기록")
+    void request_ShouldRecordServerTimingAndHistogram() throws Exception {
+        // when
+        MvcResult result = perform("/stocks/1");
+
+        // then
+        assertThat(result.getResponse().getHeader("Server-Timing")).matches("db;desc=\"\\d+ queries\";dur=\\d+\\.\\d{2}");
+
+        DistributionSummary statements = meterRegistry.find("aim.http.sql.statements")
+                .tag("method", "GET")
+                .tag("uri", "/stocks/{stockId}")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isGreaterThanOrEqualTo(1);
+        assertThat(statements.max()).isGreaterThanOrEqualTo(statementCount(result));
+    }
+
+    // 영속성 컨텍스트와 캐시를 비우고 요청한 뒤 200 응답과 쿼리 예산을 검사
+    private MvcResult perform(String uriTemplate, Object... uriVariables) throws Exception {
+        clearCaches();
+        return mockMvc.perform(get(uriTemplate, uriVariables))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Server-Timing"))
+                .andExpect(withinDeclaredBudget())
+                .andReturn();
+    }
+
+    private void clearCaches() {
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+}
@@ -0,0 +1,37 @@
+package capstone25_2.aim.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate가 실행하는 SQL을 모아두는 StatementInspector (실행 계획 테스트용)
+ * hibernate.session_factory.statement_inspector 속성으로 등록
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> CAPTURED = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (CAPTURED) {
+            CAPTURED.add(sql);
+        }
+        return sql;
+    }
+
+    static void clear() {
+        synchronized (CAPTURED) {
+            CAPTURED.clear();
+        }
+    }
+
+    static List<String> drain() {
+        synchronized (CAPTURED) {
+            List<String> result = new ArrayList<>(CAPTURED);
+            CAPTURED.clear();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package capstone25_2.aim.repository;
+
+import capstone25_2.aim.domain.entity.Analyst;
+import capstone25_2.aim.domain.entity.Report;
+import capstone25_2.aim.domain.entity.Stock;
+import capstone25_2.aim.domain.entity.SurfaceOpinion;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포트 대량 INSERT 벤치마크: JPA saveAll vs JdbcBulkLoader
+ * 기본 test 태스크에서는 제외, ./gradlew benchmark 로 실행
+ *
+ * 측정 방법
+ * - 두 테스트가 같은 ROW_COUNT 행을 넣고 각각 "📈 <방식>: N행, T초, R rows/sec"를 출력
+ * - 변경 전후를 비교할 때는 같은 장비에서 각 커밋을 ./gradlew benchmark 로 실행해 rows/sec를 나란히 기록
+ * - 기본은 H2 인메모리라 네트워크 왕복이 없음 → 운영 DB 수치가 필요하면 spring.datasource.*를 MySQL로 바꿔 실행
+ *   (rewriteBatchedStatements=true 포함 여부도 함께 기록)
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(JdbcBulkLoader.class)
+@ActiveProfiles("h2")
+@TestPropertySource(properties = {
+        "decorator.datasource.p6spy.enable-logging=false"
+})
+@DisplayName("리포트 대량 INSERT 벤치마크")
+class JdbcBulkLoaderBenchmarkTest {
+
+    private static final int ROW_COUNT = 20_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private JdbcBulkLoader jdbcBulkLoader;
+
+    private Stock stock;
+    private Analyst analyst;
+
+    @BeforeEach
+    void setUp() {
+        stock = new Stock();
+        stock.setStockCode("005930");
+        stock.setStockName("삼성전자");
+        entityManager.persist(stock);
+
+        analyst = new Analyst();
+        analyst.setAnalystName("홍길동");
+        analyst.setFirmName("삼성증권");
+        entityManager.persist(analyst);
+
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("JPA saveAll (IDENTITY, 행마다 INSERT)")
+    void jpaSaveAll() {
+        List<Report> reports = createReports();
+
+        long start = System.nanoTime();
+        reportRepository.saveAll(reports);
+        entityManager.flush();
+        long elapsed = System.nanoTime() - start;
+
+        printResult("JPA saveAll", elapsed);
+        assertThat(reportRepository.count()).isEqualTo(ROW_COUNT);
+    }
+
+    @Test
+    @DisplayName("JdbcBulkLoader (JDBC 배치)")
+    void jdbcBulkInsert() {
+        List<Report> reports = createReports();
+
+        long start = System.nanoTime();
+        jdbcBulkLoader.insertReports(reports);
+        long elapsed = System.nanoTime() - start;
+
+        printResult("JdbcBulkLoader", elapsed);
+        assertThat(reports).allMatch(report -> report.getId() != null);
+        assertThat(reportRepository.count()).isEqualTo(ROW_COUNT);
+    }
+
+    private List<Report> createReports() {
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Report> reports = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Report report = new Report();
+            report.setReportTitle("리포트 " + i);
+            report.setReportDate(base.plusDays(i));
+            report.setSurfaceOpinion(SurfaceOpinion.BUY);
+            report.setTargetPrice(80000 + i);
+            report.setHiddenOpinion(0.5);
+            report.setStock(stock);
+            report.setAnalyst(analyst);
+            reports.add(report);
+        }
+        return reports;
+    }
+
+    private void printResult(String label, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("📈 %s: %d행, %.2f초, %.0f rows/sec%n", label, ROW_COUNT, seconds, ROW_COUNT / seconds);
+    }
+}
@@ -0,0 +1,213 @@
+package capstone25_2.aim.repository;
+
+import capstone25_2.aim.domain.dto.analyst.AnalystReportSummaryDTO;
+import capstone25_2.aim.domain.dto.analyst.AnalystRankingResponseDTO;
+import capstone25_2.aim.domain.dto.analyst.CoveredStockDTO;
+import capstone25_2.aim.domain.dto.report.TargetPriceTrendResponseDTO;
+import capstone25_2.aim.domain.dto.sector.SectorResponseDTO;
+import capstone25_2.aim.domain.dto.stock.CoveringAnalystDTO;
+import capstone25_2.aim.domain.dto.stock.StockConsensusDTO;
+import capstone25_2.aim.domain.dto.stock.StockListDTO;
+import capstone25_2.aim.domain.dto.stock.TargetPriceStatsDTO;
+import capstone25_2.aim.domain.entity.Report;
+import capstone25_2.aim.service.AnalystMetricsService;
+import capstone25_2.aim.service.AnalystService;
+import capstone25_2.aim.service.ReportPrevLinker;
+import capstone25_2.aim.service.ReportService;
+import capstone25_2.aim.service.SectorService;
+import capstone25_2.aim.service.StockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 경로별 SQL 실행 횟수 테스트 (N+1 회귀 방지)
+ *
+ * 애널리스트 ANALYST_COUNT명이 같은 종목에 리포트를 여러 개씩 낸 데이터를 적재하고,
+ * 각 서비스 조회 메서드가 실행하는 SQL 수를 CapturingStatementInspector로 센다.
+ * 연관 엔티티(애널리스트, 종목, 직전 리포트)를 루프에서 지연 로딩하면 SQL 수가 애널리스트/리포트 수만큼 늘어나므로
+ * 기대 횟수는 데이터 양과 무관한 상수로 고정한다.
+ * 종목 페이지/섹터/종목 랭킹은 리포트를 projection으로만 읽으므로 영속성 컨텍스트에 Report 엔티티가 남지 않는지도 확인한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReportService.class, StockService.class, AnalystService.class, AnalystMetricsService.class,
+        SectorService.class, JdbcBulkLoader.class, ReportPrevLinker.class, SimpleMeterRegistry.class})
+@ActiveProfiles("h2")
+@TestPropertySource(properties = {
+        "aim.test.h2-db-name=read-path",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=capstone25_2.aim.repository.CapturingStatementInspector"
+})
+@DisplayName("조회 경로별 SQL 실행 횟수 테스트")
+class ReadPathStatementCountTest {
+
+    private static final int ANALYST_COUNT = 10;
+    private static final int REPORTS_PER_ANALYST = 3;
+    private static final long STOCK_ID = 1L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private AnalystService analystService;
+
+    @Autowired
+    private AnalystMetricsService analystMetricsService;
+
+    @Autowired
+    private SectorService sectorService;
+
+    @BeforeEach
+    void setUp() {
+        // 종목 1개, 애널리스트 10명 × 최근 1년 내 리포트 3개 (직전 리포트로 연결), 애널리스트별 지표 (테스트 트랜잭션과 함께 롤백)
+        jdbcTemplate.update("INSERT INTO stock (stock_id, stock_code, stock_name, sector) VALUES (?, ?, ?, ?)",
+                STOCK_ID, "005930", "삼성전자", "반도체");
+
+        List<Object[]> analysts = new ArrayList<>();
+        List<Object[]> metrics = new ArrayList<>();
+        for (long id = 1; id <= ANALYST_COUNT; id++) {
+            analysts.add(new Object[]{id, "애널" + id, "증권" + (id % 3)});
+            metrics.add(new Object[]{id, id, 50.0 + id, (int) (60 + id)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO analyst (analyst_id, analyst_name, firm_name) VALUES (?, ?, ?)", analysts);
+        jdbcTemplate.batchUpdate("INSERT INTO analyst_metrics (id, analyst_id, accuracy_rate, aims_score) VALUES (?, ?, ?, ?)", metrics);
+
+        LocalDateTime now = LocalDateTime.now();
+        long reportId = 1;
+        for (long analystId = 1; analystId <= ANALYST_COUNT; analystId++) {
+            Long prevReportId = null;
+            for (int i = REPORTS_PER_ANALYST; i >= 1; i--) {
+                jdbcTemplate.update("INSERT INTO report (report_id, report_title, report_date, surface_opinion, " +
+                                "target_price, hidden_opinion, stock_id, analyst_id, prev_report_id) " +
+                                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                        reportId, "리포트" + reportId, Timestamp.valueOf(now.minusDays(analystId * 10 + i)), "BUY",
+                        (int) (10000 + reportId * 100), 0.7, STOCK_ID, analystId, prevReportId);
+                prevReportId = reportId;
+                reportId++;
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("목표가 추이 - 애널리스트/직전 리포트/종목을 한 쿼리로 로딩")
+    void getTargetPriceTrend_ShouldRunSingleStatement() {
+        Counted<TargetPriceTrendResponseDTO> trend = count(() -> reportService.getTargetPriceTrend(STOCK_ID));
+
+        assertThat(trend.result().getReportCount()).isEqualTo(ANALYST_COUNT * REPORTS_PER_ANALYST);
+        assertThat(trend.result().getTargetPriceTrend()).allSatisfy(dto -> assertThat(dto.getAnalystName()).isNotNull());
+        assertThat(trend.statements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커버 애널리스트 목록 - 리포트 1회 + 지표 2회 (애널리스트 수와 무관)")
+    void getCoveringAnalysts_ShouldNotLoadPerAnalyst() {
+        Counted<List<CoveringAnalystDTO>> covering = count(() -> stockService.getCoveringAnalysts(STOCK_ID));
+
+        assertThat(covering.result()).hasSize(ANALYST_COUNT);
+        assertThat(covering.result()).allSatisfy(dto -> {
+            assertThat(dto.getFirmName()).isNotNull();
+            assertThat(dto.getTargetPriceDiff()).isEqualTo(100);  // 직전 리포트 대비 +100
+        });
+        assertThat(covering.statements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("애널리스트 리포트/커버 종목 - 종목을 한 쿼리로 로딩")
+    void analystReadPaths_ShouldRunSingleStatement() {
+        Counted<List<AnalystReportSummaryDTO>> reports = count(() -> analystService.getAnalystReports(1L));
+        assertThat(reports.result()).hasSize(REPORTS_PER_ANALYST);
+        assertThat(reports.statements()).isEqualTo(1);
+
+        Counted<List<CoveredStockDTO>> coveredStocks = count(() -> analystService.getCoveredStocks(1L));
+        assertThat(coveredStocks.result()).singleElement().extracting(CoveredStockDTO::getSector).isEqualTo("반도체");
+        assertThat(coveredStocks.statements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("애널리스트 랭킹 - 지표와 애널리스트를 한 쿼리로 로딩")
+    void getRankedAnalysts_ShouldNotLoadPerAnalyst() {
+        Counted<AnalystRankingResponseDTO> ranking = count(() -> analystMetricsService.getRankedAnalysts("aimsScore"));
+        assertThat(ranking.result().getRankingList()).hasSize(ANALYST_COUNT);
+        assertThat(ranking.statements()).isEqualTo(1);
+
+        // 종목 리포트 1회 + 지표 1회
+        Counted<AnalystRankingResponseDTO> byStock =
+                count(() -> analystMetricsService.getRankedAnalystsByStock(STOCK_ID, "aimsScore"));
+        assertThat(byStock.result().getRankingList()).hasSize(ANALYST_COUNT);
+        assertThat(byStock.statements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("종목 페이지/섹터/종목 랭킹 - 리포트를 projection으로 조회 (Report 엔티티 미생성)")
+    void snapshotReadPaths_ShouldNotManageReportEntities() {
+        // 종목 1회 + 리포트 projection 1회 + 종가 1회 (모든 리포트가 BUY라 발행일 종가 조회 없음)
+        Counted<StockConsensusDTO> consensus = count(() -> reportService.getStockConsensus(STOCK_ID));
+        assertThat(consensus.result().getTotalAnalysts()).isEqualTo(ANALYST_COUNT);
+        assertThat(consensus.statements()).isEqualTo(3);
+        assertThat(managedReportCount()).isZero();
+
+        Counted<TargetPriceStatsDTO> stats = count(() -> stockService.getTargetPriceStats(STOCK_ID));
+        assertThat(stats.result().getMaxTargetPrice()).isEqualTo(13000);  // 애널리스트10의 최신 리포트 (id 30)
+        assertThat(stats.statements()).isEqualTo(1);
+        assertThat(managedReportCount()).isZero();
+
+        Counted<List<StockListDTO>> stocks = count(() -> stockService.getAllStocksWithRankingInfo());
+        assertThat(stocks.result()).singleElement().extracting(StockListDTO::getBuyRatio).isEqualTo(100.0);
+        assertThat(stocks.statements()).isEqualTo(3);
+        assertThat(managedReportCount()).isZero();
+
+        Counted<SectorResponseDTO> sector = count(() -> sectorService.getSectorDetails("반도체"));
+        assertThat(sector.result().getStocks()).hasSize(1);
+        assertThat(sector.statements()).isEqualTo(3);
+        assertThat(managedReportCount()).isZero();
+    }
+
+    // 현재 영속성 컨텍스트가 관리 중인 Report 엔티티 수
+    private long managedReportCount() {
+        return entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityKeys().stream()
+                .map(EntityKey.class::cast)
+                .filter(key -> Report.class.getName().equals(key.getEntityName()))
+                .count();
+    }
+
+    // 영속성 컨텍스트와 2차 캐시를 비운 상태에서 조회 경로를 실행하고, 결과와 실행된 SQL 수를 반환
+    private <T> Counted<T> count(Supplier<T> readPath) {
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManager().getEntityManagerFactory().getCache().evictAll();
+        CapturingStatementInspector.clear();
+        T result = readPath.get();
+        return new Counted<>(result, CapturingStatementInspector.drain().size());
+    }
+
+    private record Counted<T>(T result, int statements) {
+    }
+}
@@ -0,0 +1,123 @@
+package capstone25_2.aim.repository;
+
+import capstone25_2.aim.domain.event.ClosePriceChangedEvent;
+import capstone25_2.aim.domain.event.DerivedDataChangedEvent;
+import capstone25_2.aim.domain.event.ReferenceDataChangedEvent;
+import capstone25_2.aim.domain.event.ReportsChangedEvent;
+import capstone25_2.aim.service.DataVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * read-your-writes 창 테스트
+ *
+ * DataVersion을 올리는 이벤트마다 커밋 후 리스너 순서대로 실행해,
+ * 버전이 올라가는 시점에 창이 이미 열려 있는지 확인한다.
+ */
+@DisplayName("ReadYourWritesWindow 테스트")
+class ReadYourWritesWindowTest {
+
+    private AnnotationConfigApplicationContext context;
+    private ReadYourWritesWindow readYourWritesWindow;
+    private RecordingDataVersion dataVersion;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(TransactionalEventListenerFactory.class);
+        context.registerBean(ReadYourWritesWindow.class);
+        context.registerBean(RecordingDataVersion.class);
+        context.refresh();
+
+        readYourWritesWindow = context.getBean(ReadYourWritesWindow.class);
+        ReflectionTestUtils.setField(readYourWritesWindow, "windowMs", 60_000L);
+        dataVersion = context.getBean(RecordingDataVersion.class);
+        dataVersion.window = readYourWritesWindow;
+
+        transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    static Stream<Object> versionBumpingEvents() {
+        return Stream.of(
+                new ReportsChangedEvent(Set.of(1L), Set.of(10L)),
+                new ClosePriceChangedEvent(Map.of(1L,
+                        new ClosePriceChangedEvent.DateRange(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 2)))),
+                new ReferenceDataChangedEvent("analyst-created"),
+                new DerivedDataChangedEvent("metrics-recomputed"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("versionBumpingEvents")
+    @DisplayName("DataVersion을 올리는 이벤트는 버전이 올라가기 전에 창을 엶")
+    void versionBumpingEvent_ShouldOpenWindowBeforeVersionBump(Object event) {
+        // given
+        assertThat(readYourWritesWindow.isActive()).isFalse();
+
+        // when - 트랜잭션 안에서 발행 → 커밋 후 리스너 실행
+        transactionTemplate.executeWithoutResult(status -> context.publishEvent(event));
+
+        // then
+        assertThat(dataVersion.current()).isEqualTo(1);
+        assertThat(dataVersion.activeAtBump).containsExactly(true);
+        assertThat(readYourWritesWindow.isActive()).isTrue();
+    }
+
+    // 버전이 올라가는 순간의 창 상태를 기록
+    static class RecordingDataVersion extends DataVersion {
+
+        final List<Boolean> activeAtBump = new CopyOnWriteArrayList<>();
+        ReadYourWritesWindow window;
+
+        @Override
+        public long bump() {
+            activeAtBump.add(window.isActive());
+            return super.bump();
+        }
+    }
+
+    // 커밋 후 리스너 실행에 필요한 트랜잭션 동기화만 제공
+    static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
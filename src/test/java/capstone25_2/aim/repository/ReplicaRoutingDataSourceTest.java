@@ -0,0 +1,227 @@
+package capstone25_2.aim.repository;
+
+import capstone25_2.aim.domain.entity.Stock;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 테스트
+ *
+ * 운영과 같은 구성(LazyConnectionDataSourceProxy → ReplicaRoutingDataSource)을 JPA 트랜잭션 매니저 아래에 두고,
+ * primary/replica H2 DB의 stock 테이블에 각각 자기 이름의 종목을 넣어
+ * 리포지토리 조회가 어느 DB에서 읽었는지 확인한다.
+ * JpaTransactionManager는 트랜잭션 시작 시 커넥션을 준비하므로 readOnly 여부가 동기화되기 전에
+ * 커넥션을 고르면 replica로 가지 않는다 → 실제 @Transactional(readOnly = true) 호출로 검증.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // 테스트 트랜잭션 없이 각 호출이 자기 트랜잭션을 시작
+@ActiveProfiles("h2")
+@TestPropertySource(properties = {
+        "aim.test.h2-db-name=routing-primary",
+        "aim.datasource.replica.read-your-writes-ms=60000"
+})
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String REPLICA_URL =
+            "jdbc:h2:mem:routing-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private StockReader stockReader;
+
+    @Autowired
+    private ReadYourWritesWindow readYourWritesWindow;
+
+    private JdbcTemplate primaryJdbcTemplate;
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primaryJdbcTemplate = new JdbcTemplate(routingDataSource.getResolvedDataSources().get(ReplicaRoutingDataSource.Route.PRIMARY));
+        replicaJdbcTemplate = new JdbcTemplate(routingDataSource.getResolvedDataSources().get(ReplicaRoutingDataSource.Route.REPLICA));
+
+        // Hibernate는 primary에만 스키마를 만들므로 같은 스키마를 replica에 복제
+        Integer replicaTables = replicaJdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_name = 'stock'", Integer.class);
+        if (replicaTables == 0) {
+            for (String statement : primaryJdbcTemplate.queryForList("SCRIPT NODATA NOPASSWORDS NOSETTINGS", String.class)) {
+                if (!statement.startsWith("--") && !statement.startsWith("CREATE USER")) {
+                    replicaJdbcTemplate.execute(statement);
+                }
+            }
+        }
+
+        insertNode(primaryJdbcTemplate, "primary");
+        insertNode(replicaJdbcTemplate, "replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        primaryJdbcTemplate.update("DELETE FROM stock");
+        replicaJdbcTemplate.update("DELETE FROM stock");
+        ((AtomicLong) ReflectionTestUtils.getField(readYourWritesWindow, "primaryUntil")).set(0);
+        ReflectionTestUtils.setField(readYourWritesWindow, "windowMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("Spring Data 조회 메서드(읽기 전용 트랜잭션)는 replica에서 읽음")
+    void repositoryRead_ShouldRouteToReplica() {
+        assertThat(stockNames(stockRepository.findAll())).containsExactly("replica");
+    }
+
+    @Test
+    @DisplayName("@Transactional(readOnly = true) 서비스 메서드는 replica, 쓰기 트랜잭션은 primary에서 읽음")
+    void transactions_ShouldRouteByReadOnlyFlag() {
+        assertThat(stockReader.readInReadOnlyTransaction()).containsExactly("replica");
+        assertThat(stockReader.readInWriteTransaction()).containsExactly("primary");
+    }
+
+    @Test
+    @DisplayName("리포지토리 저장은 primary에 기록")
+    void repositoryWrite_ShouldRouteToPrimary() {
+        // when
+        Stock stock = new Stock();
+        stock.setStockCode("000660");
+        stock.setStockName("SK하이닉스");
+        stockRepository.save(stock);
+
+        // then
+        assertThat(primaryJdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock", Integer.class)).isEqualTo(2);
+        assertThat(replicaJdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 JDBC 호출은 primary로 라우팅")
+    void withoutTransaction_ShouldRouteToPrimary() {
+        assertThat(new JdbcTemplate(dataSource).queryForObject("SELECT stock_name FROM stock", String.class))
+                .isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("적재 직후에는 read-your-writes 창 동안 읽기 전용 트랜잭션도 primary로 라우팅")
+    void afterWrite_ShouldReadFromPrimaryWithinWindow() {
+        // given
+        readYourWritesWindow.markWrite();
+
+        // when & then
+        assertThat(readYourWritesWindow.isActive()).isTrue();
+        assertThat(stockNames(stockRepository.findAll())).containsExactly("primary");
+        assertThat(stockReader.readInReadOnlyTransaction()).containsExactly("primary");
+    }
+
+    @Test
+    @DisplayName("read-your-writes 창이 0이면 적재 직후에도 replica로 라우팅")
+    void zeroWindow_ShouldKeepReadingFromReplica() {
+        // given
+        ReflectionTestUtils.setField(readYourWritesWindow, "windowMs", 0L);
+        readYourWritesWindow.markWrite();
+
+        // when & then
+        assertThat(readYourWritesWindow.isActive()).isFalse();
+        assertThat(stockNames(stockRepository.findAll())).containsExactly("replica");
+    }
+
+    private static List<String> stockNames(List<Stock> stocks) {
+        return stocks.stream().map(Stock::getStockName).toList();
+    }
+
+    // 자기 DB 이름을 종목명으로 가진 종목 1개
+    private static void insertNode(JdbcTemplate jdbcTemplate, String name) {
+        jdbcTemplate.update("INSERT INTO stock (stock_code, stock_name, sector) VALUES (?, ?, ?)",
+                "005930", name, "node");
+    }
+
+    /**
+     * 운영 DataSourceRoutingConfig와 같은 구성 (primary는 h2 프로필의 spring.datasource.*)
+     */
+    @TestConfiguration
+    static class RoutingConfig {
+
+        @Bean
+        ReadYourWritesWindow readYourWritesWindow() {
+            return new ReadYourWritesWindow();
+        }
+
+        // 컨텍스트 종료 시 close()로 두 풀을 닫음
+        @Bean
+        ReplicaRoutingDataSource routingDataSource(DataSourceProperties properties,
+                                                   ReadYourWritesWindow readYourWritesWindow) {
+            HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            primary.setPoolName("test-primary");
+
+            HikariDataSource replica = new HikariDataSource();
+            replica.setJdbcUrl(REPLICA_URL);
+            replica.setUsername("sa");
+            replica.setPassword("");
+            replica.setPoolName("test-replica");
+            replica.setReadOnly(true);
+
+            return new ReplicaRoutingDataSource(primary, replica, readYourWritesWindow);
+        }
+
+        // 첫 쿼리 시점에 라우팅 (운영과 동일)
+        @Bean
+        @Primary
+        DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+            return new LazyConnectionDataSourceProxy(routingDataSource);
+        }
+
+        @Bean
+        StockReader stockReader(StockRepository stockRepository) {
+            return new StockReader(stockRepository);
+        }
+    }
+
+    // @Transactional 서비스 메서드 대용
+    static class StockReader {
+
+        private final StockRepository stockRepository;
+
+        StockReader(StockRepository stockRepository) {
+            this.stockRepository = stockRepository;
+        }
+
+        @Transactional(readOnly = true)
+        public List<String> readInReadOnlyTransaction() {
+            return stockNames(stockRepository.findBySector("node"));
+        }
+
+        @Transactional
+        public List<String> readInWriteTransaction() {
+            return stockNames(stockRepository.findBySector("node"));
+        }
+    }
+}
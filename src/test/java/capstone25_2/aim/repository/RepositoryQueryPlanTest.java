@@ -0,0 +1,260 @@
+package capstone25_2.aim.repository;
+
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 리포지토리 쿼리 실행 계획 테스트
+ *
+ * 각 리포지토리 메서드를 실제로 실행해 Hibernate가 만든 SQL을 수집하고 (CapturingStatementInspector),
+ * 같은 SQL에 EXPLAIN을 실행하여 전체 테이블 스캔(tableScan)이 있으면 실패한다.
+ * 엔티티의 @Table(indexes = ...) 선언으로 스키마를 생성하므로 인덱스 선언이 빠지면 여기서 드러난다.
+ *
+ * DB는 H2 MySQL 호환 모드 (Docker 없는 환경에서도 실행 가능)
+ *
+ * 검사 제외 (전체 조회가 의도된 동작):
+ * - findAll, AnalystRepository.findAllIds, ReportRepository.countReportsGroupByStock / findAllWithStock,
+ *   findSnapshotsByReportDateAfter, AnalystMetricsRepository.findAllWithAnalyst: 전체 행 대상 (전체 종목 랭킹/평균 계산)
+ * - StockRepository.*ContainingIgnoreCase: '%키워드%' 부분 일치는 B-tree 인덱스를 쓸 수 없음 (검색은 SearchIndex 메모리 인덱스 사용)
+ * - SearchCountDailyRepository.rollUpSearchLogs: MySQL 전용 구문(DATE, ON DUPLICATE KEY)이라 H2에서 실행 불가,
+ *   조회 조건은 deleteRolledUp과 같음
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@TestPropertySource(properties = {
+        "aim.test.h2-db-name=query-plan",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=capstone25_2.aim.repository.CapturingStatementInspector"
+})
+@DisplayName("리포지토리 쿼리 실행 계획 테스트")
+class RepositoryQueryPlanTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+    private static final LocalDateTime BASE_TIME = BASE_DATE.atStartOfDay();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private ClosePriceRepository closePriceRepository;
+
+    @Autowired
+    private AnalystRepository analystRepository;
+
+    @Autowired
+    private AnalystMetricsRepository analystMetricsRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private SearchLogRepository searchLogRepository;
+
+    @Autowired
+    private SearchCountDailyRepository searchCountDailyRepository;
+
+    @Autowired
+    private IngestLedgerRepository ingestLedgerRepository;
+
+    private SoftAssertions softly;
+
+    @BeforeEach
+    void setUp() {
+        // 옵티마이저가 테이블 크기를 고려하도록 소량의 데이터 적재 (테스트 트랜잭션과 함께 롤백)
+        List<Object[]> stocks = new ArrayList<>();
+        List<Object[]> analysts = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            stocks.add(new Object[]{id, String.format("%06d", id), "종목" + id, "섹터" + (id % 5)});
+            analysts.add(new Object[]{id, "애널" + id, "증권" + (id % 4)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO stock (stock_id, stock_code, stock_name, sector) VALUES (?, ?, ?, ?)", stocks);
+        jdbcTemplate.batchUpdate("INSERT INTO analyst (analyst_id, analyst_name, firm_name) VALUES (?, ?, ?)", analysts);
+
+        List<Object[]> reports = new ArrayList<>();
+        List<Object[]> closePrices = new ArrayList<>();
+        List<Object[]> searchLogs = new ArrayList<>();
+        List<Object[]> dailyCounts = new ArrayList<>();
+        for (long id = 1; id <= 400; id++) {
+            reports.add(new Object[]{id, "리포트" + id, Timestamp.valueOf(BASE_TIME.plusDays(id)), "BUY", 10000,
+                    0.5, id % 20 + 1, id % 17 + 1});
+            closePrices.add(new Object[]{id, id % 20 + 1, Date.valueOf(BASE_DATE.plusDays(id / 20)), 10000});
+            searchLogs.add(new Object[]{id, id % 20 + 1, Timestamp.valueOf(BASE_TIME.plusHours(id))});
+            dailyCounts.add(new Object[]{id, id % 20 + 1, Date.valueOf(BASE_DATE.plusDays(id / 20)), 3L});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO report (report_id, report_title, report_date, surface_opinion, " +
+                "target_price, hidden_opinion, stock_id, analyst_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", reports);
+        jdbcTemplate.batchUpdate("INSERT INTO close_price (close_price_id, stock_id, trade_date, close_price) " +
+                "VALUES (?, ?, ?, ?)", closePrices);
+        jdbcTemplate.batchUpdate("INSERT INTO search_log (search_log_id, analyst_id, searched_at) VALUES (?, ?, ?)", searchLogs);
+        jdbcTemplate.batchUpdate("INSERT INTO search_count_daily (search_count_daily_id, analyst_id, search_date, search_count) " +
+                "VALUES (?, ?, ?, ?)", dailyCounts);
+
+        softly = new SoftAssertions();
+    }
+
+    @Test
+    @DisplayName("ReportRepository - 모든 조회가 인덱스 사용")
+    void reportRepository_ShouldUseIndexes() {
+        LocalDateTime from = BASE_TIME.plusDays(30);
+        LocalDateTime to = BASE_TIME.plusDays(90);
+
+        assertIndexed("findByStockId", () -> reportRepository.findByStockId(1L));
+        assertIndexed("findByAnalystId", () -> reportRepository.findByAnalystId(1L));
+        assertIndexed("findByAnalystIdOrderByReportDateDesc", () -> reportRepository.findByAnalystIdOrderByReportDateDesc(1L));
+        assertIndexed("findByStockIdAndReportDateAfterOrderByReportDateDesc",
+                () -> reportRepository.findByStockIdAndReportDateAfterOrderByReportDateDesc(1L, from));
+        assertIndexed("findByAnalystIdAndReportDateAfterOrderByReportDateDesc",
+                () -> reportRepository.findByAnalystIdAndReportDateAfterOrderByReportDateDesc(1L, from));
+        assertIndexed("findByAnalystIdAndStockIdOrderByReportDateAsc",
+                () -> reportRepository.findByAnalystIdAndStockIdOrderByReportDateAsc(1L, 1L));
+        assertIndexed("findFirstByAnalystIdAndStockIdAndReportDateAfterOrderByReportDateAsc",
+                () -> reportRepository.findFirstByAnalystIdAndStockIdAndReportDateAfterOrderByReportDateAsc(1L, 1L, from));
+        assertIndexed("findByAnalystIdAndStockIdAndReportDate",
+                () -> reportRepository.findByAnalystIdAndStockIdAndReportDate(1L, 1L, from));
+        assertIndexed("findTopByAnalystIdAndStockIdAndReportDateBeforeOrderByReportDateDesc",
+                () -> reportRepository.findTopByAnalystIdAndStockIdAndReportDateBeforeOrderByReportDateDesc(1L, 1L, to));
+        assertIndexed("findByStockIdInAndReportDateAfterOrderByReportDateDesc",
+                () -> reportRepository.findByStockIdInAndReportDateAfterOrderByReportDateDesc(List.of(1L, 2L), from));
+        assertIndexed("findReportKeys",
+                () -> reportRepository.findReportKeys(Set.of(1L, 2L), Set.of(1L, 2L), from, to));
+        assertIndexed("findAnalystIdsByStockIdAndReportDateRange",
+                () -> reportRepository.findAnalystIdsByStockIdAndReportDateRange(1L, from, to));
+        assertIndexed("findWithAnalystAndPrevReportByStockIdAndReportDateAfterOrderByReportDateDesc",
+                () -> reportRepository.findWithAnalystAndPrevReportByStockIdAndReportDateAfterOrderByReportDateDesc(1L, from));
+        assertIndexed("findWithStockByAnalystIdOrderByReportDateDesc",
+                () -> reportRepository.findWithStockByAnalystIdOrderByReportDateDesc(1L));
+        assertIndexed("findSnapshotsByStockIdAndReportDateAfter",
+                () -> reportRepository.findSnapshotsByStockIdAndReportDateAfter(1L, from));
+        assertIndexed("findSnapshotsByStockIdInAndReportDateAfter",
+                () -> reportRepository.findSnapshotsByStockIdInAndReportDateAfter(List.of(1L, 2L), from));
+        assertIndexed("findAnalystIdsByStockId", () -> reportRepository.findAnalystIdsByStockId(1L));
+        assertIndexed("findAllWithStockBySectorIn", () -> reportRepository.findAllWithStockBySectorIn(List.of("섹터1")));
+        assertIndexed("findSectorsByAnalystIdIn", () -> reportRepository.findSectorsByAnalystIdIn(List.of(1L, 2L)));
+
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("ClosePriceRepository - 모든 조회가 (종목, 거래일) 유니크 인덱스 사용")
+    void closePriceRepository_ShouldUseIndexes() {
+        LocalDate from = BASE_DATE.plusDays(3);
+        LocalDate to = BASE_DATE.plusDays(10);
+
+        assertIndexed("findByStockIdAndTradeDate", () -> closePriceRepository.findByStockIdAndTradeDate(1L, from));
+        assertIndexed("findByStockIdOrderByTradeDateDesc", () -> closePriceRepository.findByStockIdOrderByTradeDateDesc(1L));
+        assertIndexed("findByStockIdAndTradeDateBetweenOrderByTradeDateDesc",
+                () -> closePriceRepository.findByStockIdAndTradeDateBetweenOrderByTradeDateDesc(1L, from, to));
+        assertIndexed("findByStockIdAndTradeDateAfterOrderByTradeDateDesc",
+                () -> closePriceRepository.findByStockIdAndTradeDateAfterOrderByTradeDateDesc(1L, from));
+        assertIndexed("findFirstByStockIdAndTradeDateGreaterThanEqualOrderByTradeDateAsc",
+                () -> closePriceRepository.findFirstByStockIdAndTradeDateGreaterThanEqualOrderByTradeDateAsc(1L, from));
+        assertIndexed("findFirstByStockIdAndTradeDateLessThanEqualOrderByTradeDateDesc",
+                () -> closePriceRepository.findFirstByStockIdAndTradeDateLessThanEqualOrderByTradeDateDesc(1L, to));
+        assertIndexed("findByStockIdInOrderByStockIdAscTradeDateDesc",
+                () -> closePriceRepository.findByStockIdInOrderByStockIdAscTradeDateDesc(List.of(1L, 2L)));
+
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Analyst/AnalystMetrics/Stock/IngestLedger Repository - 키 조회가 인덱스 사용")
+    void referenceRepositories_ShouldUseIndexes() {
+        assertIndexed("AnalystRepository.findByFirmName", () -> analystRepository.findByFirmName("증권1"));
+        assertIndexed("AnalystRepository.findByAnalystNameAndFirmName",
+                () -> analystRepository.findByAnalystNameAndFirmName("애널1", "증권1"));
+        assertIndexed("AnalystRepository.findByAnalystNameIn",
+                () -> analystRepository.findByAnalystNameIn(Set.of("애널1", "애널2")));
+        assertIndexed("AnalystMetricsRepository.findByAnalystId", () -> analystMetricsRepository.findByAnalystId(1L));
+        assertIndexed("StockRepository.findByStockCode", () -> stockRepository.findByStockCode("000001"));
+        assertIndexed("StockRepository.findByStockCodeIn",
+                () -> stockRepository.findByStockCodeIn(Set.of("000001", "000002")));
+        assertIndexed("StockRepository.findBySector", () -> stockRepository.findBySector("섹터1"));
+        assertIndexed("IngestLedgerRepository.findByFileHash", () -> ingestLedgerRepository.findByFileHash("abc"));
+
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("SearchLog/SearchCountDaily Repository - 시각/날짜 조건이 인덱스 사용")
+    void searchRepositories_ShouldUseIndexes() {
+        LocalDateTime cutoff = BASE_TIME.plusHours(200);
+
+        assertIndexed("SearchLogRepository.findAnalystSearchTimesSince",
+                () -> searchLogRepository.findAnalystSearchTimesSince(cutoff));
+        assertIndexed("SearchLogRepository.findMaxIdOfOldestBatch",
+                () -> searchLogRepository.findMaxIdOfOldestBatch(cutoff, 100));
+        assertIndexed("SearchLogRepository.deleteRolledUp",
+                () -> searchLogRepository.deleteRolledUp(cutoff, 100L));
+        assertIndexed("SearchCountDailyRepository.findDailyCountsSince",
+                () -> searchCountDailyRepository.findDailyCountsSince(BASE_DATE.plusDays(10)));
+        assertIndexed("SearchCountDailyRepository.deleteOlderThan",
+                () -> searchCountDailyRepository.deleteOlderThan(BASE_DATE.plusDays(5), 100));
+
+        softly.assertAll();
+    }
+
+    /**
+     * 리포지토리 호출이 실행한 모든 SQL에 EXPLAIN을 실행하여 전체 테이블 스캔이 없는지 확인
+     */
+    private void assertIndexed(String name, Runnable query) {
+        // 영속성 컨텍스트/2차 캐시에서 찾으면 SQL이 실행되지 않으므로 비우고 실행
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        CapturingStatementInspector.clear();
+        query.run();
+        List<String> statements = CapturingStatementInspector.drain();
+
+        softly.assertThat(statements).as(name + " 실행 SQL").isNotEmpty();
+        for (String sql : statements) {
+            String plan = explain(sql);
+            softly.assertThat(plan)
+                    .as(name + " 실행 계획:\n" + plan)
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    // 파라미터는 값과 무관하게 계획만 보므로 모두 null로 바인딩
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setObject(i, null);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+}
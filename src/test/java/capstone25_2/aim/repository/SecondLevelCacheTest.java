@@ -0,0 +1,125 @@
+package capstone25_2.aim.repository;
+
+import capstone25_2.aim.domain.dto.cache.CacheStatsDTO;
+import capstone25_2.aim.domain.entity.Analyst;
+import capstone25_2.aim.domain.entity.Stock;
+import capstone25_2.aim.service.CacheStatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 종목/애널리스트 2차 캐시 테스트
+ *
+ * 영속성 컨텍스트를 비운 뒤 같은 엔티티를 다시 조회했을 때
+ * 자연 키 캐시와 엔티티 캐시에서 찾아 SQL이 실행되지 않는지, 통계에 적중으로 집계되는지 확인한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CacheStatisticsService.class)
+@ActiveProfiles("h2")
+@TestPropertySource(properties = {
+        "aim.test.h2-db-name=second-level-cache",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=capstone25_2.aim.repository.CapturingStatementInspector",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("종목/애널리스트 2차 캐시 테스트")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private AnalystRepository analystRepository;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 트랜잭션과 함께 롤백 (캐시는 비우고 시작)
+        jdbcTemplate.update("INSERT INTO stock (stock_id, stock_code, stock_name, sector) VALUES (?, ?, ?, ?)",
+                1L, "005930", "삼성전자", "반도체");
+        jdbcTemplate.update("INSERT INTO analyst (analyst_id, analyst_name, firm_name) VALUES (?, ?, ?)",
+                1L, "김철수", "미래에셋증권");
+        entityManager.getEntityManager().getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("종목코드 재조회 - 자연 키/엔티티 캐시에서 찾아 SQL 미실행")
+    void findByStockCode_ShouldHitCacheOnSecondLookup() {
+        // given - 첫 조회에서 캐시 적재
+        assertThat(stockRepository.findByStockCode("005930")).isPresent();
+        entityManager.clear();
+        CacheStatsDTO before = cacheStatisticsService.getCacheStats();
+
+        // when
+        CapturingStatementInspector.clear();
+        Optional<Stock> byCode = stockRepository.findByStockCode("005930");
+        entityManager.clear();
+        Optional<Stock> byId = stockRepository.findById(1L);
+
+        // then
+        assertThat(byCode).map(Stock::getStockName).hasValue("삼성전자");
+        assertThat(byId).map(Stock::getStockCode).hasValue("005930");
+        assertThat(CapturingStatementInspector.drain()).isEmpty();
+
+        CacheStatsDTO after = cacheStatisticsService.getCacheStats();
+        assertThat(after.getNaturalIdHitCount()).isGreaterThan(before.getNaturalIdHitCount());
+        assertThat(after.getHitCount()).isGreaterThanOrEqualTo(before.getHitCount() + 2);
+    }
+
+    @Test
+    @DisplayName("애널리스트 이름+증권사 재조회 - 자연 키 캐시에서 ID를 찾아 애널리스트 SQL 미실행")
+    void findByAnalystNameAndFirmName_ShouldHitNaturalIdCache() {
+        // given - 첫 조회에서 캐시 적재
+        assertThat(analystRepository.findByAnalystNameAndFirmName("김철수", "미래에셋증권")).isPresent();
+        entityManager.clear();
+        CacheStatsDTO before = cacheStatisticsService.getCacheStats();
+
+        // when
+        CapturingStatementInspector.clear();
+        Optional<Analyst> analyst = analystRepository.findByAnalystNameAndFirmName("김철수", "미래에셋증권");
+
+        // then (지표는 역방향 OneToOne이라 캐시 대상이 아니므로 analyst_metrics 조회만 남음)
+        assertThat(analyst).map(Analyst::getId).hasValue(1L);
+        assertThat(CapturingStatementInspector.drain())
+                .noneMatch(sql -> sql.toLowerCase().matches(".*from analyst\\b.*"));
+
+        CacheStatsDTO after = cacheStatisticsService.getCacheStats();
+        assertThat(after.getNaturalIdHitCount()).isGreaterThan(before.getNaturalIdHitCount());
+        assertThat(after.getRegions())
+                .extracting(CacheStatsDTO.RegionStats::getRegionName)
+                .contains(Stock.class.getName(), Analyst.class.getName());
+    }
+
+    @Test
+    @DisplayName("없는 종목코드/null 조회 - 빈 결과")
+    void findByStockCode_Missing_ShouldReturnEmpty() {
+        assertThat(stockRepository.findByStockCode("999999")).isEmpty();
+        assertThat(stockRepository.findByStockCode(null)).isEmpty();
+        assertThat(analystRepository.findByAnalystNameAndFirmName("김철수", null)).isEmpty();
+    }
+}
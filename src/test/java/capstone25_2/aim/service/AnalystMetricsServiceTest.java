@@ -7,13 +7,17 @@ import capstone25_2.aim.repository.AnalystMetricsRepository;
 import capstone25_2.aim.repository.AnalystRepository;
 import capstone25_2.aim.repository.ClosePriceRepository;
 import capstone25_2.aim.repository.ReportRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -22,6 +26,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -42,6 +47,12 @@ class AnalystMetricsServiceTest {
     @Mock
     private ClosePriceRepository closePriceRepository;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AnalystMetricsService analystMetricsService;
 
@@ -111,7 +122,7 @@ class AnalystMetricsServiceTest {
     void getRankedAnalysts_WithAccuracyRate_ShouldReturnSortedList() {
         // given
         List<AnalystMetrics> metricsList = List.of(testMetrics1, testMetrics2, testMetrics3);
-        given(metricsRepository.findAll()).willReturn(metricsList);
+        given(metricsRepository.findAllWithAnalyst()).willReturn(metricsList);
 
         // when
         AnalystRankingResponseDTO result = analystMetricsService.getRankedAnalysts("accuracyRate");
@@ -126,7 +137,7 @@ class AnalystMetricsServiceTest {
         assertThat(result.getRankingList().get(1).getAccuracyRate()).isEqualTo(85.0);
         assertThat(result.getRankingList().get(2).getAccuracyRate()).isEqualTo(80.0);
 
-        verify(metricsRepository, times(1)).findAll();
+        verify(metricsRepository, times(1)).findAllWithAnalyst();
     }
 
     @Test
@@ -134,7 +145,7 @@ class AnalystMetricsServiceTest {
     void getRankedAnalysts_WithReturnRate_ShouldReturnSortedByReturn() {
         // given
         List<AnalystMetrics> metricsList = List.of(testMetrics1, testMetrics2, testMetrics3);
-        given(metricsRepository.findAll()).willReturn(metricsList);
+        given(metricsRepository.findAllWithAnalyst()).willReturn(metricsList);
 
         // when
         AnalystRankingResponseDTO result = analystMetricsService.getRankedAnalysts("returnRate");
@@ -149,7 +160,7 @@ class AnalystMetricsServiceTest {
         assertThat(result.getRankingList().get(1).getReturnRate()).isEqualTo(15.5);
         assertThat(result.getRankingList().get(2).getReturnRate()).isEqualTo(12.3);
 
-        verify(metricsRepository, times(1)).findAll();
+        verify(metricsRepository, times(1)).findAllWithAnalyst();
     }
 
     @Test
@@ -157,7 +168,7 @@ class AnalystMetricsServiceTest {
     void getRankedAnalysts_WithTargetDiffRate_ShouldReturnSortedByTargetDiff() {
         // given
         List<AnalystMetrics> metricsList = List.of(testMetrics1, testMetrics2, testMetrics3);
-        given(metricsRepository.findAll()).willReturn(metricsList);
+        given(metricsRepository.findAllWithAnalyst()).willReturn(metricsList);
 
         // when
         AnalystRankingResponseDTO result = analystMetricsService.getRankedAnalysts("targetDiffRate");
@@ -172,7 +183,7 @@ class AnalystMetricsServiceTest {
         assertThat(result.getRankingList().get(1).getTargetDiffRate()).isEqualTo(5.2);
         assertThat(result.getRankingList().get(2).getTargetDiffRate()).isEqualTo(6.1);
 
-        verify(metricsRepository, times(1)).findAll();
+        verify(metricsRepository, times(1)).findAllWithAnalyst();
     }
 
     @Test
@@ -181,21 +192,11 @@ class AnalystMetricsServiceTest {
         // given
         Long stockId = 1L;
 
-        Report report1 = new Report();
-        report1.setId(1L);
-        report1.setAnalyst(testAnalyst1);
-        report1.setStock(testStock);
-
-        Report report2 = new Report();
-        report2.setId(2L);
-        report2.setAnalyst(testAnalyst2);
-        report2.setStock(testStock);
-
-        List<Report> reports = List.of(report1, report2);
+        // 해당 종목에 리포트를 낸 애널리스트: analyst1, analyst2
         List<AnalystMetrics> allMetrics = List.of(testMetrics1, testMetrics2, testMetrics3);
 
-        given(reportRepository.findByStockId(stockId)).willReturn(reports);
-        given(metricsRepository.findAll()).willReturn(allMetrics);
+        given(reportRepository.findAnalystIdsByStockId(stockId)).willReturn(List.of(1L, 2L));
+        given(metricsRepository.findAllWithAnalyst()).willReturn(allMetrics);
 
         // when
         AnalystRankingResponseDTO result = analystMetricsService.getRankedAnalystsByStock(stockId, "accuracyRate");
@@ -212,8 +213,8 @@ class AnalystMetricsServiceTest {
         assertThat(analystIds).containsExactlyInAnyOrder(1L, 2L);
         assertThat(analystIds).doesNotContain(3L);
 
-        verify(reportRepository, times(1)).findByStockId(stockId);
-        verify(metricsRepository, times(1)).findAll();
+        verify(reportRepository, times(1)).findAnalystIdsByStockId(stockId);
+        verify(metricsRepository, times(1)).findAllWithAnalyst();
     }
 
     @Test
@@ -221,8 +222,8 @@ class AnalystMetricsServiceTest {
     void getRankedAnalystsByStock_WithNoReports_ShouldReturnEmptyList() {
         // given
         Long stockId = 999L;
-        given(reportRepository.findByStockId(stockId)).willReturn(List.of());
-        given(metricsRepository.findAll()).willReturn(List.of(testMetrics1, testMetrics2, testMetrics3));
+        given(reportRepository.findAnalystIdsByStockId(stockId)).willReturn(List.of());
+        given(metricsRepository.findAllWithAnalyst()).willReturn(List.of(testMetrics1, testMetrics2, testMetrics3));
 
         // when
         AnalystRankingResponseDTO result = analystMetricsService.getRankedAnalystsByStock(stockId, "accuracyRate");
@@ -231,7 +232,7 @@ class AnalystMetricsServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getRankingList()).isEmpty();
 
-        verify(reportRepository, times(1)).findByStockId(stockId);
+        verify(reportRepository, times(1)).findAnalystIdsByStockId(stockId);
     }
 
     @Test
@@ -315,11 +316,59 @@ class AnalystMetricsServiceTest {
         verify(analystRepository, times(2)).findById(analystId); // 조회 + 저장 시
     }
 
+    @Test
+    @DisplayName("증분 재계산 - 대상 애널리스트의 섹터 평균만 계산하고 전체 애널리스트 점수를 다시 매겨 저장")
+    void recalculateAnalysts_ShouldTouchOnlyAffectedSectorsAndRerankAll() {
+        // given
+        given(reportRepository.findSectorsByAnalystIdIn(List.of(1L))).willReturn(List.of("반도체"));
+        given(reportRepository.findAllWithStockBySectorIn(List.of("반도체"))).willReturn(List.of());
+        given(reportRepository.findWithStockByAnalystIdOrderByReportDateDesc(1L)).willReturn(List.of());
+        given(metricsRepository.findAll()).willReturn(List.of(testMetrics1, testMetrics2, testMetrics3));
+
+        // when
+        analystMetricsService.recalculateAnalysts(List.of(1L));
+
+        // then - 전체 리포트는 읽지 않음
+        verify(reportRepository, never()).findAllWithStock();
+
+        // 대상이 아닌 애널리스트도 바뀐 백분위로 점수 저장 (다음 전체 재계산을 기다리지 않음)
+        assertThat(testMetrics1.getAimsScore()).isNotNull();
+        assertThat(testMetrics2.getAimsScore()).isNotNull();
+        assertThat(testMetrics3.getAimsScore()).isNotNull();
+        verify(metricsRepository, times(1)).save(testMetrics1);
+        verify(metricsRepository, times(1)).save(testMetrics2);
+        verify(metricsRepository, times(1)).save(testMetrics3);
+
+        // 단계별 소요 시간은 outcome=success로 기록
+        assertThat(meterRegistry.find("aim.metrics.recompute.phase")
+                .tags("mode", "incremental", "outcome", "success").timers()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("증분 재계산 - 실패한 단계도 outcome=failure로 소요 시간 기록")
+    void recalculateAnalysts_WhenPhaseFails_ShouldRecordFailureOutcome() {
+        // given
+        given(reportRepository.findSectorsByAnalystIdIn(List.of(1L))).willReturn(List.of("반도체"));
+        given(reportRepository.findAllWithStockBySectorIn(List.of("반도체")))
+                .willThrow(new IllegalStateException("DB 연결 실패"));
+
+        // when
+        assertThatThrownBy(() -> analystMetricsService.recalculateAnalysts(List.of(1L)))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(meterRegistry.find("aim.metrics.recompute.phase")
+                .tags("mode", "incremental", "phase", "sector-averages", "outcome", "failure")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("aim.metrics.recompute.phase")
+                .tags("phase", "evaluation").timer()).isNull();
+    }
+
     @Test
     @DisplayName("빈 메트릭 리스트로 랭킹 조회 시 빈 결과 반환")
     void getRankedAnalysts_WithEmptyMetrics_ShouldReturnEmptyList() {
         // given
-        given(metricsRepository.findAll()).willReturn(List.of());
+        given(metricsRepository.findAllWithAnalyst()).willReturn(List.of());
 
         // when
         AnalystRankingResponseDTO result = analystMetricsService.getRankedAnalysts("accuracyRate");
@@ -329,7 +378,7 @@ class AnalystMetricsServiceTest {
         assertThat(result.getRankingList()).isEmpty();
         assertThat(result.getCriteria()).isEqualTo("accuracyRate");
 
-        verify(metricsRepository, times(1)).findAll();
+        verify(metricsRepository, times(1)).findAllWithAnalyst();
     }
 
     @Test
@@ -337,7 +386,7 @@ class AnalystMetricsServiceTest {
     void getRankedAnalysts_WithUnknownSortBy_ShouldUseDefaultSort() {
         // given
         List<AnalystMetrics> metricsList = List.of(testMetrics1, testMetrics2, testMetrics3);
-        given(metricsRepository.findAll()).willReturn(metricsList);
+        given(metricsRepository.findAllWithAnalyst()).willReturn(metricsList);
 
         // when
         AnalystRankingResponseDTO result = analystMetricsService.getRankedAnalysts("unknownCriteria");
@@ -351,6 +400,6 @@ class AnalystMetricsServiceTest {
         assertThat(result.getRankingList().get(1).getAccuracyRate()).isEqualTo(85.0);
         assertThat(result.getRankingList().get(2).getAccuracyRate()).isEqualTo(80.0);
 
-        verify(metricsRepository, times(1)).findAll();
+        verify(metricsRepository, times(1)).findAllWithAnalyst();
     }
 }
@@ -0,0 +1,143 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.domain.event.AnalystMetricsDirtyEvent;
+import capstone25_2.aim.domain.event.ClosePriceChangedEvent;
+import capstone25_2.aim.repository.ReportRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalystMetricsUpdateQueue 단위 테스트")
+class AnalystMetricsUpdateQueueTest {
+
+    @Mock
+    private AnalystMetricsService analystMetricsService;
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private AnalystMetricsUpdateQueue updateQueue;
+
+    @BeforeEach
+    void setUp() {
+        // 윈도우를 길게 잡아 예약된 처리 대신 drain()을 직접 호출
+        ReflectionTestUtils.setField(updateQueue, "coalesceWindowMs", 60_000L);
+        updateQueue.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        updateQueue.shutdown();
+    }
+
+    @Test
+    @DisplayName("윈도우 안의 중복 요청은 합쳐서 애널리스트별로 한 번만 재계산")
+    void drain_ShouldCoalesceRepeatedEvents() {
+        // given
+        updateQueue.onAnalystMetricsDirty(new AnalystMetricsDirtyEvent(Set.of(1L, 2L)));
+        updateQueue.onAnalystMetricsDirty(new AnalystMetricsDirtyEvent(Set.of(2L)));
+        updateQueue.onAnalystMetricsDirty(new AnalystMetricsDirtyEvent(Set.of(1L, 3L)));
+
+        // when
+        int count = updateQueue.drain();
+
+        // then
+        assertThat(count).isEqualTo(3);
+        verify(analystMetricsService, times(1)).recalculateAnalysts(Set.of(1L, 2L, 3L));
+        assertThat(updateQueue.getPendingCount()).isZero();
+        assertThat(updateQueue.drain()).isZero();
+    }
+
+    @Test
+    @DisplayName("재계산 실패 시 대기열에 되돌려 다음 윈도우에 재시도")
+    void drain_WhenRecalculationFails_ShouldRequeue() {
+        // given
+        updateQueue.markDirty(Set.of(1L, 2L));
+        given(analystMetricsService.recalculateAnalysts(anyCollection()))
+                .willThrow(new RuntimeException("DB 오류"));
+
+        // when & then
+        assertThatThrownBy(() -> updateQueue.drain()).isInstanceOf(RuntimeException.class);
+        assertThat(updateQueue.getPendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("서버 종료 시 윈도우를 기다리지 않고 남은 애널리스트를 재계산")
+    void shutdown_ShouldDrainPendingAnalysts() {
+        // given
+        updateQueue.markDirty(Set.of(1L, 2L));
+
+        // when
+        updateQueue.shutdown();
+
+        // then
+        verify(analystMetricsService).recalculateAnalysts(Set.of(1L, 2L));
+        assertThat(updateQueue.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("재계산 대기 중에는 staleness 게이지가 대기 시간을 보이고, 재계산 후 0")
+    void stalenessGauge_ShouldTrackOldestPendingRequest() {
+        // given - 30초 전에 등록된 것으로 조정
+        updateQueue.markDirty(Set.of(1L, 2L));
+        AtomicLong oldestPendingSince = (AtomicLong) ReflectionTestUtils.getField(updateQueue, "oldestPendingSince");
+        oldestPendingSince.set(System.currentTimeMillis() - 30_000);
+
+        // when & then - 추가 등록은 처음 등록 시각을 유지
+        updateQueue.markDirty(Set.of(3L));
+        assertThat(meterRegistry.get("aim.metrics.staleness").gauge().value()).isGreaterThanOrEqualTo(30.0);
+        assertThat(meterRegistry.get("aim.metrics.pending.analysts").gauge().value()).isEqualTo(3.0);
+
+        updateQueue.drain();
+
+        assertThat(meterRegistry.get("aim.metrics.staleness").gauge().value()).isZero();
+        assertThat(meterRegistry.get("aim.metrics.pending.analysts").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("종가 갱신 시 [시작일 - 1년, 종료일] 리포트를 낸 애널리스트를 재계산 대상으로 등록 (종료일 당일 발행 포함)")
+    void onClosePriceChanged_ShouldMarkAnalystsCoveringStock() {
+        // given
+        LocalDate from = LocalDate.of(2024, 3, 4);
+        LocalDate to = LocalDate.of(2024, 3, 8);
+        given(reportRepository.findAnalystIdsByStockIdAndReportDateRange(
+                eq(1L), eq(from.minusYears(1).atStartOfDay()), eq(to.plusDays(1).atStartOfDay())))
+                .willReturn(List.of(5L, 6L));
+
+        // when
+        updateQueue.onClosePriceChanged(new ClosePriceChangedEvent(
+                Map.of(1L, new ClosePriceChangedEvent.DateRange(from, to))));
+        updateQueue.drain();
+
+        // then
+        verify(analystMetricsService).recalculateAnalysts(Set.of(5L, 6L));
+    }
+}
@@ -0,0 +1,174 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.domain.dto.stock.ClosePriceImportSummaryDTO;
+import capstone25_2.aim.domain.entity.ClosePrice;
+import capstone25_2.aim.domain.entity.Stock;
+import capstone25_2.aim.domain.event.ClosePriceChangedEvent;
+import capstone25_2.aim.repository.JdbcBulkLoader;
+import capstone25_2.aim.repository.StockRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClosePriceImportService 단위 테스트")
+class ClosePriceImportServiceTest {
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @Mock
+    private JdbcBulkLoader jdbcBulkLoader;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .findAndRegisterModules();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private ClosePriceImportService closePriceImportService;
+
+    private final List<Integer> upsertedChunkSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(closePriceImportService, "chunkSize", 2);
+
+        Stock samsung = createStock(1L, "005930");
+        Stock hynix = createStock(2L, "000660");
+        given(stockRepository.findAll()).willReturn(List.of(samsung, hynix));
+
+        // 트랜잭션 콜백을 그대로 실행
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        willAnswer(invocation -> {
+            List<ClosePrice> chunk = invocation.getArgument(0);
+            upsertedChunkSizes.add(chunk.size());
+            return chunk.size();
+        }).given(jdbcBulkLoader).upsertClosePrices(anyList());
+    }
+
+    @Test
+    @DisplayName("CSV 적재 - 청크 단위 UPSERT, 종목별 거래일 범위 반환")
+    void importCsv_ShouldUpsertInChunksAndReportRanges() throws Exception {
+        // given
+        String csv = "stockCode,tradeDate,closePrice\n"
+                + "5930,2024-01-03,71000\n"
+                + "005930,2024-01-02,70000\n"
+                + "000660,2024-01-02,140000\n"
+                + "999999,2024-01-02,1000\n"      // 종목 없음
+                + "005930,2024/01/04,72000\n";    // 날짜 형식 오류
+
+        // when
+        ClosePriceImportSummaryDTO summary = closePriceImportService.importCsv(toStream(csv));
+
+        // then
+        assertThat(upsertedChunkSizes).containsExactly(2, 1);
+        assertThat(summary.getTotalRows()).isEqualTo(5);
+        assertThat(summary.getUpsertedRows()).isEqualTo(3);
+        assertThat(summary.getUnknownStockRows()).isEqualTo(1);
+        assertThat(summary.getParseError()).isEqualTo(1);
+        assertThat(summary.getTouchedRanges()).hasSize(2);
+
+        ClosePriceImportSummaryDTO.StockRange samsungRange = summary.getTouchedRanges().get(0);
+        assertThat(samsungRange.getStockCode()).isEqualTo("005930");
+        assertThat(samsungRange.getFromDate()).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(samsungRange.getToDate()).isEqualTo(LocalDate.of(2024, 1, 3));
+        assertThat(samsungRange.getRowCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("NDJSON 적재 - 청크마다 종가 변경 이벤트 발행")
+    void importNdjson_ShouldPublishChangeEventPerChunk() throws Exception {
+        // given
+        String ndjson = """
+                {"stock_code": "005930", "trade_date": "2024-01-02", "close_price": 70000}
+                {"stock_code": "000660", "trade_date": "2024-01-05", "close_price": 141000}
+                {"stock_code": "000660", "trade_date": "2024-01-03", "close_price": 139000}
+                """;
+
+        // when
+        ClosePriceImportSummaryDTO summary = closePriceImportService.importNdjson(toStream(ndjson));
+
+        // then
+        assertThat(summary.getUpsertedRows()).isEqualTo(3);
+        assertThat(summary.getChunkCount()).isEqualTo(2);
+
+        ArgumentCaptor<ClosePriceChangedEvent> captor = ArgumentCaptor.forClass(ClosePriceChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues().get(0).rangesByStockId()).containsKeys(1L, 2L);
+        assertThat(captor.getAllValues().get(1).rangesByStockId().get(2L))
+                .isEqualTo(new ClosePriceChangedEvent.DateRange(LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 3)));
+    }
+
+    @Test
+    @DisplayName("NDJSON 적재 - 깨진 줄은 parse_error로 세고 다음 줄부터 계속 적재")
+    void importNdjson_WhenLineIsMalformed_ShouldCountAndContinue() throws Exception {
+        // given
+        String ndjson = """
+                {"stock_code": "005930", "trade_date": "2024-01-02", "close_price": 70000}
+                {"stock_code": "000660", "trade_date": "2024-01-02", "close_price":
+                {"stock_code": "000660", "trade_date": "2024-01-03", "close_price": 139000}
+                """;
+
+        // when
+        ClosePriceImportSummaryDTO summary = closePriceImportService.importNdjson(toStream(ndjson));
+
+        // then
+        assertThat(summary.getTotalRows()).isEqualTo(3);
+        assertThat(summary.getUpsertedRows()).isEqualTo(2);
+        assertThat(summary.getParseError()).isEqualTo(1);
+        assertThat(upsertedChunkSizes).containsExactly(2);
+    }
+
+    private Stock createStock(Long id, String code) {
+        Stock stock = new Stock();
+        stock.setId(id);
+        stock.setStockCode(code);
+        return stock;
+    }
+
+    private ByteArrayInputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,34 @@
+package capstone25_2.aim.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HangulUtils 단위 테스트")
+class HangulUtilsTest {
+
+    @Test
+    @DisplayName("음절을 자모로 분해 (겹모음/겹받침 포함)")
+    void decompose_ShouldSplitSyllablesIntoJamo() {
+        assertThat(HangulUtils.decompose("삼성")).isEqualTo("ㅅㅏㅁㅅㅓㅇ");
+        assertThat(HangulUtils.decompose("와닭")).isEqualTo("ㅇㅗㅏㄷㅏㄹㄱ");
+        assertThat(HangulUtils.decompose("SK 하이닉스")).startsWith("skㅎㅏ");
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절의 분해 결과는 완성 음절 분해 결과의 접두사")
+    void decompose_PartialSyllable_ShouldBePrefix() {
+        assertThat(HangulUtils.decompose("삼성")).startsWith(HangulUtils.decompose("삼서"));
+        assertThat(HangulUtils.decompose("닭")).startsWith(HangulUtils.decompose("달"));
+    }
+
+    @Test
+    @DisplayName("초성 추출 및 초성 전용 입력 판별")
+    void choseong_ShouldExtractInitialConsonants() {
+        assertThat(HangulUtils.choseong("삼성전자")).isEqualTo("ㅅㅅㅈㅈ");
+        assertThat(HangulUtils.isChoseongOnly("ㅅㅅ")).isTrue();
+        assertThat(HangulUtils.isChoseongOnly("ㅅ성")).isFalse();
+        assertThat(HangulUtils.isChoseongOnly(" ")).isFalse();
+    }
+}
@@ -0,0 +1,65 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.domain.entity.SurfaceOpinion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReportCsvParser 단위 테스트")
+class ReportCsvParserTest {
+
+    private final ReportCsvParser reportCsvParser = new ReportCsvParser();
+
+    @Test
+    @DisplayName("종목코드 정규화 - 숫자는 6자리로 채우고 그 외는 그대로")
+    void normalizeStockCode_ShouldPadDigitsToSixChars() {
+        assertThat(ReportCsvParser.normalizeStockCode("5930")).isEqualTo("005930");
+        assertThat(ReportCsvParser.normalizeStockCode("005930")).isEqualTo("005930");
+        assertThat(ReportCsvParser.normalizeStockCode("0005930")).isEqualTo("005930");
+        assertThat(ReportCsvParser.normalizeStockCode("1234567")).isEqualTo("1234567");
+        assertThat(ReportCsvParser.normalizeStockCode("000")).isEqualTo("000000");
+        assertThat(ReportCsvParser.normalizeStockCode("A0001")).isEqualTo("A0001");
+        assertThat(ReportCsvParser.normalizeStockCode("")).isEmpty();
+        assertThatThrownBy(() -> ReportCsvParser.normalizeStockCode("12345678901"))
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    @DisplayName("날짜 파싱 - 월말을 넘는 일자는 말일로 보정하고 형식 오류는 예외")
+    void parseDate_ShouldMatchFormatterBehavior() {
+        assertThat(ReportCsvParser.parseDate("2024-01-02")).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(ReportCsvParser.parseDate("2024-02-30")).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(ReportCsvParser.parseDate("2023-04-31")).isEqualTo(LocalDate.of(2023, 4, 30));
+        assertThatThrownBy(() -> ReportCsvParser.parseDate("2024-01-32")).isInstanceOf(DateTimeParseException.class);
+        assertThatThrownBy(() -> ReportCsvParser.parseDate("2024/01/02")).isInstanceOf(DateTimeParseException.class);
+    }
+
+    @Test
+    @DisplayName("표면 의견 파싱 - 대소문자 무시")
+    void parseSurfaceOpinion_ShouldIgnoreCase() {
+        assertThat(ReportCsvParser.parseSurfaceOpinion("buy")).isEqualTo(SurfaceOpinion.BUY);
+        assertThat(ReportCsvParser.parseSurfaceOpinion("Hold")).isEqualTo(SurfaceOpinion.HOLD);
+        assertThatThrownBy(() -> ReportCsvParser.parseSurfaceOpinion("STRONG_BUY"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("행 파싱 - 값을 trim하고 종목코드를 정규화")
+    void parseRow_ShouldTrimAndNormalize() {
+        // when
+        ReportCsvParser.RowResult result = reportCsvParser.parseRow(new String[]{
+                " 홍길동 ", "삼성증권", "0.8", "2024-01-02", " 리포트1 ", "5930", "buy", "80000"});
+
+        // then
+        assertThat(result.isSkipped()).isFalse();
+        assertThat(result.request().getAnalyst().getAnalystName()).isEqualTo("홍길동");
+        assertThat(result.request().getReport().getReportTitle()).isEqualTo("리포트1");
+        assertThat(result.request().getReport().getStockCode()).isEqualTo("005930");
+        assertThat(result.request().getReport().getSurfaceOpinion()).isEqualTo(SurfaceOpinion.BUY);
+    }
+}
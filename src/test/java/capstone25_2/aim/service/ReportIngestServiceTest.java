@@ -0,0 +1,285 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.domain.dto.report.ReportIngestSummaryDTO;
+import capstone25_2.aim.domain.dto.report.ReportRequestDTO;
+import capstone25_2.aim.domain.entity.IngestLedger;
+import capstone25_2.aim.repository.IngestLedgerRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportIngestService 단위 테스트")
+class ReportIngestServiceTest {
+
+    private static final String HEADER =
+            "analystName,firmName,hiddenOpinion,reportDate,reportTitle,stockCode,surfaceOpinion,targetPrice\n";
+
+    @Mock
+    private ReportService reportService;
+
+    @Spy
+    private ReportCsvParser reportCsvParser = new ReportCsvParser();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .findAndRegisterModules();
+
+    @Mock
+    private IngestLedgerRepository ingestLedgerRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private ReportIngestService reportIngestService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reportIngestService, "chunkSize", 2);
+    }
+
+    @Test
+    @DisplayName("청크 크기마다 나누어 저장하고 결과를 합산")
+    void ingestCsv_ShouldSaveInChunks() throws Exception {
+        // given
+        String csv = HEADER
+                + "홍길동,삼성증권,0.8,2024-01-02,리포트1,5930,buy,80000\n"
+                + "홍길동,삼성증권,0.7,2024-01-03,리포트2,005930,BUY,81000\n"
+                + "김철수,KB증권,0.4,2024-01-04,리포트3,000660,HOLD,150000\n"
+                + "김철수,KB증권,0.3,2024-01-05,리포트4,000660,SELL,140000\n"
+                + "이영희,NH증권,0.6,2024-01-06,리포트5,035420,BUY,250000\n";
+
+        List<List<String>> chunkStockCodes = new ArrayList<>();
+        given(reportService.saveReportChunk(anyList())).willAnswer(invocation -> {
+            List<ReportRequestDTO> chunk = invocation.getArgument(0);
+            chunkStockCodes.add(chunk.stream().map(dto -> dto.getReport().getStockCode()).toList());
+            return new ReportService.ReportChunkResult(chunk.size() - 1, 1, 0);
+        });
+
+        // when
+        ReportIngestSummaryDTO summary = reportIngestService.ingestCsv(toStream(csv));
+
+        // then
+        assertThat(chunkStockCodes).containsExactly(
+                List.of("005930", "005930"),
+                List.of("000660", "000660"),
+                List.of("035420"));
+        assertThat(summary.getTotalRows()).isEqualTo(5);
+        assertThat(summary.getParsedRows()).isEqualTo(5);
+        assertThat(summary.getChunkCount()).isEqualTo(3);
+        assertThat(summary.getSavedCount()).isEqualTo(2);
+        assertThat(summary.getDuplicateCount()).isEqualTo(3);
+        assertThat(ingestedRows("new")).isEqualTo(2);
+        assertThat(ingestedRows("duplicate")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("기존 스킵 규칙에 해당하는 행은 저장하지 않고 사유별로 집계")
+    void ingestCsv_ShouldCountSkippedRows() throws Exception {
+        // given
+        String csv = HEADER
+                + "홍길동,삼성증권,0.8,2024-01-02\n"                                  // 컬럼 수 부족
+                + "홍길동,,0.8,2024-01-02,리포트1,005930,BUY,80000\n"                  // 빈 컬럼
+                + "남궁길동,삼성증권,0.8,2024-01-02,리포트1,005930,BUY,80000\n"         // 이름 4글자
+                + "홍길동,삼성증권,0.8,2024/01/02,리포트1,005930,BUY,80000\n";          // 날짜 형식 오류
+
+        // when
+        ReportIngestSummaryDTO summary = reportIngestService.ingestCsv(toStream(csv));
+
+        // then
+        assertThat(summary.getTotalRows()).isEqualTo(4);
+        assertThat(summary.getParsedRows()).isZero();
+        assertThat(summary.getColumnCountError()).isEqualTo(1);
+        assertThat(summary.getEmptyColumnError()).isEqualTo(1);
+        assertThat(summary.getAnalystNameTooLongError()).isEqualTo(1);
+        assertThat(summary.getParseError()).isEqualTo(1);
+        assertThat(ingestedRows("parse_error")).isEqualTo(1);
+        assertThat(ingestedRows("invalid_row")).isEqualTo(3);
+        verify(reportService, never()).saveReportChunk(anyList());
+    }
+
+    @Test
+    @DisplayName("NDJSON 스트림 - 한 줄씩 검증 후 청크 단위로 저장")
+    void ingestNdjson_ShouldValidateAndSaveInChunks() throws Exception {
+        // given
+        String ndjson = """
+                {"analyst": {"analyst_name": "홍길동", "firm_name": "삼성증권"}, "report": {"stock_code": "5930", "report_title": "리포트1", "report_date": "2024-01-02", "target_price": 80000, "surface_opinion": "BUY", "hidden_opinion": 0.8}}
+                {"analyst": {"analyst_name": "남궁길동", "firm_name": "삼성증권"}, "report": {"stock_code": "005930", "report_title": "리포트2", "report_date": "2024-01-03", "target_price": 81000, "surface_opinion": "BUY", "hidden_opinion": 0.7}}
+                {"analyst": {"analyst_name": "김철수", "firm_name": "KB증권"}, "report": {"stock_code": "000660", "report_title": "리포트3", "report_date": "2024-01-04", "surface_opinion": "HOLD", "hidden_opinion": 0.4}}
+                {"analyst": {"analyst_name": "김철수", "firm_name": "KB증권"}, "report": {"stock_code": "000660", "report_title": "리포트4", "report_date": "2024-01-05", "target_price": 140000, "surface_opinion": "SELL", "hidden_opinion": 0.3}}
+                """;
+
+        List<List<String>> chunkStockCodes = new ArrayList<>();
+        given(reportService.saveReportChunk(anyList())).willAnswer(invocation -> {
+            List<ReportRequestDTO> chunk = invocation.getArgument(0);
+            chunkStockCodes.add(chunk.stream().map(dto -> dto.getReport().getStockCode()).toList());
+            return new ReportService.ReportChunkResult(chunk.size(), 0, 0);
+        });
+
+        // when
+        ReportIngestSummaryDTO summary = reportIngestService.ingestNdjson(toStream(ndjson));
+
+        // then
+        assertThat(chunkStockCodes).containsExactly(List.of("005930", "000660"));
+        assertThat(summary.getTotalRows()).isEqualTo(4);
+        assertThat(summary.getAnalystNameTooLongError()).isEqualTo(1);
+        assertThat(summary.getEmptyColumnError()).isEqualTo(1);  // target_price 누락
+        assertThat(summary.getSavedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("NDJSON 스트림 - 깨진 줄은 PARSE_ERROR로 세고 다음 줄부터 계속 저장")
+    void ingestNdjson_WhenLineIsMalformed_ShouldCountAndContinue() throws Exception {
+        // given
+        String ndjson = """
+                {"analyst": {"analyst_name": "홍길동", "firm_name": "삼성증권"}, "report": {"stock_code": "005930", "report_title": "리포트1", "report_date": "2024-01-02", "target_price": 80000, "surface_opinion": "BUY", "hidden_opinion": 0.8}}
+                {"analyst": {"analyst_name": "김철수", "firm_name": "KB증권"}, "report": {"stock_code": "000660", "report_title":
+                {"analyst": {"analyst_name": "김철수", "firm_name": "KB증권"}, "report": {"stock_code": "000660", "report_title": "리포트3", "report_date": "2024-01-04", "target_price": 140000, "surface_opinion": "SELL", "hidden_opinion": 0.3}}
+                """;
+
+        given(reportService.saveReportChunk(anyList())).willAnswer(invocation -> {
+            List<ReportRequestDTO> chunk = invocation.getArgument(0);
+            return new ReportService.ReportChunkResult(chunk.size(), 0, 0);
+        });
+
+        // when
+        ReportIngestSummaryDTO summary = reportIngestService.ingestNdjson(toStream(ndjson));
+
+        // then
+        assertThat(summary.getTotalRows()).isEqualTo(3);
+        assertThat(summary.getParseError()).isEqualTo(1);
+        assertThat(summary.getSavedCount()).isEqualTo(2);
+        assertThat(ingestedRows("parse_error")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 파일 재업로드 - 원장에 기록된 청크는 건너뛰고 실패한 청크부터 이어서 적재")
+    void ingestCsv_WithRetriedFile_ShouldResumeFromFailedChunk() throws Exception {
+        // given
+        ByteArrayResource file = new ByteArrayResource((HEADER
+                + "홍길동,삼성증권,0.8,2024-01-02,리포트1,005930,BUY,80000\n"
+                + "홍길동,삼성증권,0.7,2024-01-03,리포트2,005930,BUY,81000\n"
+                + "김철수,KB증권,0.4,2024-01-04,리포트3,000660,HOLD,150000\n"
+                + "김철수,KB증권,0.3,2024-01-05,리포트4,000660,SELL,140000\n"
+                + "이영희,NH증권,0.6,2024-01-06,리포트5,035420,BUY,250000\n").getBytes(StandardCharsets.UTF_8));
+
+        List<IngestLedger> ledgers = new ArrayList<>();
+        given(ingestLedgerRepository.findByFileHash(anyString())).willAnswer(invocation -> List.copyOf(ledgers));
+        given(ingestLedgerRepository.save(any(IngestLedger.class))).willAnswer(invocation -> {
+            IngestLedger ledger = invocation.getArgument(0);
+            ledgers.add(ledger);
+            return ledger;
+        });
+        // 트랜잭션 콜백을 그대로 실행
+        willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+
+        List<String> savedFirstStockCodes = new ArrayList<>();
+        AtomicBoolean failSecondChunk = new AtomicBoolean(true);
+        given(reportService.saveReportChunk(anyList())).willAnswer(invocation -> {
+            List<ReportRequestDTO> chunk = invocation.getArgument(0);
+            String firstStockCode = chunk.get(0).getReport().getStockCode();
+            if (firstStockCode.equals("000660") && failSecondChunk.getAndSet(false)) {
+                throw new RuntimeException("DB 연결 끊김");
+            }
+            savedFirstStockCodes.add(firstStockCode);
+            return new ReportService.ReportChunkResult(chunk.size(), 0, 0);
+        });
+
+        // when - 첫 업로드는 두 번째 청크에서 실패
+        assertThatThrownBy(() -> reportIngestService.ingestCsv(file)).isInstanceOf(RuntimeException.class);
+        ReportIngestSummaryDTO summary = reportIngestService.ingestCsv(file);
+
+        // then - 재업로드는 첫 청크를 건너뛰고 두 번째 청크부터 저장
+        assertThat(savedFirstStockCodes).containsExactly("005930", "000660", "035420");
+        assertThat(summary.getResumedChunkCount()).isEqualTo(1);
+        assertThat(summary.getChunkCount()).isEqualTo(2);
+        assertThat(summary.getSavedCount()).isEqualTo(3);
+        assertThat(summary.getFileHash()).hasSize(64);
+        assertThat(ledgers).extracting(IngestLedger::getChunkIndex).containsExactly(0, 1, 2);
+        assertThat(ledgers).extracting(IngestLedger::getFileHash).containsOnly(summary.getFileHash());
+    }
+
+    @Test
+    @DisplayName("병렬 파싱 - 블록을 여러 스레드에서 파싱해도 입력 순서대로 청크 저장")
+    void ingestCsv_WithParallelParsing_ShouldKeepInputOrder() throws Exception {
+        // given
+        ReflectionTestUtils.setField(reportIngestService, "parseParallelism", 4);
+        ReflectionTestUtils.setField(reportIngestService, "parseBlockSize", 3);
+        reportIngestService.start();
+
+        StringBuilder csv = new StringBuilder(HEADER);
+        List<String> expectedTitles = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            if (i % 10 == 0) {
+                csv.append("홍길동,삼성증권,0.5,2024-01-02,\"오류\n리포트\",005930,BUY,가격\n");  // 따옴표 안 줄바꿈 + 숫자 오류
+                continue;
+            }
+            csv.append("홍길동,삼성증권,0.5,2024-01-02,리포트").append(i).append(",5930,BUY,80000\n");
+            expectedTitles.add("리포트" + i);
+        }
+
+        List<String> savedTitles = new ArrayList<>();
+        given(reportService.saveReportChunk(anyList())).willAnswer(invocation -> {
+            List<ReportRequestDTO> chunk = invocation.getArgument(0);
+            chunk.forEach(dto -> savedTitles.add(dto.getReport().getReportTitle()));
+            return new ReportService.ReportChunkResult(chunk.size(), 0, 0);
+        });
+
+        try {
+            // when
+            ReportIngestSummaryDTO summary = reportIngestService.ingestCsv(toStream(csv.toString()));
+
+            // then
+            assertThat(savedTitles).containsExactlyElementsOf(expectedTitles);
+            assertThat(summary.getTotalRows()).isEqualTo(50);
+            assertThat(summary.getParseError()).isEqualTo(5);
+            assertThat(summary.getChunkCount()).isEqualTo(23);  // 45행 / 청크 2행
+        } finally {
+            reportIngestService.shutdown();
+        }
+    }
+
+    // aim.ingest.rows 카운터 값 (리포트 적재)
+    private double ingestedRows(String outcome) {
+        return meterRegistry.counter("aim.ingest.rows", "type", "report", "outcome", outcome).count();
+    }
+
+    private ByteArrayInputStream toStream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
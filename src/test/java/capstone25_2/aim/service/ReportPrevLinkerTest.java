@@ -0,0 +1,162 @@
+package capstone25_2.aim.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import(ReportPrevLinker.class)
+@TestPropertySource(properties = {
+        "aim.jdbc.stream-fetch-size=100",  // H2는 음수 fetch size 미지원
+        "aim.jdbc.batch-size=2"
+})
+@DisplayName("ReportPrevLinker 테스트")
+class ReportPrevLinkerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReportPrevLinker reportPrevLinker;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS report");
+        jdbcTemplate.execute("CREATE TABLE report (" +
+                "report_id BIGINT PRIMARY KEY, analyst_id BIGINT, stock_id BIGINT, " +
+                "report_date TIMESTAMP, prev_report_id BIGINT)");
+    }
+
+    @Test
+    @DisplayName("시리즈별 직전 날짜 리포트로 연결 (입력 순서와 무관, 같은 날짜끼리는 연결하지 않음)")
+    void relinkAll_ShouldLinkToPreviousDate() {
+        // given - 애널리스트 1 / 종목 10 시리즈를 뒤섞인 ID 순서로 저장
+        insert(3L, 1L, 10L, "2024-01-03", null);
+        insert(1L, 1L, 10L, "2024-01-01", null);
+        insert(2L, 1L, 10L, "2024-01-02", null);
+        insert(4L, 1L, 10L, "2024-01-02", null);   // 같은 날짜 두 건
+        // 다른 시리즈 (애널리스트 1 / 종목 20)
+        insert(5L, 1L, 20L, "2024-01-02", null);
+
+        // when
+        int updated = reportPrevLinker.relinkAll();
+
+        // then
+        assertThat(updated).isEqualTo(3);
+        assertThat(prevOf(1L)).isNull();
+        assertThat(prevOf(2L)).isEqualTo(1L);
+        assertThat(prevOf(4L)).isEqualTo(1L);
+        assertThat(prevOf(3L)).isEqualTo(4L);  // 직전 날짜 중 ID가 큰 리포트
+        assertThat(prevOf(5L)).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 올바른 연결은 UPDATE하지 않고, 잘못된 연결은 바로잡음")
+    void relinkAll_ShouldUpdateOnlyChangedRows() {
+        // given
+        insert(1L, 1L, 10L, "2024-01-01", null);
+        insert(2L, 1L, 10L, "2024-01-02", 1L);   // 올바름
+        insert(3L, 1L, 10L, "2024-01-03", 1L);   // 2를 가리켜야 함
+
+        // when
+        int updated = reportPrevLinker.relinkAll();
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(prevOf(3L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("중간 날짜에 끼워 넣은 리포트는 다음 리포트가 새 리포트를 가리키도록 갱신")
+    void relinkSeries_WithBackfilledReport_ShouldRepointSuccessor() {
+        // given - 1 → 3 연결 상태에서 중간 날짜 리포트 4 추가
+        insert(1L, 1L, 10L, "2024-01-01", null);
+        insert(3L, 1L, 10L, "2024-01-03", 1L);
+        insert(4L, 1L, 10L, "2024-01-02", null);
+        // 요청하지 않은 시리즈는 그대로 둠
+        insert(5L, 2L, 20L, "2024-01-01", null);
+        insert(6L, 2L, 20L, "2024-01-02", null);
+
+        // when
+        int updated = reportPrevLinker.relinkSeries(Set.of(new ReportPrevLinker.SeriesKey(1L, 10L)));
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(prevOf(4L)).isEqualTo(1L);
+        assertThat(prevOf(3L)).isEqualTo(4L);
+        assertThat(prevOf(6L)).isNull();
+    }
+
+    @Test
+    @DisplayName("애널리스트/종목을 공유하는 시리즈도 요청한 시리즈의 행만 한 번의 SELECT로 읽음")
+    void relinkSeries_ShouldReadOnlyRequestedSeries() {
+        // given - (1, 10), (2, 20)만 요청. (1, 20), (2, 10)은 애널리스트/종목을 공유하지만 요청하지 않은 시리즈
+        insert(1L, 1L, 10L, "2024-01-01", null);
+        insert(2L, 1L, 10L, "2024-01-02", null);
+        insert(3L, 2L, 20L, "2024-01-01", null);
+        insert(4L, 2L, 20L, "2024-01-02", null);
+        for (long id = 10; id < 20; id++) {
+            insert(id, 1L, 20L, "2024-01-" + String.format("%02d", id), null);
+            insert(id + 100, 2L, 10L, "2024-01-" + String.format("%02d", id), null);
+        }
+
+        List<String> selects = new ArrayList<>();
+        AtomicInteger rowsRead = new AtomicInteger();
+        JdbcTemplate countingTemplate = new JdbcTemplate(dataSource) {
+            @Override
+            public void query(String sql, RowCallbackHandler rch, Object... args) {
+                selects.add(sql);
+                super.query(sql, (RowCallbackHandler) rs -> {
+                    rowsRead.incrementAndGet();
+                    rch.processRow(rs);
+                }, args);
+            }
+        };
+        ReportPrevLinker linker = new ReportPrevLinker(countingTemplate);
+        ReflectionTestUtils.setField(linker, "batchSize", 2);
+
+        // when
+        int updated = linker.relinkSeries(Set.of(
+                new ReportPrevLinker.SeriesKey(1L, 10L),
+                new ReportPrevLinker.SeriesKey(2L, 20L)));
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(selects).hasSize(1);
+        assertThat(rowsRead.get()).isEqualTo(4);
+        assertThat(prevOf(2L)).isEqualTo(1L);
+        assertThat(prevOf(4L)).isEqualTo(3L);
+        assertThat(prevOf(11L)).isNull();
+        assertThat(prevOf(111L)).isNull();
+    }
+
+    private void insert(Long id, Long analystId, Long stockId, String date, Long prevId) {
+        jdbcTemplate.update("INSERT INTO report (report_id, analyst_id, stock_id, report_date, prev_report_id) " +
+                        "VALUES (?, ?, ?, ?, ?)",
+                id, analystId, stockId, Timestamp.valueOf(LocalDate.parse(date).atStartOfDay()), prevId);
+    }
+
+    private Long prevOf(Long reportId) {
+        return jdbcTemplate.queryForObject("SELECT prev_report_id FROM report WHERE report_id = ?", Long.class, reportId);
+    }
+}
@@ -1,11 +1,15 @@
 package capstone25_2.aim.service;
 
+import capstone25_2.aim.domain.dto.report.ReportRequestDTO;
+import capstone25_2.aim.domain.dto.report.ReportSnapshot;
 import capstone25_2.aim.domain.dto.stock.StockConsensusDTO;
 import capstone25_2.aim.domain.entity.Analyst;
-import capstone25_2.aim.domain.entity.Report;
 import capstone25_2.aim.domain.entity.Stock;
 import capstone25_2.aim.domain.entity.SurfaceOpinion;
+import capstone25_2.aim.domain.event.AnalystMetricsDirtyEvent;
+import capstone25_2.aim.domain.event.ReportsChangedEvent;
 import capstone25_2.aim.repository.AnalystRepository;
+import capstone25_2.aim.repository.JdbcBulkLoader;
 import capstone25_2.aim.repository.ReportRepository;
 import capstone25_2.aim.repository.StockRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,18 +19,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ReportService 단위 테스트")
@@ -44,6 +55,15 @@ class ReportServiceTest {
     @Mock
     private AnalystMetricsService analystMetricsService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JdbcBulkLoader jdbcBulkLoader;
+
+    @Mock
+    private ReportPrevLinker reportPrevLinker;
+
     @InjectMocks
     private ReportService reportService;
 
@@ -85,19 +105,19 @@ class ReportServiceTest {
         LocalDateTime now = LocalDateTime.now();
 
         // 애널리스트1: 오래된 리포트(SELL), 최신 리포트(BUY) -> BUY만 집계
-        Report oldReport1 = createReport(1L, analyst1, testStock, now.minusYears(2), SurfaceOpinion.SELL);
-        Report latestReport1 = createReport(2L, analyst1, testStock, now.minusMonths(1), SurfaceOpinion.BUY);
+        ReportSnapshot oldReport1 = createReport(1L, analyst1, testStock, now.minusYears(2), SurfaceOpinion.SELL);
+        ReportSnapshot latestReport1 = createReport(2L, analyst1, testStock, now.minusMonths(1), SurfaceOpinion.BUY);
 
         // 애널리스트2: 최신 리포트(BUY) -> BUY만 집계
-        Report latestReport2 = createReport(3L, analyst2, testStock, now.minusMonths(2), SurfaceOpinion.BUY);
+        ReportSnapshot latestReport2 = createReport(3L, analyst2, testStock, now.minusMonths(2), SurfaceOpinion.BUY);
 
         // 애널리스트3: 최신 리포트(HOLD) -> HOLD만 집계
-        Report latestReport3 = createReport(4L, analyst3, testStock, now.minusMonths(3), SurfaceOpinion.HOLD);
+        ReportSnapshot latestReport3 = createReport(4L, analyst3, testStock, now.minusMonths(3), SurfaceOpinion.HOLD);
 
-        List<Report> allReports = List.of(oldReport1, latestReport1, latestReport2, latestReport3);
+        List<ReportSnapshot> allReports = List.of(oldReport1, latestReport1, latestReport2, latestReport3);
 
         given(stockRepository.findById(stockId)).willReturn(Optional.of(testStock));
-        given(reportRepository.findByStockIdAndReportDateAfterOrderByReportDateDesc(
+        given(reportRepository.findSnapshotsByStockIdAndReportDateAfter(
                 eq(stockId), any(LocalDateTime.class)))
                 .willReturn(allReports);
 
@@ -125,7 +145,7 @@ class ReportServiceTest {
 
         verify(stockRepository, times(1)).findById(stockId);
         verify(reportRepository, times(1))
-                .findByStockIdAndReportDateAfterOrderByReportDateDesc(eq(stockId), any(LocalDateTime.class));
+                .findSnapshotsByStockIdAndReportDateAfter(eq(stockId), any(LocalDateTime.class));
     }
 
     @Test
@@ -135,14 +155,14 @@ class ReportServiceTest {
         Long stockId = 1L;
         LocalDateTime now = LocalDateTime.now();
 
-        Report report1 = createReport(1L, analyst1, testStock, now.minusMonths(1), SurfaceOpinion.BUY);
-        Report report2 = createReport(2L, analyst2, testStock, now.minusMonths(2), SurfaceOpinion.BUY);
-        Report report3 = createReport(3L, analyst3, testStock, now.minusMonths(3), SurfaceOpinion.BUY);
+        ReportSnapshot report1 = createReport(1L, analyst1, testStock, now.minusMonths(1), SurfaceOpinion.BUY);
+        ReportSnapshot report2 = createReport(2L, analyst2, testStock, now.minusMonths(2), SurfaceOpinion.BUY);
+        ReportSnapshot report3 = createReport(3L, analyst3, testStock, now.minusMonths(3), SurfaceOpinion.BUY);
 
-        List<Report> allReports = List.of(report1, report2, report3);
+        List<ReportSnapshot> allReports = List.of(report1, report2, report3);
 
         given(stockRepository.findById(stockId)).willReturn(Optional.of(testStock));
-        given(reportRepository.findByStockIdAndReportDateAfterOrderByReportDateDesc(
+        given(reportRepository.findSnapshotsByStockIdAndReportDateAfter(
                 eq(stockId), any(LocalDateTime.class)))
                 .willReturn(allReports);
 
@@ -162,14 +182,14 @@ class ReportServiceTest {
         Long stockId = 1L;
         LocalDateTime now = LocalDateTime.now();
 
-        Report report1 = createReport(1L, analyst1, testStock, now.minusMonths(1), SurfaceOpinion.SELL);
-        Report report2 = createReport(2L, analyst2, testStock, now.minusMonths(2), SurfaceOpinion.SELL);
-        Report report3 = createReport(3L, analyst3, testStock, now.minusMonths(3), SurfaceOpinion.SELL);
+        ReportSnapshot report1 = createReport(1L, analyst1, testStock, now.minusMonths(1), SurfaceOpinion.SELL);
+        ReportSnapshot report2 = createReport(2L, analyst2, testStock, now.minusMonths(2), SurfaceOpinion.SELL);
+        ReportSnapshot report3 = createReport(3L, analyst3, testStock, now.minusMonths(3), SurfaceOpinion.SELL);
 
-        List<Report> allReports = List.of(report1, report2, report3);
+        List<ReportSnapshot> allReports = List.of(report1, report2, report3);
 
         given(stockRepository.findById(stockId)).willReturn(Optional.of(testStock));
-        given(reportRepository.findByStockIdAndReportDateAfterOrderByReportDateDesc(
+        given(reportRepository.findSnapshotsByStockIdAndReportDateAfter(
                 eq(stockId), any(LocalDateTime.class)))
                 .willReturn(allReports);
 
@@ -188,7 +208,7 @@ class ReportServiceTest {
         // given
         Long stockId = 1L;
         given(stockRepository.findById(stockId)).willReturn(Optional.of(testStock));
-        given(reportRepository.findByStockIdAndReportDateAfterOrderByReportDateDesc(
+        given(reportRepository.findSnapshotsByStockIdAndReportDateAfter(
                 eq(stockId), any(LocalDateTime.class)))
                 .willReturn(List.of());
 
@@ -222,14 +242,14 @@ class ReportServiceTest {
         Long stockId = 1L;
         LocalDateTime now = LocalDateTime.now();
 
-        Report report1 = createReport(1L, analyst1, testStock, now.minusMonths(1), SurfaceOpinion.BUY);
-        Report report2 = createReport(2L, analyst2, testStock, now.minusMonths(2), null); // null
-        Report report3 = createReport(3L, analyst3, testStock, now.minusMonths(3), SurfaceOpinion.HOLD);
+        ReportSnapshot report1 = createReport(1L, analyst1, testStock, now.minusMonths(1), SurfaceOpinion.BUY);
+        ReportSnapshot report2 = createReport(2L, analyst2, testStock, now.minusMonths(2), null); // null
+        ReportSnapshot report3 = createReport(3L, analyst3, testStock, now.minusMonths(3), SurfaceOpinion.HOLD);
 
-        List<Report> allReports = List.of(report1, report2, report3);
+        List<ReportSnapshot> allReports = List.of(report1, report2, report3);
 
         given(stockRepository.findById(stockId)).willReturn(Optional.of(testStock));
-        given(reportRepository.findByStockIdAndReportDateAfterOrderByReportDateDesc(
+        given(reportRepository.findSnapshotsByStockIdAndReportDateAfter(
                 eq(stockId), any(LocalDateTime.class)))
                 .willReturn(allReports);
 
@@ -253,18 +273,18 @@ class ReportServiceTest {
         LocalDateTime now = LocalDateTime.now();
 
         // 애널리스트1: 3개의 리포트
-        Report old1 = createReport(1L, analyst1, testStock, now.minusYears(2), SurfaceOpinion.SELL);
-        Report mid1 = createReport(2L, analyst1, testStock, now.minusYears(1), SurfaceOpinion.HOLD);
-        Report latest1 = createReport(3L, analyst1, testStock, now.minusMonths(1), SurfaceOpinion.BUY); // 최신
+        ReportSnapshot old1 = createReport(1L, analyst1, testStock, now.minusYears(2), SurfaceOpinion.SELL);
+        ReportSnapshot mid1 = createReport(2L, analyst1, testStock, now.minusYears(1), SurfaceOpinion.HOLD);
+        ReportSnapshot latest1 = createReport(3L, analyst1, testStock, now.minusMonths(1), SurfaceOpinion.BUY); // 최신
 
         // 애널리스트2: 2개의 리포트
-        Report old2 = createReport(4L, analyst2, testStock, now.minusMonths(6), SurfaceOpinion.SELL);
-        Report latest2 = createReport(5L, analyst2, testStock, now.minusMonths(2), SurfaceOpinion.BUY); // 최신
+        ReportSnapshot old2 = createReport(4L, analyst2, testStock, now.minusMonths(6), SurfaceOpinion.SELL);
+        ReportSnapshot latest2 = createReport(5L, analyst2, testStock, now.minusMonths(2), SurfaceOpinion.BUY); // 최신
 
-        List<Report> allReports = List.of(old1, mid1, latest1, old2, latest2);
+        List<ReportSnapshot> allReports = List.of(old1, mid1, latest1, old2, latest2);
 
         given(stockRepository.findById(stockId)).willReturn(Optional.of(testStock));
-        given(reportRepository.findByStockIdAndReportDateAfterOrderByReportDateDesc(
+        given(reportRepository.findSnapshotsByStockIdAndReportDateAfter(
                 eq(stockId), any(LocalDateTime.class)))
                 .willReturn(allReports);
 
@@ -288,17 +308,17 @@ class ReportServiceTest {
         LocalDateTime now = LocalDateTime.now();
 
         // 목표가: 90000, 85000, 70000
-        Report report1 = createReportWithTargetPrice(1L, analyst1, testStock, now.minusMonths(1),
+        ReportSnapshot report1 = createReportWithTargetPrice(1L, analyst1, testStock, now.minusMonths(1),
                 SurfaceOpinion.BUY, 90000);
-        Report report2 = createReportWithTargetPrice(2L, analyst2, testStock, now.minusMonths(2),
+        ReportSnapshot report2 = createReportWithTargetPrice(2L, analyst2, testStock, now.minusMonths(2),
                 SurfaceOpinion.BUY, 85000);
-        Report report3 = createReportWithTargetPrice(3L, analyst3, testStock, now.minusMonths(3),
+        ReportSnapshot report3 = createReportWithTargetPrice(3L, analyst3, testStock, now.minusMonths(3),
                 SurfaceOpinion.HOLD, 70000);
 
-        List<Report> allReports = List.of(report1, report2, report3);
+        List<ReportSnapshot> allReports = List.of(report1, report2, report3);
 
         given(stockRepository.findById(stockId)).willReturn(Optional.of(testStock));
-        given(reportRepository.findByStockIdAndReportDateAfterOrderByReportDateDesc(
+        given(reportRepository.findSnapshotsByStockIdAndReportDateAfter(
                 eq(stockId), any(LocalDateTime.class)))
                 .willReturn(allReports);
 
@@ -310,28 +330,76 @@ class ReportServiceTest {
         assertThat(result.getAverageTargetPrice()).isCloseTo(81666.67, org.assertj.core.data.Offset.offset(0.1));
     }
 
-    // 헬퍼 메서드: 테스트용 Report 생성
-    private Report createReport(Long id, Analyst analyst, Stock stock, LocalDateTime reportDate, SurfaceOpinion surfaceOpinion) {
-        Report report = new Report();
-        report.setId(id);
-        report.setAnalyst(analyst);
-        report.setStock(stock);
-        report.setReportDate(reportDate);
-        report.setSurfaceOpinion(surfaceOpinion);
-        report.setTargetPrice(80000); // 기본 목표가
-        return report;
+    @Test
+    @DisplayName("청크 저장 - 종목/애널리스트/중복을 집합 단위로 조회하고 신규 리포트만 저장")
+    void saveReportChunk_ShouldResolveSetWise() {
+        // given
+        LocalDate day1 = LocalDate.of(2024, 1, 2);
+        LocalDate day2 = LocalDate.of(2024, 1, 3);
+        List<ReportRequestDTO> chunk = List.of(
+                createRequest("김철수", "A증권", "005930", day1),   // DB에 이미 있음 → 중복
+                createRequest("김철수", "A증권", "005930", day2),   // 신규
+                createRequest("김철수", "A증권", "005930", day2),   // 청크 내부 중복
+                createRequest("최지훈", "D증권", "005930", day1),   // 신규 애널리스트
+                createRequest("김철수", "A증권", "999999", day1));  // 종목 없음
+
+        given(stockRepository.findByStockCodeIn(anyCollection())).willReturn(List.of(testStock));
+        given(analystRepository.findByAnalystNameIn(anyCollection())).willReturn(List.of(analyst1));
+        willAnswer(invocation -> {
+            List<Analyst> newAnalysts = invocation.getArgument(0);
+            newAnalysts.get(0).setId(4L);
+            return null;
+        }).given(jdbcBulkLoader).insertAnalysts(anyList());
+        given(reportRepository.findReportKeys(anyCollection(), anyCollection(), any(), any()))
+                .willReturn(List.<Object[]>of(new Object[]{1L, 1L, day1.atStartOfDay()}));
+
+        // when
+        ReportService.ReportChunkResult result = reportService.saveReportChunk(chunk);
+
+        // then
+        assertThat(result.savedCount()).isEqualTo(2);
+        assertThat(result.duplicateCount()).isEqualTo(2);
+        assertThat(result.stockNotFoundCount()).isEqualTo(1);
+        verify(reportRepository, times(1)).findReportKeys(anyCollection(), anyCollection(), any(), any());
+        verify(jdbcBulkLoader).insertReports(anyList());
+        // 신규 리포트가 들어간 시리즈만 prevReport 재연결
+        verify(reportPrevLinker).relinkSeries(Set.of(
+                new ReportPrevLinker.SeriesKey(1L, 1L),
+                new ReportPrevLinker.SeriesKey(4L, 1L)));
+        // 지표는 동기 계산하지 않고 애널리스트별 재계산 요청만 발행
+        verify(eventPublisher).publishEvent(new AnalystMetricsDirtyEvent(Set.of(1L, 4L)));
+        verify(eventPublisher).publishEvent(new ReportsChangedEvent(Set.of(1L), Set.of(1L, 4L)));
+        verifyNoInteractions(analystMetricsService);
+        verify(stockRepository, times(0)).findByStockCode(any());
+        verify(reportRepository, times(0)).findByAnalystIdAndStockIdAndReportDate(any(), any(), any());
+    }
+
+    // 헬퍼 메서드: 테스트용 적재 요청 생성
+    private ReportRequestDTO createRequest(String analystName, String firmName, String stockCode, LocalDate reportDate) {
+        return ReportRequestDTO.builder()
+                .analyst(ReportRequestDTO.AnalystInfo.builder()
+                        .analystName(analystName)
+                        .firmName(firmName)
+                        .build())
+                .report(ReportRequestDTO.ReportInfo.builder()
+                        .stockCode(stockCode)
+                        .reportTitle("리포트")
+                        .reportDate(reportDate)
+                        .targetPrice(80000)
+                        .surfaceOpinion(SurfaceOpinion.BUY)
+                        .hiddenOpinion(0.7)
+                        .build())
+                .build();
+    }
+
+    // 헬퍼 메서드: 테스트용 리포트 projection 생성
+    private ReportSnapshot createReport(Long id, Analyst analyst, Stock stock, LocalDateTime reportDate, SurfaceOpinion surfaceOpinion) {
+        return createReportWithTargetPrice(id, analyst, stock, reportDate, surfaceOpinion, 80000); // 기본 목표가
     }
 
-    // 헬퍼 메서드: 목표가를 지정할 수 있는 Report 생성
-    private Report createReportWithTargetPrice(Long id, Analyst analyst, Stock stock, LocalDateTime reportDate,
-                                                SurfaceOpinion surfaceOpinion, Integer targetPrice) {
-        Report report = new Report();
-        report.setId(id);
-        report.setAnalyst(analyst);
-        report.setStock(stock);
-        report.setReportDate(reportDate);
-        report.setSurfaceOpinion(surfaceOpinion);
-        report.setTargetPrice(targetPrice);
-        return report;
+    // 헬퍼 메서드: 목표가를 지정할 수 있는 리포트 projection 생성
+    private ReportSnapshot createReportWithTargetPrice(Long id, Analyst analyst, Stock stock, LocalDateTime reportDate,
+                                                        SurfaceOpinion surfaceOpinion, Integer targetPrice) {
+        return new ReportSnapshot(id, reportDate, targetPrice, null, surfaceOpinion, analyst.getId(), stock.getId());
     }
 }
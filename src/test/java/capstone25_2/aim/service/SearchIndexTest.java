@@ -0,0 +1,168 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.domain.dto.search.AnalystSearchResultDTO;
+import capstone25_2.aim.domain.dto.search.StockSearchResultDTO;
+import capstone25_2.aim.domain.dto.search.UnifiedSearchResultDTO;
+import capstone25_2.aim.domain.entity.Analyst;
+import capstone25_2.aim.domain.entity.Stock;
+import capstone25_2.aim.repository.AnalystRepository;
+import capstone25_2.aim.repository.ReportRepository;
+import capstone25_2.aim.repository.StockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchIndex 단위 테스트")
+class SearchIndexTest {
+
+    @Mock
+    private AnalystRepository analystRepository;
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private SearchTrendCounter searchTrendCounter;
+
+    @InjectMocks
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        given(analystRepository.findAll()).willReturn(List.of(
+                createAnalyst(1L, "홍길동", "삼성증권"),
+                createAnalyst(2L, "김철수", "미래에셋증권"),
+                createAnalyst(3L, "김길수", "KB증권")));
+        given(stockRepository.findAll()).willReturn(List.of(
+                createStock(10L, "005930", "삼성전자"),
+                createStock(11L, "000660", "SK하이닉스"),
+                createStock(12L, "035420", "NAVER"),
+                createStock(13L, "006400", "삼성SDI"),
+                createStock(14L, "028260", "삼성물산")));
+        given(reportRepository.countReportsGroupByStock()).willReturn(List.of(
+                new Object[]{10L, 30L},
+                new Object[]{13L, 5L},
+                new Object[]{14L, 12L}));
+        searchIndex.refresh();
+    }
+
+    @Test
+    @DisplayName("이름 부분 일치 애널리스트를 이름순으로 반환")
+    void searchAnalysts_ByName_ShouldReturnSortedByName() {
+        // when
+        List<AnalystSearchResultDTO> result = searchIndex.searchAnalysts("길");
+
+        // then
+        assertThat(result).extracting(AnalystSearchResultDTO::getAnalystName)
+                .containsExactly("김길수", "홍길동");
+    }
+
+    @Test
+    @DisplayName("증권사명으로도 애널리스트 검색")
+    void searchAnalysts_ByFirmName_ShouldMatch() {
+        // when
+        List<AnalystSearchResultDTO> result = searchIndex.searchAnalysts("미래에셋");
+
+        // then
+        assertThat(result).extracting(AnalystSearchResultDTO::getAnalystId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("글자가 모두 있어도 연속 문자열이 아니면 제외")
+    void searchAnalysts_WithScatteredBigrams_ShouldNotMatch() {
+        // "김철수", "김길수"에 "김"과 "수"는 있지만 "김수"는 연속 문자열이 아님
+        assertThat(searchIndex.searchAnalysts("김수")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("종목명은 대소문자 무시, 종목코드는 부분 일치")
+    void searchStocks_ByNameOrCode_ShouldMatch() {
+        // when
+        List<StockSearchResultDTO> byName = searchIndex.searchStocks("sk하이");
+        List<StockSearchResultDTO> byCode = searchIndex.searchStocks("0593");
+
+        // then
+        assertThat(byName).extracting(StockSearchResultDTO::getStockId).containsExactly(11L);
+        assertThat(byCode).extracting(StockSearchResultDTO::getStockId).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 빈 결과")
+    void search_WithBlankKeyword_ShouldReturnEmpty() {
+        assertThat(searchIndex.searchAnalysts(" ")).isEmpty();
+        assertThat(searchIndex.searchStocks("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("자동완성: 초성 검색은 접두사 일치 후 리포트 수 순")
+    void typeahead_WithChoseong_ShouldRankByPopularity() {
+        // when
+        UnifiedSearchResultDTO result = searchIndex.typeahead("ㅅㅅ", 10);
+
+        // then
+        assertThat(result.getStocks()).extracting(StockSearchResultDTO::getStockName)
+                .containsExactly("삼성전자", "삼성물산", "삼성SDI");
+    }
+
+    @Test
+    @DisplayName("자동완성: 입력 중인 마지막 음절도 매칭, 완전 일치가 가장 먼저")
+    void typeahead_WithPartialSyllable_ShouldMatchAndRankExactFirst() {
+        // when
+        UnifiedSearchResultDTO partial = searchIndex.typeahead("삼성무", 10);
+        UnifiedSearchResultDTO exact = searchIndex.typeahead("삼성sdi", 10);
+
+        // then
+        assertThat(partial.getStocks()).extracting(StockSearchResultDTO::getStockId).containsExactly(14L);
+        assertThat(exact.getStocks()).extracting(StockSearchResultDTO::getStockId).containsExactly(13L);
+    }
+
+    @Test
+    @DisplayName("자동완성: 접두사 일치가 부분 일치보다 먼저, limit 적용")
+    void typeahead_ShouldRankPrefixBeforeInfixAndApplyLimit() {
+        // given
+        given(searchTrendCounter.getSearchCounts()).willReturn(Map.of(1L, 100L, 3L, 1L));
+
+        // when
+        UnifiedSearchResultDTO result = searchIndex.typeahead("길", 10);
+        UnifiedSearchResultDTO limited = searchIndex.typeahead("길", 1);
+
+        // then
+        // "김길수"는 부분 일치, "홍길동"도 부분 일치 → 검색 수가 많은 홍길동 먼저
+        assertThat(result.getAnalysts()).extracting(AnalystSearchResultDTO::getAnalystId)
+                .containsExactly(1L, 3L);
+        assertThat(limited.getAnalysts()).hasSize(1);
+        verify(searchTrendCounter, times(2)).getSearchCounts();  // 후보 수와 관계없이 요청당 한 번
+    }
+
+    private Analyst createAnalyst(Long id, String name, String firm) {
+        Analyst analyst = new Analyst();
+        analyst.setId(id);
+        analyst.setAnalystName(name);
+        analyst.setFirmName(firm);
+        return analyst;
+    }
+
+    private Stock createStock(Long id, String code, String name) {
+        Stock stock = new Stock();
+        stock.setId(id);
+        stock.setStockCode(code);
+        stock.setStockName(name);
+        return stock;
+    }
+}
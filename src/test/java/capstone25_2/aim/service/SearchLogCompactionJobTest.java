@@ -0,0 +1,89 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.repository.SearchCountDailyRepository;
+import capstone25_2.aim.repository.SearchLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchLogCompactionJob 단위 테스트")
+class SearchLogCompactionJobTest {
+
+    @Mock
+    private SearchLogRepository searchLogRepository;
+
+    @Mock
+    private SearchCountDailyRepository searchCountDailyRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private SearchLogCompactionJob compactionJob;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(compactionJob, "retentionDays", 2);
+        ReflectionTestUtils.setField(compactionJob, "batchSize", 100);
+        ReflectionTestUtils.setField(compactionJob, "rollupRetentionDays", 400);
+
+        // 트랜잭션 콜백을 그대로 실행
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("압축할 로그가 없을 때까지 배치 단위로 롤업 후 삭제")
+    void compact_ShouldRollUpAndDeleteInBatches() {
+        // given
+        given(searchLogRepository.findMaxIdOfOldestBatch(any(LocalDateTime.class), eq(100)))
+                .willReturn(100L, 150L, null);
+        given(searchLogRepository.deleteRolledUp(any(LocalDateTime.class), eq(100L))).willReturn(100);
+        given(searchLogRepository.deleteRolledUp(any(LocalDateTime.class), eq(150L))).willReturn(50);
+        given(searchCountDailyRepository.deleteOlderThan(any(LocalDate.class), anyInt())).willReturn(0);
+
+        // when
+        compactionJob.compact();
+
+        // then
+        verify(searchCountDailyRepository).rollUpSearchLogs(any(LocalDateTime.class), eq(100L));
+        verify(searchCountDailyRepository).rollUpSearchLogs(any(LocalDateTime.class), eq(150L));
+        verify(searchLogRepository, times(3)).findMaxIdOfOldestBatch(any(LocalDateTime.class), eq(100));
+    }
+
+    @Test
+    @DisplayName("압축할 로그가 없으면 롤업/삭제하지 않음")
+    void compactBatch_WithNoLogs_ShouldNotRollUp() {
+        // given
+        LocalDateTime cutoff = LocalDate.now().minusDays(2).atStartOfDay();
+        given(searchLogRepository.findMaxIdOfOldestBatch(cutoff, 100)).willReturn(null);
+
+        // when
+        int deleted = compactionJob.compactBatch(cutoff);
+
+        // then
+        assertThat(deleted).isZero();
+        verify(searchCountDailyRepository, never()).rollUpSearchLogs(any(), any());
+        verify(searchLogRepository, never()).deleteRolledUp(any(), any());
+    }
+}
@@ -0,0 +1,228 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.domain.event.ReferenceDataChangedEvent;
+import capstone25_2.aim.repository.AnalystRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchLogWriteBuffer 단위 테스트")
+class SearchLogWriteBufferTest {
+
+    private static final LocalDateTime SEARCHED_AT = LocalDateTime.of(2024, 3, 4, 9, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private AnalystRepository analystRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private SearchLogWriteBuffer buffer;
+
+    // INSERT 한 번에 저장된 애널리스트 ID 목록
+    private final List<List<Long>> insertedBatches = new CopyOnWriteArrayList<>();
+    private volatile int failuresLeft;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(buffer, "batchSize", 3);
+        ReflectionTestUtils.setField(buffer, "flushIntervalMs", 60_000L);
+        ReflectionTestUtils.setField(buffer, "maxPending", 100);
+        ReflectionTestUtils.setField(buffer, "maxAttempts", 3);
+
+        willAnswer(invocation -> {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new DataAccessResourceFailureException("DB 연결 실패");
+            }
+            Object[] args = (Object[]) invocation.getRawArguments()[1];
+            List<Long> analystIds = new ArrayList<>();
+            for (int i = 0; i < args.length; i += 2) {
+                analystIds.add((Long) args[i]);
+            }
+            insertedBatches.add(analystIds);
+            return analystIds.size();
+        }).given(jdbcTemplate).update(startsWith("INSERT INTO search_log"), any(Object[].class));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        buffer.shutdown();
+    }
+
+    @Test
+    @DisplayName("batchSize만큼 쌓이면 주기를 기다리지 않고 저장")
+    void enqueue_WhenBatchSizeReached_ShouldFlush() {
+        // given
+        buffer.start();
+
+        // when
+        buffer.enqueue(1L, SEARCHED_AT);
+        buffer.enqueue(2L, SEARCHED_AT);
+        buffer.enqueue(3L, SEARCHED_AT);
+
+        // then
+        verify(jdbcTemplate, timeout(2_000)).update(startsWith("INSERT INTO search_log"), any(Object[].class));
+        assertThat(insertedBatches).containsExactly(List.of(1L, 2L, 3L));
+        assertThat(buffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("batchSize보다 적어도 flushInterval이 지나면 저장")
+    void enqueue_WhenIntervalElapsed_ShouldFlush() {
+        // given
+        ReflectionTestUtils.setField(buffer, "flushIntervalMs", 50L);
+        buffer.start();
+
+        // when
+        buffer.enqueue(1L, SEARCHED_AT);
+
+        // then
+        verify(jdbcTemplate, timeout(2_000)).update(startsWith("INSERT INTO search_log"), any(Object[].class));
+        assertThat(insertedBatches).containsExactly(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("저장 실패한 배치는 큐 앞쪽에 순서대로 되돌려 다음 flush에 저장")
+    void flush_WhenInsertFails_ShouldRequeueInOrder() {
+        // given
+        buffer.start();
+        buffer.enqueue(1L, SEARCHED_AT);
+        buffer.enqueue(2L, SEARCHED_AT);
+        failuresLeft = 1;
+
+        // when & then
+        assertThatThrownBy(() -> buffer.flush()).isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(buffer.getPendingCount()).isEqualTo(2);
+
+        assertThat(buffer.flush()).isEqualTo(2);
+        assertThat(insertedBatches).containsExactly(List.of(1L, 2L));
+        assertThat(buffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("max-attempts번 실패한 로그는 버리고 retry_exhausted로 기록")
+    void flush_WhenRetriesExhausted_ShouldDropBatch() {
+        // given
+        buffer.start();
+        buffer.enqueue(1L, SEARCHED_AT);
+        buffer.enqueue(2L, SEARCHED_AT);
+        failuresLeft = 3;
+
+        // when
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertThatThrownBy(() -> buffer.flush()).isInstanceOf(DataAccessResourceFailureException.class);
+        }
+
+        // then
+        assertThat(buffer.getPendingCount()).isZero();
+        assertThat(buffer.flush()).isZero();
+        assertThat(meterRegistry.counter("aim.search-log.dropped", "reason", "retry_exhausted").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("대기 로그가 max-pending에 도달하면 새 로그를 버리고 overflow로 기록")
+    void enqueue_WhenFull_ShouldDropNewLogs() {
+        // given
+        ReflectionTestUtils.setField(buffer, "maxPending", 2);
+        ReflectionTestUtils.setField(buffer, "batchSize", 10);
+        buffer.start();
+
+        // when
+        buffer.enqueue(1L, SEARCHED_AT);
+        buffer.enqueue(2L, SEARCHED_AT);
+        buffer.enqueue(3L, SEARCHED_AT);
+
+        // then
+        assertThat(buffer.getPendingCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("aim.search-log.dropped", "reason", "overflow").count()).isEqualTo(1.0);
+        assertThat(buffer.flush()).isEqualTo(2);
+        assertThat(insertedBatches).containsExactly(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("서버 종료 시 남은 로그를 모두 저장")
+    void shutdown_ShouldDrainRemainingLogs() throws InterruptedException {
+        // given
+        buffer.start();
+        buffer.enqueue(1L, SEARCHED_AT);
+        buffer.enqueue(2L, SEARCHED_AT);
+
+        // when
+        buffer.shutdown();
+
+        // then
+        assertThat(insertedBatches).containsExactly(List.of(1L, 2L));
+        assertThat(buffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 애널리스트 ID는 DB 조회 없이 메모리 집합으로 거절, 애널리스트 생성 후에는 다시 적재")
+    void isKnownAnalyst_ShouldUseLoadedIdsWithoutDbLookup() {
+        // given
+        given(analystRepository.findAllIds()).willReturn(List.of(1L, 2L), List.of(1L, 2L, 3L));
+        buffer.start();
+        buffer.loadAnalystIds();
+
+        // when & then
+        assertThat(buffer.isKnownAnalyst(1L)).isTrue();
+        assertThat(buffer.isKnownAnalyst(3L)).isFalse();
+        assertThat(buffer.isKnownAnalyst(999L)).isFalse();
+        verify(analystRepository, never()).existsById(anyLong());
+
+        // 리포트 적재 중 애널리스트 3 생성
+        buffer.onReferenceDataChanged(new ReferenceDataChangedEvent("analyst-created"));
+        assertThat(buffer.isKnownAnalyst(3L)).isTrue();
+        buffer.enqueue(3L, SEARCHED_AT);
+        assertThat(buffer.flush()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료 후 batchSize에 도달해도 요청은 실패하지 않고 로그는 큐에 남음")
+    void enqueue_AfterShutdown_ShouldKeepLogQueued() throws InterruptedException {
+        // given
+        buffer.start();
+        buffer.shutdown();
+
+        // when
+        buffer.enqueue(1L, SEARCHED_AT);
+        buffer.enqueue(2L, SEARCHED_AT);
+        buffer.enqueue(3L, SEARCHED_AT);
+
+        // then
+        assertThat(buffer.getPendingCount()).isEqualTo(3);
+        assertThat(insertedBatches).isEmpty();
+    }
+}
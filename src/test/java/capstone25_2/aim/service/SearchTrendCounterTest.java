@@ -0,0 +1,126 @@
+package capstone25_2.aim.service;
+
+import capstone25_2.aim.repository.SearchCountDailyRepository;
+import capstone25_2.aim.repository.SearchLogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchTrendCounter 단위 테스트")
+class SearchTrendCounterTest {
+
+    @Mock
+    private SearchLogRepository searchLogRepository;
+
+    @Mock
+    private SearchCountDailyRepository searchCountDailyRepository;
+
+    @InjectMocks
+    private SearchTrendCounter searchTrendCounter;
+
+    @Test
+    @DisplayName("검색 횟수 내림차순으로 TOP K 반환")
+    void getTopAnalysts_ShouldReturnSortedByCount() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 12, 1, 12, 0);
+        searchTrendCounter.record(1L, now.minusHours(1));
+        searchTrendCounter.record(2L, now.minusHours(2));
+        searchTrendCounter.record(2L, now.minusHours(3));
+        searchTrendCounter.record(3L, now.minusDays(1));
+        searchTrendCounter.record(3L, now.minusDays(2));
+        searchTrendCounter.record(3L, now.minusDays(3));
+
+        // when
+        List<SearchTrendCounter.TrendEntry> result = searchTrendCounter.getTopAnalysts(2, now);
+
+        // then
+        assertThat(result).containsExactly(
+                new SearchTrendCounter.TrendEntry(3L, 3),
+                new SearchTrendCounter.TrendEntry(2L, 2));
+    }
+
+    @Test
+    @DisplayName("7일이 지난 검색 기록은 누적값에서 제외")
+    void getTopAnalysts_ShouldExpireOldBuckets() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2025, 12, 1, 0, 0);
+        searchTrendCounter.record(1L, base);
+        searchTrendCounter.record(1L, base);
+        searchTrendCounter.record(2L, base.plusDays(3));
+
+        // when
+        List<SearchTrendCounter.TrendEntry> result = searchTrendCounter.getTopAnalysts(3, base.plusDays(7));
+
+        // then
+        assertThat(result).containsExactly(new SearchTrendCounter.TrendEntry(2L, 1));
+    }
+
+    @Test
+    @DisplayName("윈도우보다 오래된 기록은 무시")
+    void record_WithTooOldTime_ShouldBeIgnored() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 12, 1, 12, 0);
+        searchTrendCounter.record(1L, now);
+        searchTrendCounter.record(2L, now.minusDays(8));
+
+        // when
+        List<SearchTrendCounter.TrendEntry> result = searchTrendCounter.getTopAnalysts(3, now);
+
+        // then
+        assertThat(result).containsExactly(new SearchTrendCounter.TrendEntry(1L, 1));
+    }
+
+    @Test
+    @DisplayName("서버 시작 시 search_log로 카운터 재구성")
+    void rebuild_ShouldLoadRecentLogs() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(searchLogRepository.findAnalystSearchTimesSince(any(LocalDateTime.class)))
+                .willReturn(List.of(
+                        new Object[]{1L, now.minusHours(5)},
+                        new Object[]{1L, now.minusDays(2)},
+                        new Object[]{2L, now.minusDays(1)}));
+
+        // when
+        searchTrendCounter.rebuild();
+
+        // then
+        assertThat(searchTrendCounter.getTopAnalysts(3)).containsExactly(
+                new SearchTrendCounter.TrendEntry(1L, 2),
+                new SearchTrendCounter.TrendEntry(2L, 1));
+        assertThat(searchTrendCounter.getSearchCount(2L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("서버 시작 시 일간 집계와 원본 로그를 합산하여 재구성")
+    void rebuild_ShouldCombineDailyCountsAndLogs() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(searchCountDailyRepository.findDailyCountsSince(any(LocalDate.class)))
+                .willReturn(List.of(
+                        new Object[]{1L, now.minusDays(4).toLocalDate(), 5L},
+                        new Object[]{2L, now.minusDays(3).toLocalDate(), 2L}));
+        given(searchLogRepository.findAnalystSearchTimesSince(any(LocalDateTime.class)))
+                .willReturn(List.<Object[]>of(new Object[]{2L, now.minusHours(1)}));
+
+        // when
+        searchTrendCounter.rebuild();
+
+        // then
+        assertThat(searchTrendCounter.getTopAnalysts(3)).containsExactly(
+                new SearchTrendCounter.TrendEntry(1L, 5),
+                new SearchTrendCounter.TrendEntry(2L, 3));
+    }
+}
@@ -0,0 +1,239 @@
+package capstone25_2.aim.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동시 요청 합치기 테스트
+ *
+ * 집계 메서드 대신 래치에서 멈추는 가짜 서비스를 프록시로 감싸,
+ * 첫 호출이 실행 중일 때 들어온 호출이 실행 없이 결과를 공유하는지 확인한다.
+ */
+@DisplayName("SingleFlightAspect 테스트")
+class SingleFlightAspectTest {
+
+    private static final int FOLLOWERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataVersion dataVersion;
+    private SingleFlightAspect aspect;
+    private SlowAggregator target;
+    private SlowAggregator proxy;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataVersion = new DataVersion();
+        aspect = new SingleFlightAspect(meterRegistry, dataVersion);
+        ReflectionTestUtils.setField(aspect, "maxStaleMs", 60_000L);
+        ReflectionTestUtils.setField(aspect, "waitTimeoutMs", 5_000L);
+
+        target = new SlowAggregator();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        proxy = factory.getProxy();
+
+        executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        target.release();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("실행 중에 들어온 같은 키 호출은 한 번의 계산 결과를 공유")
+    void concurrentCalls_ShouldShareOneComputation() throws Exception {
+        // given - 첫 호출이 계산 도중 멈춰 있음
+        Future<String> leader = executor.submit(() -> proxy.aggregate("home"));
+        target.awaitStarted();
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> proxy.aggregate("home")));
+        }
+        awaitCount("shared", FOLLOWERS);
+
+        // when
+        target.release();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("home#1");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("home#1");
+        }
+        assertThat(target.invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("stale-while-revalidate - 다시 계산하는 동안 들어온 호출은 기다리지 않고 직전 결과를 받음")
+    void whileRevalidating_ShouldServeLastResult() throws Exception {
+        // given - 첫 계산 완료
+        target.release();
+        assertThat(proxy.aggregateWithStale("ranking")).isEqualTo("ranking#1");
+        target.block();
+
+        // when - 두 번째 계산이 멈춰 있는 동안 호출
+        Future<String> revalidating = executor.submit(() -> proxy.aggregateWithStale("ranking"));
+        target.awaitStarted();
+        String served = proxy.aggregateWithStale("ranking");
+
+        // then
+        assertThat(served).isEqualTo("ranking#1");
+        assertThat(meterRegistry.counter("aim.singleflight.calls",
+                "method", "SlowAggregator.aggregateWithStale", "outcome", "stale").count()).isEqualTo(1);
+
+        target.release();
+        assertThat(revalidating.get(5, TimeUnit.SECONDS)).isEqualTo("ranking#2");
+    }
+
+    @Test
+    @DisplayName("계산이 실패하면 기다리던 호출도 같은 예외를 받고, 다음 호출은 새로 실행")
+    void failedComputation_ShouldPropagateToWaitingCalls() throws Exception {
+        // given
+        target.failNext = true;
+        Future<String> leader = executor.submit(() -> proxy.aggregate("sectors"));
+        target.awaitStarted();
+        Future<String> follower = executor.submit(() -> proxy.aggregate("sectors"));
+        awaitCount("shared", 1);
+
+        // when
+        target.release();
+
+        // then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(proxy.aggregate("sectors")).isEqualTo("sectors#2");
+    }
+
+    @Test
+    @DisplayName("진행 중인 계산을 wait-timeout-ms 넘게 기다리면 직접 실행하고 timeout으로 기록")
+    void slowComputation_ShouldStopWaitingAfterTimeout() throws Exception {
+        // given
+        ReflectionTestUtils.setField(aspect, "waitTimeoutMs", 50L);
+        Future<String> leader = executor.submit(() -> proxy.aggregate("home"));
+        target.awaitStarted();
+
+        // when - 기다리던 호출이 시간 초과 후 직접 실행
+        Future<String> follower = executor.submit(() -> proxy.aggregate("home"));
+        awaitCount("timeout", 1);
+        target.release();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("home#1");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("home#2");
+        assertThat(target.invocations.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("aim.singleflight.calls",
+                "method", "SlowAggregator.aggregate", "outcome", "timeout").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("계산 시작 후 데이터 버전이 오르면 그 결과를 공유받은 요청은 STALE 표시 (ETag 미부착)")
+    void sharedResultFromOlderVersion_ShouldMarkResponseStale() throws Exception {
+        // given - 첫 호출이 버전 0에서 계산 도중 멈춰 있고, 같은 버전의 호출이 합류
+        Future<String> leader = executor.submit(() -> proxy.aggregate("stocks"));
+        target.awaitStarted();
+        Future<Boolean> sameVersion = executor.submit(() -> isStaleResponse(() -> proxy.aggregate("stocks")));
+        awaitCount("shared", 1);
+
+        // when - 쓰기 커밋 후 들어온 호출이 같은 계산에 합류
+        dataVersion.bump();
+        Future<Boolean> newerVersion = executor.submit(() -> isStaleResponse(() -> proxy.aggregate("stocks")));
+        awaitCount("shared", 2);
+        target.release();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("stocks#1");
+        assertThat(sameVersion.get(5, TimeUnit.SECONDS)).isFalse();
+        assertThat(newerVersion.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(target.invocations.get()).isEqualTo(1);
+    }
+
+    // 웹 요청 안에서 호출하고 STALE 표시가 남았는지 반환
+    private static boolean isStaleResponse(Callable<String> call) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            call.call();
+            return request.getAttribute(SingleFlightAspect.STALE_RESPONSE_ATTRIBUTE) != null;
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private void awaitCount(String outcome, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.find("aim.singleflight.calls").tag("outcome", outcome).counters().stream()
+                .mapToDouble(counter -> counter.count()).sum() < expected) {
+            assertThat(System.currentTimeMillis()).as("%s 호출 %d건 대기", outcome, expected).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    // release() 전까지 계산 도중 멈추는 가짜 집계 서비스
+    static class SlowAggregator {
+
+        final AtomicInteger invocations = new AtomicInteger();
+        volatile boolean failNext;
+        private volatile CountDownLatch started = new CountDownLatch(1);
+        private volatile CountDownLatch gate = new CountDownLatch(1);
+
+        @SingleFlight
+        public String aggregate(String key) throws InterruptedException {
+            return compute(key);
+        }
+
+        @SingleFlight(staleWhileRevalidate = true)
+        public String aggregateWithStale(String key) throws InterruptedException {
+            return compute(key);
+        }
+
+        private String compute(String key) throws InterruptedException {
+            int invocation = invocations.incrementAndGet();
+            started.countDown();
+            gate.await(5, TimeUnit.SECONDS);
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("집계 실패");
+            }
+            return key + "#" + invocation;
+        }
+
+        void awaitStarted() throws InterruptedException {
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        void block() {
+            started = new CountDownLatch(1);
+            gate = new CountDownLatch(1);
+        }
+    }
+}